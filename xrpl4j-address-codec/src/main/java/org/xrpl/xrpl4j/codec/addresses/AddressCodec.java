@@ -22,14 +22,20 @@ package org.xrpl.xrpl4j.codec.addresses;
 
 import static java.util.Arrays.copyOfRange;
 
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.XAddress;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
@@ -37,12 +43,47 @@ import java.util.Optional;
 @SuppressWarnings( {"OptionalUsedAsFieldOrParameterType", "ParameterName", "MethodName"})
 public class AddressCodec {
 
-  private static final AddressCodec INSTANCE = new AddressCodec();
+  /**
+   * System property that, if set to a {@link CaffeineSpec} (e.g. {@code maximumSize=10000}), makes
+   * {@link #getInstance()} return a {@link CachingAddressCodec} configured with that spec.
+   */
+  public static final String CACHE_SPEC_PROPERTY = "xrpl4j.addressCodec.cacheSpec";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AddressCodec.class);
+
+  private static final AddressCodec INSTANCE = createInstance(System.getProperty(CACHE_SPEC_PROPERTY));
 
+  private static final byte[] ACCOUNT_ID_VERSION = Version.ACCOUNT_ID.getValuesAsBytes();
+
+  /**
+   * Get the shared {@link AddressCodec}. This is a {@link CachingAddressCodec} if the {@value #CACHE_SPEC_PROPERTY}
+   * system property was set to a valid spec when this class was loaded, and a plain {@link AddressCodec} otherwise.
+   *
+   * @return The shared {@link AddressCodec}.
+   */
   public static AddressCodec getInstance() {
     return INSTANCE;
   }
 
+  /**
+   * Create the shared instance returned by {@link #getInstance()}.
+   *
+   * @param cacheSpec A {@link CaffeineSpec} string, or {@code null} to disable caching.
+   *
+   * @return A new {@link AddressCodec}, which does not cache if {@code cacheSpec} is not a valid {@link CaffeineSpec}.
+   */
+  static AddressCodec createInstance(final String cacheSpec) {
+    if (cacheSpec == null || cacheSpec.trim().isEmpty()) {
+      return new AddressCodec();
+    }
+    try {
+      return new CachingAddressCodec(CaffeineSpec.parse(cacheSpec.trim()));
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Ignoring invalid {} \"{}\"; addresses will not be cached.", CACHE_SPEC_PROPERTY, cacheSpec, e);
+      return new AddressCodec();
+    }
+  }
+
   /**
    * Decodes a Base58Check encoded XRPL secret key seed value. Works for ed25519 and secp256k1 seeds.
    *
@@ -74,7 +115,7 @@ public class AddressCodec {
     Objects.requireNonNull(entropy);
     Objects.requireNonNull(type);
 
-    if (entropy.getUnsignedBytes().size() != 16) {
+    if (entropy.length() != 16) {
       throw new EncodeException("entropy must have length 16.");
     }
 
@@ -97,6 +138,30 @@ public class AddressCodec {
     );
   }
 
+  /**
+   * Encode the remaining 20 bytes of {@code accountId}, an XRPL AccountID, into {@code output} as a Base58Check
+   * encoded classic address, advancing the position of both buffers. Unlike
+   * {@link #encodeAccountId(UnsignedByteArray)}, this creates no {@link String} or {@link Address}, which allows many
+   * AccountIDs to be written to a single buffer.
+   *
+   * @param accountId A {@link ByteBuffer} with exactly 20 bytes remaining.
+   * @param output    A {@link CharBuffer} to write the classic address to.
+   *
+   * @return The number of characters written to {@code output}.
+   *
+   * @throws BufferOverflowException if {@code output} does not have room for the address, in which case neither
+   *                                 buffer is modified.
+   */
+  public int encodeAccountId(final ByteBuffer accountId, final CharBuffer output) {
+    Objects.requireNonNull(accountId);
+    Objects.requireNonNull(output);
+
+    if (accountId.remaining() != 20) {
+      throw new EncodeException("Length of bytes does not match expectedLength.");
+    }
+    return Base58.encodeChecked(ACCOUNT_ID_VERSION, accountId, output);
+  }
+
   /**
    * Decode a Base58Check encoded XRPL AccountID.
    *
@@ -253,7 +318,7 @@ public class AddressCodec {
     Objects.requireNonNull(accountId);
     Objects.requireNonNull(tag);
 
-    if (accountId.getUnsignedBytes().size() != 20) {
+    if (accountId.length() != 20) {
       throw new EncodeException("AccountID must be 20 bytes.");
     }
 
@@ -397,7 +462,7 @@ public class AddressCodec {
     return true;
   }
 
-  private static final class PrefixBytes {
+  static final class PrefixBytes {
     static byte[] MAIN = new byte[] {0x05, 0x44};
     static byte[] TEST = new byte[] {0x04, (byte) 0x93};
   }
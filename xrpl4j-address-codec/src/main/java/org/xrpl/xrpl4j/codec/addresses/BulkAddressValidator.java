@@ -0,0 +1,267 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.XAddress;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates large batches of classic addresses or X-Addresses in parallel.
+ *
+ * <p>The result of each method is a {@link BitSet} in which bit {@code i} is set if and only if the {@code i}th input
+ * is valid according to {@link AddressCodec#isValidClassicAddress(Address)} or
+ * {@link AddressCodec#isValidXAddress(XAddress)}. Inputs are split into batches that are validated on a
+ * {@link ForkJoinPool}. Each batch reuses one set of scratch buffers for every address in it, rejects inputs that
+ * cannot possibly be valid before doing any Base58 work, and never throws for invalid inputs.</p>
+ */
+public class BulkAddressValidator {
+
+  /**
+   * The number of addresses validated by one task. This is a multiple of 64, so that no two tasks write to the same
+   * {@code long} of the result.
+   */
+  private static final int BATCH_SIZE = 1024;
+
+  /**
+   * A classic address is a 25 byte value, which never needs more than 35 Base58 characters.
+   */
+  private static final int MAX_CLASSIC_ADDRESS_LENGTH = 35;
+
+  /**
+   * A version byte, a 20 byte AccountID and a 4 byte checksum.
+   */
+  private static final int CLASSIC_ADDRESS_BYTES = 25;
+
+  private static final byte ACCOUNT_ID_VERSION = Version.ACCOUNT_ID.getValuesAsBytes()[0];
+
+  /**
+   * An X-Address decodes to at least 27 bytes with a non-zero first byte, which needs at least 36 Base58 characters.
+   */
+  private static final int MIN_X_ADDRESS_LENGTH = 36;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * No-args Constructor that uses {@link ForkJoinPool#commonPool()}.
+   */
+  public BulkAddressValidator() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param pool The {@link ForkJoinPool} to validate addresses on.
+   */
+  public BulkAddressValidator(final ForkJoinPool pool) {
+    this.pool = Objects.requireNonNull(pool);
+  }
+
+  /**
+   * Validates a {@link Collection} of classic addresses.
+   *
+   * @param addresses The {@link Address}es to validate.
+   *
+   * @return A {@link BitSet} in which bit {@code i} is set if the {@code i}th address (in iteration order) is valid.
+   */
+  public BitSet validateClassicAddresses(final Collection<Address> addresses) {
+    Objects.requireNonNull(addresses);
+    return validate(addresses.stream().map(Address::value).collect(Collectors.toList()), false);
+  }
+
+  /**
+   * Validates a {@link Stream} of classic addresses. {@code null} elements are considered invalid.
+   *
+   * @param addresses The addresses to validate.
+   *
+   * @return A {@link BitSet} in which bit {@code i} is set if the {@code i}th address is valid.
+   */
+  public BitSet validateClassicAddresses(final Stream<String> addresses) {
+    Objects.requireNonNull(addresses);
+    return validate(addresses.collect(Collectors.toCollection(ArrayList::new)), false);
+  }
+
+  /**
+   * Validates a {@link Collection} of X-Addresses.
+   *
+   * @param addresses The {@link XAddress}es to validate.
+   *
+   * @return A {@link BitSet} in which bit {@code i} is set if the {@code i}th address (in iteration order) is valid.
+   */
+  public BitSet validateXAddresses(final Collection<XAddress> addresses) {
+    Objects.requireNonNull(addresses);
+    return validate(addresses.stream().map(XAddress::value).collect(Collectors.toList()), true);
+  }
+
+  /**
+   * Validates a {@link Stream} of X-Addresses. {@code null} elements are considered invalid.
+   *
+   * @param addresses The X-Addresses to validate.
+   *
+   * @return A {@link BitSet} in which bit {@code i} is set if the {@code i}th address is valid.
+   */
+  public BitSet validateXAddresses(final Stream<String> addresses) {
+    Objects.requireNonNull(addresses);
+    return validate(addresses.collect(Collectors.toCollection(ArrayList::new)), true);
+  }
+
+  private BitSet validate(final List<String> addresses, final boolean forXAddresses) {
+    long[] words = new long[(addresses.size() + 63) / 64];
+    ValidateTask task = new ValidateTask(addresses, forXAddresses, words, 0, addresses.size());
+    if (addresses.size() <= BATCH_SIZE) {
+      task.compute();
+    } else {
+      pool.invoke(task);
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Validates the addresses in a range of a {@link List}, splitting the range until it is at most
+   * {@link #BATCH_SIZE}.
+   */
+  private static final class ValidateTask extends RecursiveAction {
+
+    private final List<String> addresses;
+    private final boolean forXAddresses;
+    private final long[] words;
+    private final int from;
+    private final int to;
+
+    private ValidateTask(List<String> addresses, boolean forXAddresses, long[] words, int from, int to) {
+      this.addresses = addresses;
+      this.forXAddresses = forXAddresses;
+      this.words = words;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > BATCH_SIZE) {
+        // Split on a multiple of 64 so that each half writes to its own words.
+        int middle = from + (((to - from) / 2) & ~63);
+        invokeAll(
+          new ValidateTask(addresses, forXAddresses, words, from, middle),
+          new ValidateTask(addresses, forXAddresses, words, middle, to)
+        );
+        return;
+      }
+
+      Scratch scratch = new Scratch();
+      for (int i = from; i < to; i++) {
+        String address = addresses.get(i);
+        boolean valid = forXAddresses ? scratch.isValidXAddress(address) : scratch.isValidClassicAddress(address);
+        if (valid) {
+          words[i >>> 6] |= 1L << i;
+        }
+      }
+    }
+  }
+
+  /**
+   * Buffers that are reused to validate every address in a batch.
+   */
+  private static final class Scratch {
+
+    private final byte[] digest = new byte[32];
+    private int[] limbs = new int[0];
+    private byte[] bytes = new byte[0];
+
+    boolean isValidClassicAddress(String address) {
+      if (address == null || address.isEmpty() || address.length() > MAX_CLASSIC_ADDRESS_LENGTH ||
+        address.charAt(0) != Base58.ALPHABET[0]) {
+        return false;
+      }
+      int length = decode(address);
+      return length == CLASSIC_ADDRESS_BYTES &&
+        bytes[0] == ACCOUNT_ID_VERSION &&
+        checksumMatches(length);
+    }
+
+    boolean isValidXAddress(String candidate) {
+      if (candidate == null || candidate.length() < MIN_X_ADDRESS_LENGTH || candidate.charAt(0) == Base58.ALPHABET[0]) {
+        return false;
+      }
+      int length = decode(candidate);
+      if (length < 0 || !checksumMatches(length)) {
+        return false;
+      }
+      // Mirrors AddressCodec.decodeXAddress, which requires the flag byte at index 22 to be present, a tag when the
+      // flag is 1, and that any of the 8 tag bytes that are present be zero when the flag is 0.
+      int payloadLength = length - 4;
+      if (payloadLength < 23) {
+        return false;
+      }
+      if (!hasPrefix(AddressCodec.PrefixBytes.MAIN) && !hasPrefix(AddressCodec.PrefixBytes.TEST)) {
+        return false;
+      }
+      if (bytes[22] == 1) {
+        return payloadLength >= 27;
+      } else if (bytes[22] == 0) {
+        for (int i = 23; i < Math.min(31, payloadLength); i++) {
+          if (bytes[i] != 0) {
+            return false;
+          }
+        }
+        return true;
+      } else {
+        return false;
+      }
+    }
+
+    private boolean hasPrefix(byte[] prefix) {
+      return bytes[0] == prefix[0] && bytes[1] == prefix[1];
+    }
+
+    private int decode(String value) {
+      int limbCount = Base58.maxLimbCount(value.length());
+      if (limbs.length < limbCount) {
+        limbs = new int[limbCount];
+        bytes = new byte[Math.max(value.length() + limbCount * 4, CLASSIC_ADDRESS_BYTES)];
+      }
+      return Base58.decode(value, limbs, bytes);
+    }
+
+    private boolean checksumMatches(int length) {
+      if (length < 4) {
+        return false;
+      }
+      Utils.doubleDigest(bytes, 0, length - 4, digest);
+      for (int i = 0; i < 4; i++) {
+        if (digest[i] != bytes[length - 4 + i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
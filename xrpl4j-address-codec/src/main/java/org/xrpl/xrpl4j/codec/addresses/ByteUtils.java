@@ -20,18 +20,44 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
-import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.primitives.UnsignedLong;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 public class ByteUtils {
 
+  /**
+   * Upper-case hex digits, indexed by nibble value.
+   */
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * Nibble values indexed by ASCII character, or -1 if the character is not a hex digit.
+   */
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  static {
+    for (int i = 0; i < HEX_VALUES.length; i++) {
+      HEX_VALUES[i] = -1;
+    }
+    for (int i = 0; i < 10; i++) {
+      HEX_VALUES['0' + i] = (byte) i;
+    }
+    for (int i = 0; i < 6; i++) {
+      HEX_VALUES['A' + i] = (byte) (10 + i);
+      HEX_VALUES['a' + i] = (byte) (10 + i);
+    }
+  }
+
   /**
    * Converts an int to a byte array of the expected size, left padded with 0 bytes.
    *
@@ -84,14 +110,183 @@ public class ByteUtils {
    * @return A {@link List} of {@link UnsignedByte}s containing the parsed hex.
    */
   public static List<UnsignedByte> parse(String hex) {
-    String padded = padded(hex);
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < padded.length(); i += 2) {
-      result.add(UnsignedByte.of(padded.substring(i, i + 2)));
+    byte[] bytes = fromHex(hex);
+    List<UnsignedByte> result = new ArrayList<>(bytes.length);
+    for (byte value : bytes) {
+      result.add(UnsignedByte.of(value));
     }
     return result;
   }
 
+  /**
+   * Decodes a hexadecimal {@link CharSequence} (upper or lower case) to a byte array. If {@code hex} has an odd number
+   * of characters, it is treated as if it had a leading '0'.
+   *
+   * @param hex A hexadecimal {@link CharSequence} to decode.
+   *
+   * @return The decoded bytes.
+   *
+   * @throws NumberFormatException if {@code hex} contains a character that is not a hex digit.
+   */
+  public static byte[] fromHex(CharSequence hex) {
+    Objects.requireNonNull(hex);
+    byte[] result = new byte[(hex.length() + 1) / 2];
+    fromHex(hex, 0, hex.length(), result, 0);
+    return result;
+  }
+
+  /**
+   * Decodes the hexadecimal characters of {@code hex} between {@code start} (inclusive) and {@code end} (exclusive)
+   * into {@code dest}, starting at {@code destOffset}. If the range has an odd number of characters, it is treated as
+   * if it had a leading '0'.
+   *
+   * @param hex        A hexadecimal {@link CharSequence} to decode.
+   * @param start      The index of the first character to decode.
+   * @param end        The index after the last character to decode.
+   * @param dest       The array to write decoded bytes to.
+   * @param destOffset The index in {@code dest} of the first decoded byte.
+   *
+   * @return The number of bytes written to {@code dest}.
+   *
+   * @throws NumberFormatException if the range contains a character that is not a hex digit.
+   */
+  public static int fromHex(CharSequence hex, int start, int end, byte[] dest, int destOffset) {
+    int charIndex = start;
+    int byteIndex = destOffset;
+    if (((end - start) & 1) == 1) {
+      dest[byteIndex++] = (byte) nibble(hex.charAt(charIndex++));
+    }
+    while (charIndex < end) {
+      dest[byteIndex++] = (byte) ((nibble(hex.charAt(charIndex)) << 4) | nibble(hex.charAt(charIndex + 1)));
+      charIndex += 2;
+    }
+    return byteIndex - destOffset;
+  }
+
+  /**
+   * Decodes {@code length} hexadecimal characters of {@code hex}, starting at {@code offset}, into {@code dest},
+   * starting at {@code destOffset}. If {@code length} is odd, the range is treated as if it had a leading '0'.
+   *
+   * @param hex        A hexadecimal char array to decode.
+   * @param offset     The index of the first character to decode.
+   * @param length     The number of characters to decode.
+   * @param dest       The array to write decoded bytes to.
+   * @param destOffset The index in {@code dest} of the first decoded byte.
+   *
+   * @return The number of bytes written to {@code dest}.
+   *
+   * @throws NumberFormatException if the range contains a character that is not a hex digit.
+   */
+  public static int fromHex(char[] hex, int offset, int length, byte[] dest, int destOffset) {
+    int end = offset + length;
+    int charIndex = offset;
+    int byteIndex = destOffset;
+    if ((length & 1) == 1) {
+      dest[byteIndex++] = (byte) nibble(hex[charIndex++]);
+    }
+    while (charIndex < end) {
+      dest[byteIndex++] = (byte) ((nibble(hex[charIndex]) << 4) | nibble(hex[charIndex + 1]));
+      charIndex += 2;
+    }
+    return byteIndex - destOffset;
+  }
+
+  /**
+   * Decodes the remaining hexadecimal characters of {@code hex} into {@code dest}, advancing the position of both
+   * buffers. If {@code hex} has an odd number of remaining characters, it is treated as if it had a leading '0'.
+   *
+   * @param hex  A hexadecimal {@link CharBuffer} to decode.
+   * @param dest The {@link ByteBuffer} to write decoded bytes to.
+   *
+   * @return The number of bytes written to {@code dest}.
+   *
+   * @throws NumberFormatException   if {@code hex} contains a character that is not a hex digit, in which case the
+   *                                 positions of both buffers are unchanged.
+   * @throws BufferOverflowException if {@code dest} does not have room for the decoded bytes, in which case neither
+   *                                 buffer is modified.
+   */
+  public static int fromHex(CharBuffer hex, ByteBuffer dest) {
+    final int length = hex.remaining();
+    final int byteCount = (length + 1) / 2;
+    if (dest.remaining() < byteCount) {
+      throw new BufferOverflowException();
+    }
+    int charIndex = hex.position();
+    int byteIndex = dest.position();
+    if ((length & 1) == 1) {
+      dest.put(byteIndex++, (byte) nibble(hex.get(charIndex++)));
+    }
+    while (charIndex < hex.limit()) {
+      dest.put(byteIndex++, (byte) ((nibble(hex.get(charIndex)) << 4) | nibble(hex.get(charIndex + 1))));
+      charIndex += 2;
+    }
+    hex.position(hex.limit());
+    dest.position(byteIndex);
+    return byteCount;
+  }
+
+  /**
+   * Appends {@code length} bytes of {@code bytes}, starting at {@code offset}, to {@code builder} as upper-case
+   * hexadecimal characters.
+   *
+   * @param builder The {@link StringBuilder} to append to.
+   * @param bytes   The bytes to encode.
+   * @param offset  The index of the first byte to encode.
+   * @param length  The number of bytes to encode.
+   *
+   * @return {@code builder}.
+   */
+  public static StringBuilder appendHex(StringBuilder builder, byte[] bytes, int offset, int length) {
+    builder.ensureCapacity(builder.length() + length * 2);
+    for (int i = offset; i < offset + length; i++) {
+      int value = bytes[i] & 0xFF;
+      builder.append(HEX_DIGITS[value >>> 4]).append(HEX_DIGITS[value & 0x0F]);
+    }
+    return builder;
+  }
+
+  /**
+   * Appends {@code length} bytes of {@code bytes}, starting at {@code offset}, to {@code appendable} as upper-case
+   * hexadecimal characters.
+   *
+   * @param appendable The {@link Appendable} to append to.
+   * @param bytes      The bytes to encode.
+   * @param offset     The index of the first byte to encode.
+   * @param length     The number of bytes to encode.
+   * @param <A>        The type of {@link Appendable}.
+   *
+   * @return {@code appendable}.
+   *
+   * @throws IOException if {@code appendable} throws one.
+   */
+  public static <A extends Appendable> A appendHex(A appendable, byte[] bytes, int offset, int length)
+    throws IOException {
+    for (int i = offset; i < offset + length; i++) {
+      int value = bytes[i] & 0xFF;
+      appendable.append(HEX_DIGITS[value >>> 4]).append(HEX_DIGITS[value & 0x0F]);
+    }
+    return appendable;
+  }
+
+  /**
+   * Get the upper-case hexadecimal character for the given nibble.
+   *
+   * @param nibble A value between 0 and 15.
+   *
+   * @return The hex digit for {@code nibble}.
+   */
+  static char hexDigit(int nibble) {
+    return HEX_DIGITS[nibble];
+  }
+
+  private static int nibble(char hexChar) {
+    int value = hexChar < HEX_VALUES.length ? HEX_VALUES[hexChar] : -1;
+    if (value < 0) {
+      throw new NumberFormatException("Invalid hex character: '" + hexChar + "'");
+    }
+    return value;
+  }
+
   /**
    * Checks that the given {@link BigInteger} value has a bitsize (binary) less than or equal to the
    * {@code expectedBits}.
@@ -109,6 +304,80 @@ public class ByteUtils {
     return value;
   }
 
+  /**
+   * Encodes a byte array as an upper-case hexadecimal {@link String}.
+   *
+   * @param bytes The bytes to encode.
+   *
+   * @return An upper-case hexadecimal {@link String}.
+   */
+  public static String toHex(byte[] bytes) {
+    return toHex(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Encodes {@code length} bytes of {@code bytes}, starting at {@code offset}, as an upper-case hexadecimal
+   * {@link String}.
+   *
+   * @param bytes  The bytes to encode.
+   * @param offset The index of the first byte to encode.
+   * @param length The number of bytes to encode.
+   *
+   * @return An upper-case hexadecimal {@link String}.
+   */
+  public static String toHex(byte[] bytes, int offset, int length) {
+    char[] chars = new char[length * 2];
+    toHex(bytes, offset, length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Encodes {@code length} bytes of {@code bytes}, starting at {@code offset}, as upper-case hexadecimal characters
+   * written to {@code dest}, starting at {@code destOffset}.
+   *
+   * @param bytes      The bytes to encode.
+   * @param offset     The index of the first byte to encode.
+   * @param length     The number of bytes to encode.
+   * @param dest       The array to write hex characters to. Must have room for {@code 2 * length} characters.
+   * @param destOffset The index in {@code dest} of the first hex character.
+   *
+   * @return The number of characters written to {@code dest}.
+   */
+  public static int toHex(byte[] bytes, int offset, int length, char[] dest, int destOffset) {
+    int charIndex = destOffset;
+    for (int i = offset; i < offset + length; i++) {
+      int value = bytes[i] & 0xFF;
+      dest[charIndex++] = HEX_DIGITS[value >>> 4];
+      dest[charIndex++] = HEX_DIGITS[value & 0x0F];
+    }
+    return charIndex - destOffset;
+  }
+
+  /**
+   * Encodes the remaining bytes of {@code bytes} into {@code dest} as upper-case hexadecimal characters, advancing the
+   * position of both buffers.
+   *
+   * @param bytes The {@link ByteBuffer} to encode.
+   * @param dest  The {@link CharBuffer} to write hex characters to.
+   *
+   * @return The number of characters written to {@code dest}.
+   *
+   * @throws BufferOverflowException if {@code dest} does not have room for {@code 2 * bytes.remaining()} characters,
+   *                                 in which case neither buffer is modified.
+   */
+  public static int toHex(ByteBuffer bytes, CharBuffer dest) {
+    final int length = bytes.remaining();
+    if (dest.remaining() < length * 2) {
+      throw new BufferOverflowException();
+    }
+    for (int i = bytes.position(); i < bytes.limit(); i++) {
+      int value = bytes.get(i) & 0xFF;
+      dest.put(HEX_DIGITS[value >>> 4]).put(HEX_DIGITS[value & 0x0F]);
+    }
+    bytes.position(bytes.limit());
+    return length * 2;
+  }
+
   /**
    * Converts a {@link List} of {@link UnsignedByte}s to a hexadecimal {@link String}.
    *
@@ -117,7 +386,13 @@ public class ByteUtils {
    * @return A hexadecimal {@link String}.
    */
   public static String toHex(List<UnsignedByte> segments) {
-    return Joiner.on("").join(segments.stream().map(UnsignedByte::hexValue).collect(Collectors.toList()));
+    char[] chars = new char[segments.size() * 2];
+    int charIndex = 0;
+    for (UnsignedByte segment : segments) {
+      chars[charIndex++] = HEX_DIGITS[segment.getHighBits()];
+      chars[charIndex++] = HEX_DIGITS[segment.getLowBits()];
+    }
+    return new String(chars);
   }
 
   /**
@@ -126,9 +401,21 @@ public class ByteUtils {
    * @param segments The {@link UnsignedByteArray} to convert.
    *
    * @return The {@link UnsignedLong} value of {@code segments}.
+   *
+   * @throws NumberFormatException if {@code segments} is empty or its value does not fit in an {@link UnsignedLong}.
    */
   public static UnsignedLong toUnsignedLong(UnsignedByteArray segments) {
-    return UnsignedLong.valueOf(segments.hexValue(), 16);
+    if (segments.length() == 0) {
+      throw new NumberFormatException("empty string");
+    }
+    long value = 0;
+    for (int i = 0; i < segments.length(); i++) {
+      if ((value >>> 56) != 0) {
+        throw new NumberFormatException(segments.hexValue() + " is too large to fit in an UnsignedLong");
+      }
+      value = (value << 8) | (segments.getByte(i) & 0xFF);
+    }
+    return UnsignedLong.fromLongBits(value);
   }
 
   /**
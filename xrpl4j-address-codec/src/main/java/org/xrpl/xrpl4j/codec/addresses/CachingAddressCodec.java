@@ -0,0 +1,109 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.util.Objects;
+
+/**
+ * An {@link AddressCodec} that caches conversions between classic {@link Address}es and AccountIDs, so that frequently
+ * used addresses are only Base58Check encoded or decoded once.
+ *
+ * <p>Both caches are bounded and configured by the same {@link CaffeineSpec}, and record hit and miss statistics
+ * that are available via {@link #encodeAccountIdStats()} and {@link #decodeAccountIdStats()}. Only successful
+ * conversions are cached. Because {@link UnsignedByteArray} is mutable, cached AccountIDs are stored as copies and
+ * every call returns a new {@link UnsignedByteArray}.</p>
+ *
+ * <p>To make {@link AddressCodec#getInstance()} return a {@link CachingAddressCodec}, set the
+ * {@value AddressCodec#CACHE_SPEC_PROPERTY} system property.</p>
+ */
+public class CachingAddressCodec extends AddressCodec {
+
+  private final Cache<UnsignedByteArray, Address> encodeAccountIdCache;
+  private final Cache<Address, UnsignedByteArray> decodeAccountIdCache;
+
+  /**
+   * No-args Constructor that caches up to 10,000 conversions in each direction.
+   */
+  public CachingAddressCodec() {
+    this(CaffeineSpec.parse("maximumSize=10000"));
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param caffeineSpec A {@link CaffeineSpec} used to configure both caches constructed by this codec.
+   */
+  public CachingAddressCodec(final CaffeineSpec caffeineSpec) {
+    Objects.requireNonNull(caffeineSpec);
+    this.encodeAccountIdCache = Caffeine.from(caffeineSpec).recordStats().build();
+    this.decodeAccountIdCache = Caffeine.from(caffeineSpec).recordStats().build();
+  }
+
+  @Override
+  public Address encodeAccountId(final UnsignedByteArray accountId) {
+    Objects.requireNonNull(accountId);
+
+    return encodeAccountIdCache.get(
+      UnsignedByteArray.of(accountId.toByteArray()),
+      super::encodeAccountId
+    );
+  }
+
+  @Override
+  public UnsignedByteArray decodeAccountId(final Address accountId) {
+    Objects.requireNonNull(accountId);
+
+    UnsignedByteArray decoded = decodeAccountIdCache.get(accountId, super::decodeAccountId);
+    return UnsignedByteArray.of(decoded.toByteArray());
+  }
+
+  /**
+   * Get hit and miss statistics for {@link #encodeAccountId(UnsignedByteArray)}.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats encodeAccountIdStats() {
+    return encodeAccountIdCache.stats();
+  }
+
+  /**
+   * Get hit and miss statistics for {@link #decodeAccountId(Address)}.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats decodeAccountIdStats() {
+    return decodeAccountIdCache.stats();
+  }
+
+  /**
+   * Discard all cached conversions. Statistics are not reset.
+   */
+  public void invalidateAll() {
+    encodeAccountIdCache.invalidateAll();
+    decodeAccountIdCache.invalidateAll();
+  }
+}
@@ -21,7 +21,6 @@ package org.xrpl.xrpl4j.codec.addresses;
  */
 
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 
 import java.math.BigInteger;
 import java.util.Objects;
@@ -31,6 +30,17 @@ import java.util.Objects;
  */
 public class UnsignedByte {
 
+  /**
+   * Every possible {@link UnsignedByte} value, so that {@link #of(int)} never needs to allocate.
+   */
+  private static final UnsignedByte[] CACHE = new UnsignedByte[256];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new UnsignedByte(i);
+    }
+  }
+
   // since Java byte is signed need to use int to handle max value 255
   private final int value;
 
@@ -48,7 +58,9 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(int value) {
-    return new UnsignedByte(value);
+    Preconditions.checkArgument(value >= 0);
+    Preconditions.checkArgument(value <= 255);
+    return CACHE[value];
   }
 
   /**
@@ -59,7 +71,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(byte value) {
-    return new UnsignedByte(value & 0xff);
+    return CACHE[value & 0xff];
   }
 
   /**
@@ -71,7 +83,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(byte highBits, byte lowBits) {
-    return new UnsignedByte((highBits << 4) + lowBits);
+    return of((highBits << 4) + lowBits);
   }
 
   /**
@@ -156,7 +168,7 @@ public class UnsignedByte {
    * @return The hex {@link String} value of this {@link UnsignedByte}.
    */
   public String hexValue() {
-    return BaseEncoding.base16().encode(new byte[] {(byte) asInt()});
+    return new String(new char[] {ByteUtils.hexDigit(getHighBits()), ByteUtils.hexDigit(getLowBits())});
   }
 
   @Override
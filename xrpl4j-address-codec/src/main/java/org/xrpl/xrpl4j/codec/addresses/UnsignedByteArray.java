@@ -20,25 +20,66 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Wrapper for holding unsigned bytes since unsigned bytes are hard in Java and XRPL ledger does many operations
  * on arrays on unsigned bytes.
  *
+ * <p>Bytes are stored in a growable primitive {@code byte[]}, so appending is amortized O(1) and no
+ * {@link UnsignedByte} instances are involved unless explicitly requested via {@link #get(int)} or
+ * {@link #getUnsignedBytes()}.
+ * Instances returned by {@link #slice(int, int)} share the backing array of the instance they were sliced from until
+ * the slice is appended to.</p>
+ *
  * <p>Note: several of the methods in this class mutate the underlying value.
  */
 public class UnsignedByteArray {
 
-  private final List<UnsignedByte> unsignedBytes;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private byte[] bytes;
+  private int offset;
+  private int length;
 
+  /**
+   * Whether this instance is a slice of another {@link UnsignedByteArray}. Slices must copy their bytes before writing
+   * past {@link #length}, because those bytes belong to the array they were sliced from.
+   */
+  private boolean shared;
+
+  /**
+   * Whether slices or buffers have been taken from this instance. They view its storage, so {@link #clear()} must move
+   * to new storage rather than overwrite bytes they can see.
+   */
+  private boolean viewed;
+
+  /**
+   * Construct an {@link UnsignedByteArray} containing a copy of the given {@link UnsignedByte}s.
+   *
+   * @param unsignedBytes A {@link List} of {@link UnsignedByte}s.
+   */
   public UnsignedByteArray(final List<UnsignedByte> unsignedBytes) {
     Objects.requireNonNull(unsignedBytes);
-    this.unsignedBytes = unsignedBytes;
+    this.bytes = new byte[unsignedBytes.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = unsignedBytes.get(i).asByte();
+    }
+    this.offset = 0;
+    this.length = bytes.length;
+  }
+
+  private UnsignedByteArray(final byte[] bytes, final int offset, final int length, final boolean shared) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.shared = shared;
   }
 
   /**
@@ -50,12 +91,7 @@ public class UnsignedByteArray {
    */
   public static UnsignedByteArray of(final byte[] bytes) {
     Objects.requireNonNull(bytes);
-
-    List<UnsignedByte> unsignedBytes = new ArrayList<>(bytes.length);
-    for (int i = 0; i < bytes.length; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(bytes[i]));
-    }
-    return new UnsignedByteArray(unsignedBytes);
+    return new UnsignedByteArray(Arrays.copyOf(bytes, bytes.length), 0, bytes.length, false);
   }
 
   /**
@@ -67,10 +103,31 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} with the given {@link UnsignedByte}s.
    */
   public static UnsignedByteArray of(UnsignedByte first, UnsignedByte... rest) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    unsignedBytes.add(first);
-    Collections.addAll(unsignedBytes, rest);
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = new byte[rest.length + 1];
+    bytes[0] = first.asByte();
+    for (int i = 0; i < rest.length; i++) {
+      bytes[i + 1] = rest[i].asByte();
+    }
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
+  }
+
+  /**
+   * Creates an {@link UnsignedByteArray} view over a range of {@code bytes} without copying it. Like a
+   * {@link #slice(int, int)}, the view shares {@code bytes} until it is appended to, so later writes to {@code bytes}
+   * are visible through the view.
+   *
+   * @param bytes  The byte array to view.
+   * @param offset The index of the first byte of the view.
+   * @param length The number of bytes in the view.
+   *
+   * @return An {@link UnsignedByteArray} backed by {@code bytes}.
+   */
+  public static UnsignedByteArray wrap(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset > bytes.length - length) {
+      throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + bytes.length);
+    }
+    return new UnsignedByteArray(bytes, offset, length, true);
   }
 
   /**
@@ -79,7 +136,21 @@ public class UnsignedByteArray {
    * @return An empty {@link UnsignedByteArray}.
    */
   public static UnsignedByteArray empty() {
-    return new UnsignedByteArray(new ArrayList<>());
+    return withCapacity(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty {@link UnsignedByteArray} that can hold {@code capacity} bytes before it needs to grow.
+   *
+   * @param capacity The initial capacity of the returned {@link UnsignedByteArray}.
+   *
+   * @return An empty {@link UnsignedByteArray}.
+   */
+  public static UnsignedByteArray withCapacity(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must be non-negative");
+    }
+    return new UnsignedByteArray(new byte[capacity], 0, 0, false);
   }
 
   /**
@@ -90,7 +161,7 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} of the requested size with all 0 {@link UnsignedByte}s
    */
   public static UnsignedByteArray ofSize(int size) {
-    return new UnsignedByteArray(fill(size));
+    return new UnsignedByteArray(new byte[size], 0, size, false);
   }
 
   /**
@@ -102,8 +173,8 @@ public class UnsignedByteArray {
    */
   public static UnsignedByteArray fromHex(String hex) {
     Objects.requireNonNull(hex);
-    List<UnsignedByte> unsignedBytes = ByteUtils.parse(hex.toUpperCase(Locale.ENGLISH));
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = ByteUtils.fromHex(hex);
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
   }
 
   protected static List<UnsignedByte> fill(int amount) {
@@ -115,27 +186,38 @@ public class UnsignedByteArray {
   }
 
   /**
-   * Get the underlying {@link List} of {@link UnsignedByte}s for this {@link UnsignedByteArray}.
+   * Get a {@link List} view of the {@link UnsignedByte}s in this {@link UnsignedByteArray}. The returned list is backed
+   * by this array, so {@link List#set(int, Object)} writes through, but it cannot be structurally modified.
+   *
+   * <p>Prefer {@link #length()}, {@link #get(int)} or {@link #toByteArray()}, which do not need to create a view.</p>
    *
-   * @return The underlying {@link List} of {@link UnsignedByte}s.
+   * @return A {@link List} of {@link UnsignedByte}s backed by this {@link UnsignedByteArray}.
    */
   public List<UnsignedByte> getUnsignedBytes() {
-    return unsignedBytes;
+    return new UnsignedByteListView();
   }
 
   /**
    * Converts this {@link UnsignedByteArray} to a byte array.
    *
-   * @return This {@link UnsignedByteArray} as a byte array.
+   * @return A copy of the bytes in this {@link UnsignedByteArray}.
    */
   public byte[] toByteArray() {
-    byte[] bytes = new byte[unsignedBytes.size()];
-
-    for (int i = 0; i < unsignedBytes.size(); i++) {
-      bytes[i] = unsignedBytes.get(i).asByte();
-    }
+    return Arrays.copyOfRange(bytes, offset, offset + length);
+  }
 
-    return bytes;
+  /**
+   * Get a read-only {@link ByteBuffer} over the bytes in this {@link UnsignedByteArray} without copying them. The
+   * returned buffer's position is 0 and its limit is {@link #length()}.
+   *
+   * <p>The buffer shares this array's storage, so it reflects later calls to {@link #set(int, UnsignedByte)}, but not
+   * bytes appended after it was created.</p>
+   *
+   * @return A read-only {@link ByteBuffer}.
+   */
+  public ByteBuffer toByteBuffer() {
+    viewed = true;
+    return ByteBuffer.wrap(bytes, offset, length).slice().asReadOnlyBuffer();
   }
 
   /**
@@ -144,7 +226,7 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray} as a hex encoded {@link String}.
    */
   public String hexValue() {
-    return ByteUtils.toHex(unsignedBytes).toUpperCase(Locale.ENGLISH);
+    return ByteUtils.toHex(bytes, offset, length);
   }
 
   /**
@@ -153,7 +235,7 @@ public class UnsignedByteArray {
    * @return The length of this {@link UnsignedByteArray}, as an int.
    */
   public int length() {
-    return unsignedBytes.size();
+    return length;
   }
 
   /**
@@ -164,7 +246,19 @@ public class UnsignedByteArray {
    * @return The {@link UnsignedByte} at the given index.
    */
   public UnsignedByte get(int index) {
-    return unsignedBytes.get(index);
+    return UnsignedByte.of(getByte(index));
+  }
+
+  /**
+   * Gets the raw {@code byte} at a given index without creating an {@link UnsignedByte}.
+   *
+   * @param index The index of the byte to get.
+   *
+   * @return The byte at the given index.
+   */
+  public byte getByte(int index) {
+    checkIndex(index);
+    return bytes[offset + index];
   }
 
   /**
@@ -175,7 +269,20 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray}, with the given {@link UnsignedByte} appended.
    */
   public UnsignedByteArray append(UnsignedByte unsignedByte) {
-    unsignedBytes.add(unsignedByte);
+    return append(unsignedByte.asByte());
+  }
+
+  /**
+   * Appends a single {@code byte} to this {@link UnsignedByteArray}.
+   *
+   * @param value The byte to append.
+   *
+   * @return This {@link UnsignedByteArray}, with the given byte appended.
+   */
+  public UnsignedByteArray append(byte value) {
+    ensureCapacity(length + 1);
+    bytes[offset + length] = value;
+    length++;
     return this;
   }
 
@@ -188,7 +295,28 @@ public class UnsignedByteArray {
    * @return the same instance.
    */
   public UnsignedByteArray append(UnsignedByteArray array) {
-    unsignedBytes.addAll(array.getUnsignedBytes());
+    // Read the source fields up front in case `array` is this instance and ensureCapacity reallocates.
+    return append(array.bytes, array.offset, array.length);
+  }
+
+  /**
+   * Appends {@code len} bytes from {@code source}, starting at {@code off}, to the end of this array.
+   * Note: this method mutates the instance and returns the same instance (mainly for call chaining convenience).
+   *
+   * @param source The bytes to append.
+   * @param off    The index of the first byte in {@code source} to append.
+   * @param len    The number of bytes to append.
+   *
+   * @return the same instance.
+   */
+  public UnsignedByteArray append(byte[] source, int off, int len) {
+    Objects.requireNonNull(source);
+    if (off < 0 || len < 0 || off > source.length - len) {
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", source length: " + source.length);
+    }
+    ensureCapacity(length + len);
+    System.arraycopy(source, off, bytes, offset + length, len);
+    length += len;
     return this;
   }
 
@@ -199,11 +327,13 @@ public class UnsignedByteArray {
    * @param value The {@link UnsignedByte} to set at the given index.
    */
   public void set(int index, UnsignedByte value) {
-    unsignedBytes.set(index, value);
+    checkIndex(index);
+    bytes[offset + index] = value.asByte();
   }
 
   /**
-   * Returns a slice of the underlying byte array from the given start to the end index (exclusive).
+   * Returns a slice of the underlying byte array from the given start to the end index (exclusive). The slice shares
+   * storage with this instance, so no bytes are copied.
    *
    * @param startIndex start index (inclusive)
    * @param endIndex   end index (exclusive)
@@ -211,7 +341,62 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} containing the sliced elements.
    */
   public UnsignedByteArray slice(int startIndex, int endIndex) {
-    return new UnsignedByteArray(unsignedBytes.subList(startIndex, endIndex));
+    if (startIndex < 0 || endIndex > length || startIndex > endIndex) {
+      throw new IndexOutOfBoundsException(
+        "startIndex: " + startIndex + ", endIndex: " + endIndex + ", length: " + length
+      );
+    }
+    viewed = true;
+    return new UnsignedByteArray(bytes, offset + startIndex, endIndex - startIndex, true);
+  }
+
+  /**
+   * Remove all bytes so that this instance can be reused, keeping its capacity. Slices and buffers previously taken
+   * from this instance keep their contents.
+   *
+   * @return This {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray clear() {
+    if (shared) {
+      bytes = new byte[DEFAULT_CAPACITY];
+    } else if (viewed) {
+      bytes = new byte[bytes.length];
+    }
+    offset = 0;
+    length = 0;
+    shared = false;
+    viewed = false;
+    return this;
+  }
+
+  /**
+   * Makes sure that {@link #bytes} can hold {@code minLength} bytes starting at {@link #offset}, and that writes past
+   * {@link #length} cannot be observed by any other instance sharing the same storage.
+   *
+   * @param minLength The required length.
+   */
+  private void ensureCapacity(int minLength) {
+    if (minLength < 0) {
+      throw new OutOfMemoryError("UnsignedByteArray cannot exceed " + Integer.MAX_VALUE + " bytes");
+    }
+    if (!shared && offset + minLength <= bytes.length) {
+      return;
+    }
+    int newCapacity = Math.max(minLength, Math.max(DEFAULT_CAPACITY, length + (length >> 1)));
+    if (newCapacity < 0) {
+      newCapacity = minLength;
+    }
+    byte[] grown = new byte[newCapacity];
+    System.arraycopy(bytes, offset, grown, 0, length);
+    this.bytes = grown;
+    this.offset = 0;
+    this.shared = false;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+    }
   }
 
   @Override
@@ -223,18 +408,53 @@ public class UnsignedByteArray {
       return false;
     }
     UnsignedByteArray that = (UnsignedByteArray) object;
-    return getUnsignedBytes().equals(that.getUnsignedBytes());
+    if (length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (bytes[offset + i] != that.bytes[that.offset + i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getUnsignedBytes());
+    int result = 1;
+    for (int i = offset; i < offset + length; i++) {
+      result = 31 * result + bytes[i];
+    }
+    return result;
   }
 
   @Override
   public String toString() {
     return "UnsignedByteArray{" +
-      "unsignedBytes=List(size=" + unsignedBytes.size() + ")" +
+      "unsignedBytes=List(size=" + length + ")" +
       '}';
   }
+
+  /**
+   * A {@link List} view over the enclosing {@link UnsignedByteArray}.
+   */
+  private class UnsignedByteListView extends AbstractList<UnsignedByte> implements RandomAccess {
+
+    @Override
+    public UnsignedByte get(int index) {
+      return UnsignedByteArray.this.get(index);
+    }
+
+    @Override
+    public UnsignedByte set(int index, UnsignedByte element) {
+      UnsignedByte previous = UnsignedByteArray.this.get(index);
+      UnsignedByteArray.this.set(index, element);
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+  }
 }
@@ -20,20 +20,23 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 public class Utils {
 
-  private static final MessageDigest digest;
-
-  static {
+  /**
+   * {@link MessageDigest} is not thread-safe, so each thread gets its own instance rather than contending for a
+   * shared one.
+   */
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
     try {
-      digest = MessageDigest.getInstance("SHA-256");
+      return MessageDigest.getInstance("SHA-256");
     } catch (NoSuchAlgorithmException e) {
       throw new RuntimeException(e);  // Can't happen.
     }
-  }
+  });
 
   /**
    * See {@link Utils#doubleDigest(byte[], int, int)}.
@@ -57,11 +60,32 @@ public class Utils {
    * @return The SHA-256 hash of the SHA-256 hash of the given input.
    */
   public static byte[] doubleDigest(byte[] input, int offset, int length) {
-    synchronized (digest) {
-      digest.reset();
-      digest.update(input, offset, length);
-      byte[] first = digest.digest();
-      return digest.digest(first);
+    MessageDigest digest = SHA_256.get();
+    digest.reset();
+    digest.update(input, offset, length);
+    byte[] first = digest.digest();
+    return digest.digest(first);
+  }
+
+  /**
+   * Calculates the double SHA-256 hash of the given byte range, like {@link #doubleDigest(byte[], int, int)}, but
+   * writes the hash into the first 32 bytes of {@code output} instead of allocating new arrays.
+   *
+   * @param input  A byte array to double digest.
+   * @param offset The beginning index of the input to digest.
+   * @param length The length of the input to digest.
+   * @param output An array of at least 32 bytes, which may be the same array as {@code input}.
+   */
+  static void doubleDigest(byte[] input, int offset, int length, byte[] output) {
+    MessageDigest digest = SHA_256.get();
+    digest.reset();
+    digest.update(input, offset, length);
+    try {
+      digest.digest(output, 0, 32);
+      digest.update(output, 0, 32);
+      digest.digest(output, 0, 32);
+    } catch (DigestException e) {
+      throw new IllegalArgumentException("output must have room for 32 bytes", e);
     }
   }
 
@@ -0,0 +1,301 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+
+import java.util.Objects;
+
+/**
+ * A low-allocation codec for X-Addresses that works on raw AccountID bytes and {@code long} destination tags.
+ *
+ * <p>Unlike {@link AddressCodec#classicAddressToXAddress} and {@link AddressCodec#xAddressToClassicAddress}, this
+ * class does not create intermediate {@link UnsignedByteArray}s, {@link com.google.common.primitives.UnsignedInteger}s
+ * or {@link String}s. Every conversion reuses buffers that are allocated once per instance, so
+ * {@link #encode(byte[], int, long, boolean, char[], int)} and {@link #decode(CharSequence, byte[], int)} allocate
+ * nothing at all, and the {@link String} returning methods allocate only their result.</p>
+ *
+ * <p>Destination tags are represented as a {@code long} between 0 and {@link #MAX_TAG}, or {@link #NO_TAG} for an
+ * X-Address without a tag.</p>
+ *
+ * <p>Instances of this class are not thread-safe. Use one instance per thread, for example by holding it in a
+ * {@link ThreadLocal}.</p>
+ */
+@SuppressWarnings( {"ParameterName", "MethodName"})
+public final class XAddressCodec {
+
+  /**
+   * The tag value that represents an X-Address without a destination tag.
+   */
+  public static final long NO_TAG = -1;
+
+  /**
+   * The largest destination tag that can be encoded in an X-Address.
+   */
+  public static final long MAX_TAG = 0xFFFFFFFFL;
+
+  private static final int ACCOUNT_ID_LENGTH = 20;
+
+  /**
+   * Two prefix bytes, a 20 byte AccountID, a flag byte and 8 tag bytes.
+   */
+  private static final int X_ADDRESS_PAYLOAD_LENGTH = 31;
+
+  /**
+   * A version byte and a 20 byte AccountID.
+   */
+  private static final int CLASSIC_ADDRESS_PAYLOAD_LENGTH = 21;
+
+  private static final int CHECKSUM_LENGTH = 4;
+
+  private static final int MAX_BYTES = X_ADDRESS_PAYLOAD_LENGTH + CHECKSUM_LENGTH;
+
+  private static final int MAX_CHARS = Base58.maxEncodedLength(MAX_BYTES);
+
+  private static final byte ACCOUNT_ID_VERSION = Version.ACCOUNT_ID.getValuesAsBytes()[0];
+
+  private final byte[] bytes = new byte[MAX_BYTES];
+  private final byte[] digest = new byte[32];
+  private final byte[] classicAccountId = new byte[ACCOUNT_ID_LENGTH];
+  private final int[] encodeLimbs = new int[Base58.encodeLimbCount(MAX_BYTES)];
+  private final int[] decodeLimbs = new int[Base58.maxLimbCount(MAX_CHARS)];
+  private final char[] chars = new char[MAX_CHARS];
+
+  private long tag = NO_TAG;
+  private boolean test;
+
+  /**
+   * Encodes a 20 byte AccountID and destination tag into an X-Address.
+   *
+   * @param accountId An array containing a 20 byte AccountID.
+   * @param offset    The index of the AccountID in {@code accountId}.
+   * @param tag       A destination tag between 0 and {@link #MAX_TAG}, or {@link #NO_TAG}.
+   * @param test      {@code true} if the X-Address should be encoded for Testnet,
+   *                  {@code false} if it should be encoded for Mainnet.
+   *
+   * @return The X-Address.
+   */
+  public String encode(final byte[] accountId, final int offset, final long tag, final boolean test) {
+    int start = encodeXAddress(accountId, offset, tag, test);
+    return new String(chars, start, chars.length - start);
+  }
+
+  /**
+   * Encodes a 20 byte AccountID and destination tag into an X-Address, and writes it to {@code output}.
+   *
+   * @param accountId    An array containing a 20 byte AccountID.
+   * @param offset       The index of the AccountID in {@code accountId}.
+   * @param tag          A destination tag between 0 and {@link #MAX_TAG}, or {@link #NO_TAG}.
+   * @param test         {@code true} if the X-Address should be encoded for Testnet,
+   *                     {@code false} if it should be encoded for Mainnet.
+   * @param output       The array to write the X-Address to.
+   * @param outputOffset The index in {@code output} to write the first character to.
+   *
+   * @return The number of characters written to {@code output}.
+   */
+  public int encode(
+    final byte[] accountId,
+    final int offset,
+    final long tag,
+    final boolean test,
+    final char[] output,
+    final int outputOffset
+  ) {
+    Objects.requireNonNull(output);
+    int start = encodeXAddress(accountId, offset, tag, test);
+    int length = chars.length - start;
+    System.arraycopy(chars, start, output, outputOffset, length);
+    return length;
+  }
+
+  /**
+   * Converts a classic address and destination tag to an X-Address.
+   *
+   * @param classicAddress A classic address.
+   * @param tag            A destination tag between 0 and {@link #MAX_TAG}, or {@link #NO_TAG}.
+   * @param test           {@code true} if the X-Address should be encoded for Testnet,
+   *                       {@code false} if it should be encoded for Mainnet.
+   *
+   * @return The X-Address.
+   */
+  public String classicAddressToXAddress(final CharSequence classicAddress, final long tag, final boolean test) {
+    Objects.requireNonNull(classicAddress);
+    int length = decodeChecked(classicAddress);
+    if (length != CLASSIC_ADDRESS_PAYLOAD_LENGTH || bytes[0] != ACCOUNT_ID_VERSION) {
+      throw new DecodeException("Version is invalid. Version bytes do not match any of the provided version bytes.");
+    }
+    // encodeXAddress copies the AccountID from one offset of bytes to another, so move it out of the way first.
+    System.arraycopy(bytes, 1, classicAccountId, 0, ACCOUNT_ID_LENGTH);
+    return encode(classicAccountId, 0, tag, test);
+  }
+
+  /**
+   * Decodes an X-Address, writing its 20 byte AccountID to {@code accountId}. The destination tag and network of the
+   * X-Address are available from {@link #tag()} and {@link #test()} until the next call to this codec.
+   *
+   * @param xAddress  The X-Address to decode.
+   * @param accountId The array to write the AccountID to.
+   * @param offset    The index in {@code accountId} to write the AccountID to.
+   */
+  public void decode(final CharSequence xAddress, final byte[] accountId, final int offset) {
+    Objects.requireNonNull(accountId);
+    decodeXAddress(xAddress);
+    System.arraycopy(bytes, 2, accountId, offset, ACCOUNT_ID_LENGTH);
+  }
+
+  /**
+   * Converts an X-Address to a classic address. The destination tag and network of the X-Address are available from
+   * {@link #tag()} and {@link #test()} until the next call to this codec.
+   *
+   * @param xAddress The X-Address to decode.
+   *
+   * @return The classic address.
+   */
+  public String xAddressToClassicAddress(final CharSequence xAddress) {
+    decodeXAddress(xAddress);
+    // Overwrite the second prefix byte with the version byte, so that the version and AccountID are contiguous.
+    bytes[1] = ACCOUNT_ID_VERSION;
+    int start = encodeChecked(1, CLASSIC_ADDRESS_PAYLOAD_LENGTH);
+    return new String(chars, start, chars.length - start);
+  }
+
+  /**
+   * The destination tag of the last decoded X-Address.
+   *
+   * @return A destination tag between 0 and {@link #MAX_TAG}, or {@link #NO_TAG} if the X-Address has no tag.
+   */
+  public long tag() {
+    return tag;
+  }
+
+  /**
+   * Whether the last decoded X-Address is a Testnet address.
+   *
+   * @return {@code true} if it is a Testnet address, {@code false} if it is a Mainnet address.
+   */
+  public boolean test() {
+    return test;
+  }
+
+  private int encodeXAddress(final byte[] accountId, final int offset, final long tag, final boolean test) {
+    Objects.requireNonNull(accountId);
+    if (offset < 0 || accountId.length - offset < ACCOUNT_ID_LENGTH) {
+      throw new EncodeException("AccountID must be 20 bytes.");
+    }
+    if (tag != NO_TAG && (tag < 0 || tag > MAX_TAG)) {
+      throw new EncodeException("Tag must be between 0 and " + MAX_TAG + ", or NO_TAG.");
+    }
+
+    byte[] prefix = test ? AddressCodec.PrefixBytes.TEST : AddressCodec.PrefixBytes.MAIN;
+    bytes[0] = prefix[0];
+    bytes[1] = prefix[1];
+    System.arraycopy(accountId, offset, bytes, 2, ACCOUNT_ID_LENGTH);
+    long normalizedTag = tag == NO_TAG ? 0 : tag;
+    bytes[22] = (byte) (tag == NO_TAG ? 0 : 1);
+    bytes[23] = (byte) normalizedTag;
+    bytes[24] = (byte) (normalizedTag >>> 8);
+    bytes[25] = (byte) (normalizedTag >>> 16);
+    bytes[26] = (byte) (normalizedTag >>> 24);
+    // Four zero bytes reserved for 64-bit tags
+    bytes[27] = 0;
+    bytes[28] = 0;
+    bytes[29] = 0;
+    bytes[30] = 0;
+    return encodeChecked(0, X_ADDRESS_PAYLOAD_LENGTH);
+  }
+
+  private void decodeXAddress(final CharSequence xAddress) {
+    Objects.requireNonNull(xAddress);
+    if (decodeChecked(xAddress) != X_ADDRESS_PAYLOAD_LENGTH) {
+      throw new DecodeException("X-Address must decode to " + X_ADDRESS_PAYLOAD_LENGTH + " bytes.");
+    }
+
+    boolean isTest;
+    if (bytes[0] == AddressCodec.PrefixBytes.MAIN[0] && bytes[1] == AddressCodec.PrefixBytes.MAIN[1]) {
+      isTest = false;
+    } else if (bytes[0] == AddressCodec.PrefixBytes.TEST[0] && bytes[1] == AddressCodec.PrefixBytes.TEST[1]) {
+      isTest = true;
+    } else {
+      throw new DecodeException("Invalid X-Address: Bad Prefix");
+    }
+
+    byte flag = bytes[22];
+    long decodedTag;
+    if (flag >= 2) {
+      throw new DecodeException("Unsupported X-Address: 64-bit tags are not supported");
+    } else if (flag == 1) {
+      // Little-endian to big-endian
+      decodedTag = (bytes[23] & 0xFFL) |
+        (bytes[24] & 0xFFL) << 8 |
+        (bytes[25] & 0xFFL) << 16 |
+        (bytes[26] & 0xFFL) << 24;
+    } else if (flag == 0) {
+      for (int i = 23; i < X_ADDRESS_PAYLOAD_LENGTH; i++) {
+        if (bytes[i] != 0) {
+          throw new DecodeException("Tag bytes in XAddress must be 0 if the address has no tag.");
+        }
+      }
+      decodedTag = NO_TAG;
+    } else {
+      throw new DecodeException("Flag must be 0 to indicate no tag.");
+    }
+
+    this.tag = decodedTag;
+    this.test = isTest;
+  }
+
+  /**
+   * Appends a checksum to {@code length} bytes of {@link #bytes} starting at {@code offset}, and Base58 encodes them
+   * into the end of {@link #chars}.
+   *
+   * @return The index of the first encoded character in {@link #chars}.
+   */
+  private int encodeChecked(final int offset, final int length) {
+    Utils.doubleDigest(bytes, offset, length, digest);
+    System.arraycopy(digest, 0, bytes, offset + length, CHECKSUM_LENGTH);
+    return Base58.encode(bytes, offset, length + CHECKSUM_LENGTH, encodeLimbs, chars);
+  }
+
+  /**
+   * Base58 decodes {@code input} into {@link #bytes} and validates its checksum.
+   *
+   * @return The number of bytes before the checksum.
+   */
+  private int decodeChecked(final CharSequence input) {
+    int length = Base58.decode(input, decodeLimbs, bytes);
+    if (length < 0) {
+      throw new EncodingFormatException("Input is not Base58 encoded or is too long.");
+    }
+    if (length < CHECKSUM_LENGTH) {
+      throw new EncodingFormatException("Input must be longer than 3 characters.");
+    }
+    int payloadLength = length - CHECKSUM_LENGTH;
+    Utils.doubleDigest(bytes, 0, payloadLength, digest);
+    for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+      if (digest[i] != bytes[payloadLength + i]) {
+        throw new EncodingFormatException("Checksum does not validate");
+      }
+    }
+    return payloadLength;
+  }
+}
@@ -32,6 +32,9 @@ import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.XAddress;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.function.Function;
 
 @SuppressWarnings( {"ParameterName", "MethodName", "LocalVariableName"})
@@ -156,6 +159,40 @@ public class AddressCodecTest {
     );
   }
 
+  @Test
+  public void encodeAccountIdIntoCharBuffer() {
+    ByteBuffer accountIds = ByteBuffer.allocateDirect(40);
+    accountIds.put(unsignedByteArrayFromHex("BA8E78626EE42C41B46D46C3048DF3A1C3C87072").toByteArray());
+    accountIds.put(new byte[20]);
+    accountIds.flip();
+    CharBuffer output = CharBuffer.allocate(100);
+
+    for (int i = 0; i < 2; i++) {
+      ByteBuffer accountId = accountIds.duplicate();
+      accountId.position(i * 20).limit(i * 20 + 20);
+      addressCodec.encodeAccountId(accountId, output);
+      assertThat(accountId.hasRemaining()).isFalse();
+      output.put('\n');
+    }
+
+    output.flip();
+    assertThat(output.toString()).isEqualTo("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN\nrrrrrrrrrrrrrrrrrrrrrhoLvTp\n");
+  }
+
+  @Test
+  public void encodeAccountIdIntoCharBufferWithWrongLengthOrTooLittleRoom() {
+    assertThrows(
+      EncodeException.class,
+      () -> addressCodec.encodeAccountId(ByteBuffer.allocate(19), CharBuffer.allocate(100))
+    );
+
+    ByteBuffer accountId = ByteBuffer.allocate(20);
+    CharBuffer output = CharBuffer.allocate(20);
+    assertThrows(BufferOverflowException.class, () -> addressCodec.encodeAccountId(accountId, output));
+    assertThat(accountId.remaining()).isEqualTo(20);
+    assertThat(output.position()).isZero();
+  }
+
   @Test
   public void encodeDecodeNodePublic() {
     testEncodeDecode(
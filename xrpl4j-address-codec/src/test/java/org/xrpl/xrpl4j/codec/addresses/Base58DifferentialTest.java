@@ -0,0 +1,115 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+
+import java.util.Random;
+
+/**
+ * Differential fuzz tests comparing {@link Base58} to {@link LegacyBase58}.
+ */
+public class Base58DifferentialTest {
+
+  private static final int ITERATIONS = 2_000;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5, 16, 20, 21, 23, 25, 33, 38, 64, 100})
+  public void encodeMatchesLegacy(int length) {
+    Random random = new Random(length);
+    for (int i = 0; i < ITERATIONS; i++) {
+      byte[] input = randomBytes(random, length);
+      String expected = LegacyBase58.encode(input);
+      assertThat(Base58.encode(input)).isEqualTo(expected);
+      assertThat(Base58.decode(expected)).isEqualTo(input);
+    }
+  }
+
+  @Test
+  public void encodeRangeMatchesLegacy() {
+    Random random = new Random(0);
+    for (int i = 0; i < ITERATIONS; i++) {
+      byte[] input = randomBytes(random, random.nextInt(48));
+      int offset = input.length == 0 ? 0 : random.nextInt(input.length);
+      int length = random.nextInt(input.length - offset + 1);
+      byte[] range = new byte[length];
+      System.arraycopy(input, offset, range, 0, length);
+      assertThat(Base58.encode(input, offset, length)).isEqualTo(LegacyBase58.encode(range));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5, 6, 10, 25, 34, 52, 100})
+  public void decodeMatchesLegacy(int length) {
+    Random random = new Random(length);
+    for (int i = 0; i < ITERATIONS; i++) {
+      char[] chars = new char[length];
+      int leadingZeros = random.nextInt(4) == 0 ? random.nextInt(length + 1) : 0;
+      for (int j = 0; j < length; j++) {
+        chars[j] = j < leadingZeros ? Base58.ALPHABET[0] : Base58.ALPHABET[random.nextInt(58)];
+      }
+      String input = new String(chars);
+      assertThat(Base58.decode(input)).isEqualTo(LegacyBase58.decode(input));
+    }
+  }
+
+  @Test
+  public void decodeRejectsSameCharactersAsLegacy() {
+    for (char character = 0; character < 512; character++) {
+      String input = "rp" + character;
+      boolean legacyValid = isValid(() -> LegacyBase58.decode(input));
+      assertThat(isValid(() -> Base58.decode(input))).as("character %s", (int) character).isEqualTo(legacyValid);
+    }
+    assertThatThrownBy(() -> Base58.decode("rp0"))
+      .isInstanceOf(EncodingFormatException.class)
+      .hasMessage("Illegal character 0 at 2");
+  }
+
+  /**
+   * Generate random bytes, sometimes with a run of leading zeros, which are encoded specially.
+   */
+  private byte[] randomBytes(Random random, int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    if (length > 0 && random.nextInt(4) == 0) {
+      int leadingZeros = random.nextInt(length + 1);
+      for (int i = 0; i < leadingZeros; i++) {
+        bytes[i] = 0;
+      }
+    }
+    return bytes;
+  }
+
+  private boolean isValid(Runnable decode) {
+    try {
+      decode.run();
+      return true;
+    } catch (EncodingFormatException e) {
+      return false;
+    }
+  }
+}
@@ -21,6 +21,7 @@ package org.xrpl.xrpl4j.codec.addresses;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.google.common.collect.Lists;
@@ -30,7 +31,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Arrays;
+import java.util.Random;
 
 public class Base58Test {
 
@@ -89,4 +94,72 @@ public class Base58Test {
       logger.error("Test succeeded.");
     }
   }
+
+  @Test
+  public void testEncodeDecodeBuffers() {
+    Random random = new Random(0);
+    CharBuffer chars = CharBuffer.allocate(100);
+    ByteBuffer heap = ByteBuffer.allocate(64);
+    ByteBuffer direct = ByteBuffer.allocateDirect(64);
+    for (int i = 0; i < 1_000; i++) {
+      byte[] bytes = new byte[random.nextInt(40)];
+      random.nextBytes(bytes);
+      if (bytes.length > 0 && random.nextBoolean()) {
+        bytes[0] = 0;
+      }
+      final String expected = Base58.encode(bytes);
+      ByteBuffer input = random.nextBoolean() ? heap : direct;
+
+      input.clear();
+      input.put(bytes).flip();
+      chars.clear();
+      assertThat(Base58.encode(input, chars)).isEqualTo(expected.length());
+      assertThat(input.hasRemaining()).isFalse();
+      chars.flip();
+      assertThat(chars.toString()).isEqualTo(expected);
+
+      input.clear();
+      assertThat(Base58.decode(chars, input)).isEqualTo(bytes.length);
+      assertThat(chars.hasRemaining()).isFalse();
+      assertThat(Arrays.copyOf(heap == input ? input.array() : toArray(input), bytes.length)).isEqualTo(bytes);
+    }
+  }
+
+  @Test
+  public void testEncodeDecodeCheckedBuffers() {
+    byte[] input = "123456789".getBytes();
+    String expected = Base58.encodeChecked(input);
+
+    CharBuffer chars = CharBuffer.allocate(50);
+    assertThat(Base58.encodeChecked(ByteBuffer.wrap(input), chars)).isEqualTo(expected.length());
+    chars.flip();
+    assertThat(chars.toString()).isEqualTo(expected);
+
+    ByteBuffer decoded = ByteBuffer.allocate(20);
+    assertThat(Base58.decodeChecked(chars, decoded)).isEqualTo(input.length);
+    assertThat(Arrays.copyOf(decoded.array(), decoded.position())).isEqualTo(input);
+
+    CharBuffer corrupted = CharBuffer.wrap(expected.substring(0, expected.length() - 1) + "r");
+    assertThrows(EncodingFormatException.class, () -> Base58.decodeChecked(corrupted, ByteBuffer.allocate(20)));
+  }
+
+  @Test
+  public void testBuffersWithTooLittleRoom() {
+    ByteBuffer input = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+    assertThrows(BufferOverflowException.class, () -> Base58.encode(input, CharBuffer.allocate(5)));
+    assertThrows(BufferOverflowException.class, () -> Base58.encodeChecked(input, CharBuffer.allocate(5)));
+    assertThat(input.remaining()).isEqualTo(8);
+
+    CharBuffer encoded = CharBuffer.wrap(Base58.encode(input.array()));
+    assertThrows(BufferOverflowException.class, () -> Base58.decode(encoded, ByteBuffer.allocate(7)));
+    assertThat(encoded.position()).isZero();
+
+    assertThrows(EncodingFormatException.class, () -> Base58.decode(CharBuffer.wrap("0"), ByteBuffer.allocate(7)));
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.position()];
+    ((ByteBuffer) buffer.duplicate().flip()).get(bytes);
+    return bytes;
+  }
 }
@@ -0,0 +1,189 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.XAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link BulkAddressValidator}.
+ */
+public class BulkAddressValidatorTest {
+
+  private final AddressCodec addressCodec = new AddressCodec();
+  private final Random random = new Random(0);
+
+  private ForkJoinPool pool;
+  private BulkAddressValidator validator;
+
+  @BeforeEach
+  public void setUp() {
+    pool = new ForkJoinPool(4);
+    validator = new BulkAddressValidator(pool);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void validateClassicAddressesMatchesAddressCodec() {
+    List<String> addresses = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      addresses.add(maybeMutate(addressCodec.encodeAccountId(randomBytes(20)).value()));
+    }
+    addresses.addAll(Arrays.asList(
+      "", "r", "rrrrrrrrrrrrrrrrrrrrrrrrrrrrrrrrrrr", "0", "rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN0"
+    ));
+    addresses.add(Base58.encodeChecked(new byte[21]));
+    addresses.add(Base58.encodeChecked(new byte[20]));
+    addresses.add(Base58.encodeChecked(new byte[22]));
+
+    BitSet expected = new BitSet();
+    for (int i = 0; i < addresses.size(); i++) {
+      expected.set(i, isValidClassicAddress(addresses.get(i)));
+    }
+
+    assertThat(expected.cardinality()).isBetween(1, addresses.size() - 1);
+    assertThat(validator.validateClassicAddresses(addresses.stream())).isEqualTo(expected);
+
+    // Address rejects values without an 'r' prefix or with a bad length, so only the rest can be wrapped.
+    List<String> prefixed = addresses.stream()
+      .filter(address -> address.startsWith("r") && address.length() >= 25 && address.length() <= 35)
+      .collect(Collectors.toList());
+    BitSet expectedPrefixed = new BitSet();
+    for (int i = 0; i < prefixed.size(); i++) {
+      expectedPrefixed.set(i, isValidClassicAddress(prefixed.get(i)));
+    }
+    assertThat(validator.validateClassicAddresses(
+      prefixed.stream().map(Address::of).collect(Collectors.toList()))
+    ).isEqualTo(expectedPrefixed);
+  }
+
+  @Test
+  public void validateXAddressesMatchesAddressCodec() {
+    List<String> candidates = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      Address address = addressCodec.encodeAccountId(randomBytes(20));
+      UnsignedInteger tag = UnsignedInteger.fromIntBits(random.nextInt());
+      XAddress candidate = random.nextBoolean() ?
+        addressCodec.classicAddressToXAddress(address, tag, random.nextBoolean()) :
+        addressCodec.classicAddressToXAddress(address, random.nextBoolean());
+      candidates.add(maybeMutate(candidate.value()));
+    }
+    // Checksummed payloads with valid prefixes but unusual lengths, flags and tag bytes.
+    for (int length = 0; length < 40; length++) {
+      for (int flag = -1; flag <= 2; flag++) {
+        byte[] payload = randomBytes(length).toByteArray();
+        if (length > 1) {
+          payload[0] = random.nextBoolean() ? (byte) 0x05 : (byte) 0x04;
+          payload[1] = payload[0] == 0x05 ? (byte) 0x44 : (byte) 0x93;
+        }
+        if (length > 22) {
+          payload[22] = (byte) flag;
+          if (random.nextBoolean()) {
+            Arrays.fill(payload, 23, length, (byte) 0);
+          }
+        }
+        candidates.add(Base58.encodeChecked(payload));
+      }
+    }
+    candidates.addAll(Arrays.asList("", "X", "rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN"));
+
+    BitSet expected = new BitSet();
+    for (int i = 0; i < candidates.size(); i++) {
+      expected.set(i, addressCodec.isValidXAddress(XAddress.of(candidates.get(i))));
+    }
+
+    assertThat(expected.cardinality()).isBetween(1, candidates.size() - 1);
+    assertThat(validator.validateXAddresses(candidates.stream())).isEqualTo(expected);
+    assertThat(validator.validateXAddresses(
+      candidates.stream().map(XAddress::of).collect(Collectors.toList()))
+    ).isEqualTo(expected);
+  }
+
+  @Test
+  public void nullsAreInvalid() {
+    BitSet result = new BulkAddressValidator().validateClassicAddresses(
+      Stream.of(null, "rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN")
+    );
+    assertThat(result.get(0)).isFalse();
+    assertThat(result.get(1)).isTrue();
+
+    assertThat(new BulkAddressValidator().validateXAddresses(Stream.of((String) null)).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void emptyInput() {
+    assertThat(validator.validateClassicAddresses(Stream.empty()).isEmpty()).isTrue();
+    assertThat(validator.validateXAddresses(new ArrayList<>()).isEmpty()).isTrue();
+  }
+
+  private boolean isValidClassicAddress(String address) {
+    try {
+      return addressCodec.isValidClassicAddress(Address.of(address));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private UnsignedByteArray randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return UnsignedByteArray.of(bytes);
+  }
+
+  /**
+   * Replace, remove or append a random character in half of the given addresses.
+   */
+  private String maybeMutate(String address) {
+    if (random.nextBoolean()) {
+      return address;
+    }
+    char[] chars = address.toCharArray();
+    int index = random.nextInt(chars.length);
+    switch (random.nextInt(3)) {
+      case 0:
+        chars[index] = (char) ('0' + random.nextInt(75));
+        return new String(chars);
+      case 1:
+        return address.substring(0, index) + address.substring(index + 1);
+      default:
+        return address + Base58.ALPHABET[random.nextInt(58)];
+    }
+  }
+}
@@ -23,9 +23,17 @@ package org.xrpl.xrpl4j.codec.addresses;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedLong;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Random;
 
 public class ByteUtilsTest {
 
@@ -62,4 +70,120 @@ public class ByteUtilsTest {
     ByteUtils.checkSize(4, BigInteger.valueOf(0));
   }
 
+  @Test
+  public void toHexMatchesBase16ForAllByteValues() {
+    byte[] bytes = new byte[256];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    assertThat(ByteUtils.toHex(bytes)).isEqualTo(BaseEncoding.base16().encode(bytes));
+  }
+
+  @Test
+  public void fromHexRoundTripsRandomBytes() {
+    Random random = new Random(0);
+    for (int length = 0; length < 64; length++) {
+      byte[] bytes = new byte[length];
+      random.nextBytes(bytes);
+      String hex = ByteUtils.toHex(bytes);
+      assertThat(ByteUtils.fromHex(hex)).isEqualTo(bytes);
+      assertThat(ByteUtils.fromHex(hex.toLowerCase())).isEqualTo(bytes);
+    }
+  }
+
+  @Test
+  public void fromHexOddLengthIsLeftPadded() {
+    assertThat(ByteUtils.fromHex("F")).isEqualTo(new byte[] {0x0F});
+    assertThat(ByteUtils.fromHex("abc")).isEqualTo(new byte[] {0x0A, (byte) 0xBC});
+    assertThat(ByteUtils.fromHex("")).isEmpty();
+  }
+
+  @Test
+  public void fromHexRejectsInvalidCharacters() {
+    assertThrows(NumberFormatException.class, () -> ByteUtils.fromHex("0G"));
+    assertThrows(NumberFormatException.class, () -> ByteUtils.fromHex("0" + (char) 0xE9));
+    assertThrows(NumberFormatException.class, () -> ByteUtils.fromHex(" 0"));
+  }
+
+  @Test
+  public void fromHexCharArrayRange() {
+    byte[] dest = new byte[4];
+    int written = ByteUtils.fromHex("xxABCDxx".toCharArray(), 2, 4, dest, 1);
+    assertThat(written).isEqualTo(2);
+    assertThat(dest).isEqualTo(new byte[] {0, (byte) 0xAB, (byte) 0xCD, 0});
+  }
+
+  @Test
+  public void toHexCharArrayRange() {
+    char[] dest = new char[6];
+    int written = ByteUtils.toHex(new byte[] {1, (byte) 0xAB, (byte) 0xCD}, 1, 2, dest, 1);
+    assertThat(written).isEqualTo(4);
+    assertThat(new String(dest, 1, 4)).isEqualTo("ABCD");
+  }
+
+  @Test
+  public void toHexByteBuffer() {
+    ByteBuffer bytes = ByteBuffer.allocateDirect(3);
+    bytes.put(new byte[] {1, (byte) 0xAB, (byte) 0xCD}).flip().position(1);
+    CharBuffer dest = CharBuffer.allocate(6).put('x');
+
+    assertThat(ByteUtils.toHex(bytes, dest)).isEqualTo(4);
+    assertThat(bytes.hasRemaining()).isFalse();
+    assertThat(((CharBuffer) dest.flip()).toString()).isEqualTo("xABCD");
+
+    ByteBuffer tooLong = ByteBuffer.wrap(new byte[4]);
+    assertThrows(BufferOverflowException.class, () -> ByteUtils.toHex(tooLong, CharBuffer.allocate(7)));
+    assertThat(tooLong.remaining()).isEqualTo(4);
+  }
+
+  @Test
+  public void fromHexByteBuffer() {
+    CharBuffer hex = CharBuffer.wrap("xxABCDE");
+    hex.position(2);
+    ByteBuffer dest = ByteBuffer.allocateDirect(4).put((byte) 7);
+
+    assertThat(ByteUtils.fromHex(hex, dest)).isEqualTo(3);
+    assertThat(hex.hasRemaining()).isFalse();
+    dest.flip();
+    byte[] decoded = new byte[dest.remaining()];
+    dest.get(decoded);
+    assertThat(decoded).isEqualTo(new byte[] {7, 0x0A, (byte) 0xBC, (byte) 0xDE});
+
+    assertThrows(
+      BufferOverflowException.class,
+      () -> ByteUtils.fromHex(CharBuffer.wrap("ABC"), ByteBuffer.allocate(1))
+    );
+
+    CharBuffer invalid = CharBuffer.wrap("AG");
+    assertThrows(NumberFormatException.class, () -> ByteUtils.fromHex(invalid, ByteBuffer.allocate(1)));
+    assertThat(invalid.position()).isZero();
+  }
+
+  @Test
+  public void appendHex() throws IOException {
+    byte[] bytes = new byte[] {0, 1, (byte) 0xFE, (byte) 0xFF};
+    assertThat(ByteUtils.appendHex(new StringBuilder("0x"), bytes, 1, 3).toString()).isEqualTo("0x01FEFF");
+
+    StringWriter writer = new StringWriter();
+    ByteUtils.appendHex(writer, bytes, 0, 2);
+    assertThat(writer.toString()).isEqualTo("0001");
+  }
+
+  @Test
+  public void toUnsignedLong() {
+    assertThat(ByteUtils.toUnsignedLong(UnsignedByteArray.fromHex("FFFFFFFFFFFFFFFF")))
+      .isEqualTo(UnsignedLong.MAX_VALUE);
+    assertThat(ByteUtils.toUnsignedLong(UnsignedByteArray.fromHex("000000000000000001")))
+      .isEqualTo(UnsignedLong.ONE);
+    assertThrows(
+      NumberFormatException.class,
+      () -> ByteUtils.toUnsignedLong(UnsignedByteArray.fromHex("010000000000000000"))
+    );
+  }
+
+  @Test
+  public void toUnsignedLongOfEmptyArray() {
+    assertThrows(NumberFormatException.class, () -> ByteUtils.toUnsignedLong(UnsignedByteArray.empty()));
+  }
+
 }
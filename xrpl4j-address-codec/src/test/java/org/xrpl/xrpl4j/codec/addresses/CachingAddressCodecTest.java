@@ -0,0 +1,109 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+/**
+ * Unit tests for {@link CachingAddressCodec}.
+ */
+public class CachingAddressCodecTest {
+
+  private static final Address ADDRESS = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN");
+  private static final String ACCOUNT_ID_HEX = "BA8E78626EE42C41B46D46C3048DF3A1C3C87072";
+
+  private CachingAddressCodec addressCodec;
+
+  @BeforeEach
+  public void setUp() {
+    addressCodec = new CachingAddressCodec(CaffeineSpec.parse("maximumSize=10"));
+  }
+
+  @Test
+  public void decodeAccountIdIsCached() {
+    assertThat(addressCodec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID_HEX);
+    assertThat(addressCodec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID_HEX);
+
+    assertThat(addressCodec.decodeAccountIdStats().missCount()).isEqualTo(1);
+    assertThat(addressCodec.decodeAccountIdStats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void encodeAccountIdIsCached() {
+    assertThat(addressCodec.encodeAccountId(UnsignedByteArray.fromHex(ACCOUNT_ID_HEX))).isEqualTo(ADDRESS);
+    assertThat(addressCodec.encodeAccountId(UnsignedByteArray.fromHex(ACCOUNT_ID_HEX))).isEqualTo(ADDRESS);
+
+    assertThat(addressCodec.encodeAccountIdStats().missCount()).isEqualTo(1);
+    assertThat(addressCodec.encodeAccountIdStats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void mutatingResultsDoesNotAffectCache() {
+    addressCodec.decodeAccountId(ADDRESS).set(0, UnsignedByte.of(0));
+    assertThat(addressCodec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID_HEX);
+
+    UnsignedByteArray accountId = UnsignedByteArray.fromHex(ACCOUNT_ID_HEX);
+    addressCodec.encodeAccountId(accountId);
+    accountId.set(0, UnsignedByte.of(0));
+    assertThat(addressCodec.encodeAccountId(accountId)).isEqualTo(new AddressCodec().encodeAccountId(accountId));
+  }
+
+  @Test
+  public void failuresAreNotCached() {
+    Address invalid = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35Erp");
+    assertThrows(EncodingFormatException.class, () -> addressCodec.decodeAccountId(invalid));
+    assertThrows(EncodeException.class, () -> addressCodec.encodeAccountId(UnsignedByteArray.ofSize(19)));
+    assertThat(addressCodec.isValidClassicAddress(invalid)).isFalse();
+    assertThat(addressCodec.decodeAccountIdStats().hitCount()).isZero();
+    assertThat(addressCodec.encodeAccountIdStats().hitCount()).isZero();
+  }
+
+  @Test
+  public void classicAddressConversionsUseCache() {
+    assertThat(addressCodec.isValidClassicAddress(ADDRESS)).isTrue();
+    addressCodec.classicAddressToXAddress(ADDRESS, true);
+    assertThat(addressCodec.decodeAccountIdStats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void invalidateAll() {
+    addressCodec.decodeAccountId(ADDRESS);
+    addressCodec.invalidateAll();
+    addressCodec.decodeAccountId(ADDRESS);
+    assertThat(addressCodec.decodeAccountIdStats().missCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void createInstance() {
+    assertThat(AddressCodec.createInstance(null)).isExactlyInstanceOf(AddressCodec.class);
+    assertThat(AddressCodec.createInstance(" ")).isExactlyInstanceOf(AddressCodec.class);
+    assertThat(AddressCodec.createInstance("maximumSize=100")).isInstanceOf(CachingAddressCodec.class);
+    assertThat(AddressCodec.createInstance("notAKey=1")).isExactlyInstanceOf(AddressCodec.class);
+  }
+}
@@ -0,0 +1,144 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static java.util.Arrays.copyOfRange;
+
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The original byte-at-a-time implementation of {@link Base58#encode(byte[])} and {@link Base58#decode(String)}, kept
+ * as a reference for {@link Base58DifferentialTest}.
+ */
+final class LegacyBase58 {
+
+  private static final char[] ALPHABET = Base58.ALPHABET;
+
+  private static final int[] INDEXES = new int[255];
+
+  static {
+    Arrays.fill(INDEXES, -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      INDEXES[ALPHABET[i]] = i;
+    }
+  }
+
+  private LegacyBase58() {
+  }
+
+  static String encode(byte[] input) {
+    if (input.length == 0) {
+      return "";
+    }
+    input = copyOfRange(input, 0, input.length);
+    int zeroCount = 0;
+    while (zeroCount < input.length && input[zeroCount] == 0) {
+      ++zeroCount;
+    }
+    byte[] temp = new byte[input.length * 2];
+    int tempIndex = temp.length;
+
+    int startAt = zeroCount;
+    while (startAt < input.length) {
+      byte mod = divmod58(input, startAt);
+      if (input[startAt] == 0) {
+        ++startAt;
+      }
+      temp[--tempIndex] = (byte) ALPHABET[mod];
+    }
+
+    while (tempIndex < temp.length && temp[tempIndex] == ALPHABET[0]) {
+      ++tempIndex;
+    }
+    while (--zeroCount >= 0) {
+      temp[--tempIndex] = (byte) ALPHABET[0];
+    }
+
+    byte[] output = copyOfRange(temp, tempIndex, temp.length);
+    return new String(output, StandardCharsets.US_ASCII);
+  }
+
+  static byte[] decode(String input) {
+    if (input.length() == 0) {
+      return new byte[0];
+    }
+    byte[] input58 = new byte[input.length()];
+    for (int i = 0; i < input.length(); ++i) {
+      char charAtIndex = input.charAt(i);
+
+      int digit58 = -1;
+      if (charAtIndex < INDEXES.length) {
+        digit58 = INDEXES[charAtIndex];
+      }
+      if (digit58 < 0) {
+        throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + i);
+      }
+
+      input58[i] = (byte) digit58;
+    }
+    int zeroCount = 0;
+    while (zeroCount < input58.length && input58[zeroCount] == 0) {
+      ++zeroCount;
+    }
+    byte[] temp = new byte[input.length()];
+    int tempIndex = temp.length;
+
+    int startAt = zeroCount;
+    while (startAt < input58.length) {
+      byte mod = divmod256(input58, startAt);
+      if (input58[startAt] == 0) {
+        ++startAt;
+      }
+
+      temp[--tempIndex] = mod;
+    }
+    while (tempIndex < temp.length && temp[tempIndex] == 0) {
+      ++tempIndex;
+    }
+
+    return copyOfRange(temp, tempIndex - zeroCount, temp.length);
+  }
+
+  private static byte divmod58(byte[] number, int startAt) {
+    int remainder = 0;
+    for (int i = startAt; i < number.length; i++) {
+      int digit256 = (int) number[i] & 0xFF;
+      int temp = remainder * 256 + digit256;
+      number[i] = (byte) (temp / 58);
+      remainder = temp % 58;
+    }
+    return (byte) remainder;
+  }
+
+  private static byte divmod256(byte[] number58, int startAt) {
+    int remainder = 0;
+    for (int i = startAt; i < number58.length; i++) {
+      int digit58 = (int) number58[i] & 0xFF;
+      int temp = remainder * 58 + digit58;
+      number58[i] = (byte) (temp / 256);
+      remainder = temp % 256;
+    }
+    return (byte) remainder;
+  }
+}
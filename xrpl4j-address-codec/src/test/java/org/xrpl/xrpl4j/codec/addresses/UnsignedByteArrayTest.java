@@ -26,6 +26,7 @@ import static org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray.of;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -123,6 +124,40 @@ public class UnsignedByteArrayTest {
     assertThat(array2.length()).isEqualTo(initialLength + 2);
   }
 
+  @Test
+  public void appendRawBytes() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 1});
+    array.append((byte) 2).append(new byte[] {7, 3, 4, 7}, 1, 2);
+    assertThat(array).isEqualTo(UnsignedByteArray.of(new byte[] {0, 1, 2, 3, 4}));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.append(new byte[] {1}, 1, 1));
+  }
+
+  @Test
+  public void appendGrowsBeyondInitialCapacity() {
+    UnsignedByteArray array = UnsignedByteArray.withCapacity(1);
+    byte[] expected = new byte[1000];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = (byte) i;
+      array.append((byte) i);
+    }
+    assertThat(array.length()).isEqualTo(expected.length);
+    assertThat(array.toByteArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public void appendToSelf() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {1, 2});
+    assertThat(array.append(array)).isEqualTo(UnsignedByteArray.of(new byte[] {1, 2, 1, 2}));
+  }
+
+  @Test
+  public void getByte() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, MAX_BYTE});
+    assertThat(array.getByte(1)).isEqualTo(MAX_BYTE);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.getByte(2));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+  }
+
   @Test
   public void fill() {
     List<UnsignedByte> unsignedBytes1 = new ArrayList<>();
@@ -152,6 +187,81 @@ public class UnsignedByteArrayTest {
     Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array1.slice(1, 5));
   }
 
+  @Test
+  public void sliceSharesStorageUntilAppended() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 8, 9, 1});
+    UnsignedByteArray slice = array.slice(1, 3);
+
+    array.set(1, UnsignedByte.of(7));
+    assertThat(slice).isEqualTo(UnsignedByteArray.of(new byte[] {7, 9}));
+
+    slice.append(UnsignedByte.of(5));
+    assertThat(slice).isEqualTo(UnsignedByteArray.of(new byte[] {7, 9, 5}));
+    assertThat(array).isEqualTo(UnsignedByteArray.of(new byte[] {0, 7, 9, 1}));
+
+    slice.set(0, UnsignedByte.of(3));
+    assertThat(array.get(1)).isEqualTo(UnsignedByte.of(7));
+  }
+
+  @Test
+  public void wrapSharesStorageUntilAppended() {
+    byte[] bytes = new byte[] {0, 8, 9, 1};
+    UnsignedByteArray wrapped = UnsignedByteArray.wrap(bytes, 1, 2);
+    assertThat(wrapped).isEqualTo(UnsignedByteArray.of(new byte[] {8, 9}));
+
+    bytes[1] = 7;
+    assertThat(wrapped.get(0)).isEqualTo(UnsignedByte.of(7));
+
+    wrapped.append(UnsignedByte.of(5));
+    assertThat(wrapped).isEqualTo(UnsignedByteArray.of(new byte[] {7, 9, 5}));
+    assertThat(bytes).containsExactly(0, 7, 9, 1);
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> UnsignedByteArray.wrap(bytes, 3, 2));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> UnsignedByteArray.wrap(bytes, -1, 2));
+  }
+
+  @Test
+  public void clear() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {1, 2, 3});
+    assertThat(array.clear().length()).isEqualTo(0);
+    array.append(UnsignedByte.of(4));
+    assertThat(array).isEqualTo(UnsignedByteArray.of(new byte[] {4}));
+  }
+
+  @Test
+  public void clearPreservesSlicesAndBuffers() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {1, 2, 3});
+    UnsignedByteArray slice = array.slice(0, 2);
+    ByteBuffer buffer = array.toByteBuffer();
+
+    array.clear().append(UnsignedByte.of(9)).append(UnsignedByte.of(9));
+    assertThat(slice).isEqualTo(UnsignedByteArray.of(new byte[] {1, 2}));
+    assertThat(buffer.get(0)).isEqualTo((byte) 1);
+
+    slice.clear().append(UnsignedByte.of(7));
+    assertThat(array).isEqualTo(UnsignedByteArray.of(new byte[] {9, 9}));
+  }
+
+  @Test
+  public void toByteBuffer() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 8, 9, 1}).slice(1, 3);
+    ByteBuffer buffer = array.toByteBuffer();
+    assertThat(buffer.isReadOnly()).isTrue();
+    assertThat(buffer.position()).isEqualTo(0);
+    assertThat(buffer.remaining()).isEqualTo(2);
+    assertThat(buffer.get(0)).isEqualTo((byte) 8);
+    assertThat(buffer.get(1)).isEqualTo((byte) 9);
+  }
+
+  @Test
+  public void unsignedBytesView() {
+    UnsignedByteArray array = UnsignedByteArray.of(new byte[] {0, 1});
+    List<UnsignedByte> view = array.getUnsignedBytes();
+    assertThat(view).containsExactly(UnsignedByte.of(0), UnsignedByte.of(1));
+    view.set(0, UnsignedByte.of(9));
+    assertThat(array.get(0)).isEqualTo(UnsignedByte.of(9));
+  }
+
   @Test
   public void hashcode() {
     UnsignedByteArray array1 = UnsignedByteArray.of(new byte[] {0, 1});
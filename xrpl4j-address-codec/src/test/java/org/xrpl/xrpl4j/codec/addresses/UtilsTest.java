@@ -0,0 +1,81 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link Utils}.
+ */
+public class UtilsTest {
+
+  private static final byte[] INPUT = "hello".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] EXPECTED = Hashing.sha256().hashBytes(
+    Hashing.sha256().hashBytes(INPUT).asBytes()
+  ).asBytes();
+
+  @Test
+  public void doubleDigest() {
+    assertThat(Utils.doubleDigest(INPUT)).isEqualTo(EXPECTED);
+  }
+
+  @Test
+  public void doubleDigestRange() {
+    byte[] padded = new byte[INPUT.length + 4];
+    System.arraycopy(INPUT, 0, padded, 2, INPUT.length);
+    assertThat(Utils.doubleDigest(padded, 2, INPUT.length)).isEqualTo(EXPECTED);
+  }
+
+  @Test
+  public void doubleDigestFromManyThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> {
+          for (int j = 0; j < 1_000; j++) {
+            if (!Arrays.equals(Utils.doubleDigest(INPUT), EXPECTED)) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
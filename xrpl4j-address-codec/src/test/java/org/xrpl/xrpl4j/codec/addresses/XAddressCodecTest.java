@@ -0,0 +1,147 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.XAddress;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link XAddressCodec}.
+ */
+@SuppressWarnings( {"ParameterName", "LocalVariableName", "MemberName"})
+public class XAddressCodecTest {
+
+  private final AddressCodec addressCodec = new AddressCodec();
+  private final XAddressCodec xAddressCodec = new XAddressCodec();
+
+  public static Collection<Object[]> data() {
+    return XAddressTest.data();
+  }
+
+  @ParameterizedTest
+  @MethodSource("data")
+  public void convertBetweenClassicAndXAddress(
+    Address classicAddress,
+    UnsignedInteger tag,
+    XAddress mainnetXAddress,
+    XAddress testnetXAddress
+  ) {
+    long longTag = tag == null ? XAddressCodec.NO_TAG : tag.longValue();
+
+    assertThat(xAddressCodec.classicAddressToXAddress(classicAddress.value(), longTag, false))
+      .isEqualTo(mainnetXAddress.value());
+    assertThat(xAddressCodec.classicAddressToXAddress(classicAddress.value(), longTag, true))
+      .isEqualTo(testnetXAddress.value());
+
+    assertThat(xAddressCodec.xAddressToClassicAddress(mainnetXAddress.value())).isEqualTo(classicAddress.value());
+    assertThat(xAddressCodec.tag()).isEqualTo(longTag);
+    assertThat(xAddressCodec.test()).isFalse();
+
+    assertThat(xAddressCodec.xAddressToClassicAddress(testnetXAddress.value())).isEqualTo(classicAddress.value());
+    assertThat(xAddressCodec.tag()).isEqualTo(longTag);
+    assertThat(xAddressCodec.test()).isTrue();
+  }
+
+  @Test
+  public void encodeAndDecodeMatchAddressCodec() {
+    Random random = new Random(0);
+    byte[] accountId = new byte[24];
+    byte[] decodedAccountId = new byte[24];
+    char[] output = new char[64];
+    for (int i = 0; i < 1_000; i++) {
+      random.nextBytes(accountId);
+      long tag = random.nextBoolean() ? XAddressCodec.NO_TAG : random.nextInt() & XAddressCodec.MAX_TAG;
+      boolean test = random.nextBoolean();
+
+      XAddress expected = addressCodec.classicAddressToXAddress(
+        addressCodec.encodeAccountId(UnsignedByteArray.of(accountId).slice(3, 23)),
+        tag == XAddressCodec.NO_TAG ? Optional.empty() : Optional.of(UnsignedInteger.valueOf(tag)),
+        test
+      );
+      assertThat(xAddressCodec.encode(accountId, 3, tag, test)).isEqualTo(expected.value());
+
+      int length = xAddressCodec.encode(accountId, 3, tag, test, output, 5);
+      assertThat(new String(output, 5, length)).isEqualTo(expected.value());
+
+      xAddressCodec.decode(expected.value(), decodedAccountId, 1);
+      assertThat(UnsignedByteArray.of(decodedAccountId).slice(1, 21))
+        .isEqualTo(UnsignedByteArray.of(accountId).slice(3, 23));
+      assertThat(xAddressCodec.tag()).isEqualTo(tag);
+      assertThat(xAddressCodec.test()).isEqualTo(test);
+    }
+  }
+
+  @Test
+  public void encodeWithInvalidArguments() {
+    assertThatThrownBy(() -> xAddressCodec.encode(new byte[19], 0, XAddressCodec.NO_TAG, false))
+      .isInstanceOf(EncodeException.class);
+    assertThatThrownBy(() -> xAddressCodec.encode(new byte[20], 1, XAddressCodec.NO_TAG, false))
+      .isInstanceOf(EncodeException.class);
+    assertThatThrownBy(() -> xAddressCodec.encode(new byte[20], 0, XAddressCodec.MAX_TAG + 1, false))
+      .isInstanceOf(EncodeException.class);
+    assertThatThrownBy(() -> xAddressCodec.encode(new byte[20], 0, -2, false))
+      .isInstanceOf(EncodeException.class);
+    assertThatThrownBy(() -> xAddressCodec.classicAddressToXAddress("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35Erp", 1, false))
+      .isInstanceOf(EncodingFormatException.class);
+    assertThatThrownBy(() -> xAddressCodec.classicAddressToXAddress(
+      "XVLhHMPHU98es4dbozjVtdWzVrDjtV18pX8yuPT7y4xaEHi", 1, false)
+    ).isInstanceOf(DecodeException.class);
+  }
+
+  @Test
+  public void decodeWithBadPrefix() {
+    assertThatThrownBy(() -> xAddressCodec.xAddressToClassicAddress("dGzKGt8CVpWoa8aWL1k18tAdy9Won3PxynvbbpkAqp3V47g"))
+      .isInstanceOf(DecodeException.class)
+      .hasMessage("Invalid X-Address: Bad Prefix");
+  }
+
+  @Test
+  public void decodeWith64BitTag() {
+    assertThatThrownBy(() -> xAddressCodec.xAddressToClassicAddress("XVLhHMPHU98es4dbozjVtdWzVrDjtV18pX8zeUygYrCgrPh"))
+      .isInstanceOf(DecodeException.class)
+      .hasMessage("Unsupported X-Address: 64-bit tags are not supported");
+  }
+
+  @Test
+  public void decodeWithBadChecksumOrCharacters() {
+    assertThatThrownBy(() -> xAddressCodec.xAddressToClassicAddress("XVLhHMPHU98es4dbozjVtdWzVrDjtV18pX8yuPT7y4xaEHj"))
+      .isInstanceOf(EncodingFormatException.class)
+      .hasMessage("Checksum does not validate");
+    assertThatThrownBy(() -> xAddressCodec.xAddressToClassicAddress("XVLhHMPHU98es4dbozjVtdWzVrDjtV18pX8yuPT7y4xaEH0"))
+      .isInstanceOf(EncodingFormatException.class);
+    assertThatThrownBy(() -> xAddressCodec.xAddressToClassicAddress("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN"))
+      .isInstanceOf(DecodeException.class);
+  }
+}
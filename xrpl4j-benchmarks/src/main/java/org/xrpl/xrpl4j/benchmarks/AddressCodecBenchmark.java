@@ -0,0 +1,113 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AddressCodec} classic address conversions over every classic address found in the fixture corpora.
+ * Run with {@code -prof gc} to report allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddressCodecBenchmark {
+
+  AddressCodec addressCodec;
+  Address[] addresses;
+  UnsignedByteArray[] accountIds;
+  ByteBuffer[] accountIdBuffers;
+  CharBuffer chars;
+  int index;
+
+  /**
+   * Collect the fixture addresses and precompute their AccountIDs.
+   */
+  @Setup
+  public void setUp() {
+    addressCodec = AddressCodec.getInstance();
+    addresses = Fixtures.classicAddresses().stream()
+      .map(Address::of)
+      .filter(addressCodec::isValidClassicAddress)
+      .toArray(Address[]::new);
+    accountIds = new UnsignedByteArray[addresses.length];
+    accountIdBuffers = new ByteBuffer[addresses.length];
+    for (int i = 0; i < addresses.length; i++) {
+      accountIds[i] = addressCodec.decodeAccountId(addresses[i]);
+      accountIdBuffers[i] = ByteBuffer.wrap(accountIds[i].toByteArray());
+    }
+    chars = CharBuffer.allocate(64);
+  }
+
+  @Benchmark
+  public Address encodeAccountId() {
+    return addressCodec.encodeAccountId(accountIds[next()]);
+  }
+
+  /**
+   * Encode an AccountID into a reused {@link CharBuffer}.
+   *
+   * @return The number of characters written.
+   */
+  @Benchmark
+  public int encodeAccountIdIntoBuffer() {
+    ByteBuffer accountId = accountIdBuffers[next()];
+    accountId.rewind();
+    chars.clear();
+    return addressCodec.encodeAccountId(accountId, chars);
+  }
+
+  @Benchmark
+  public UnsignedByteArray decodeAccountId() {
+    return addressCodec.decodeAccountId(addresses[next()]);
+  }
+
+  @Benchmark
+  public boolean isValidClassicAddress() {
+    return addressCodec.isValidClassicAddress(addresses[next()]);
+  }
+
+  private int next() {
+    int current = index;
+    index = current + 1 == addresses.length ? 0 : current + 1;
+    return current;
+  }
+
+}
@@ -0,0 +1,97 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.Base58;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Base58} over the checked payloads of every classic address found in the fixture corpora. Run with
+ * {@code -prof gc} to report allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Base58Benchmark {
+
+  String[] encoded;
+  byte[][] payloads;
+  byte[][] checkedPayloads;
+  int index;
+
+  /**
+   * Decode the fixture addresses into their raw and checksummed payloads.
+   */
+  @Setup
+  public void setUp() {
+    List<String> addresses = Fixtures.classicAddresses();
+    encoded = addresses.toArray(new String[0]);
+    payloads = new byte[encoded.length][];
+    checkedPayloads = new byte[encoded.length][];
+    for (int i = 0; i < encoded.length; i++) {
+      payloads[i] = Base58.decode(encoded[i]);
+      checkedPayloads[i] = Base58.decodeChecked(encoded[i]);
+    }
+  }
+
+  @Benchmark
+  public String encode() {
+    return Base58.encode(payloads[next()]);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Base58.decode(encoded[next()]);
+  }
+
+  @Benchmark
+  public String encodeChecked() {
+    return Base58.encodeChecked(checkedPayloads[next()]);
+  }
+
+  @Benchmark
+  public byte[] decodeChecked() throws EncodingFormatException {
+    return Base58.decodeChecked(encoded[next()]);
+  }
+
+  private int next() {
+    int current = index;
+    index = current + 1 == encoded.length ? 0 : current + 1;
+    return current;
+  }
+
+}
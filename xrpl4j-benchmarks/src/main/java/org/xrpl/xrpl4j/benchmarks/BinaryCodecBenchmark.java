@@ -0,0 +1,107 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link XrplBinaryCodec} encoding and decoding over the fixture corpora, cycling through every entry of the
+ * selected corpus so that the result reflects the corpus' mix of field types. Run with {@code -prof gc} to report
+ * allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryCodecBenchmark {
+
+  @Param( {Fixtures.ACCOUNT_STATE, Fixtures.TRANSACTIONS, Fixtures.WHOLE_OBJECTS})
+  String corpus;
+
+  XrplBinaryCodec codec;
+  String[] json;
+  String[] hex;
+  int index;
+
+  /**
+   * Load the selected corpus, keeping only the entries that the codec can encode. Some {@code accountState} entries
+   * carry hex {@code UInt64} values that {@link XrplBinaryCodec#encode(String)} does not accept.
+   */
+  @Setup
+  public void setUp() {
+    codec = new XrplBinaryCodec();
+    List<Fixtures.Entry> entries = new ArrayList<>();
+    for (Fixtures.Entry entry : Fixtures.load(corpus)) {
+      try {
+        codec.encode(entry.json);
+        entries.add(entry);
+      } catch (JsonProcessingException | RuntimeException e) {
+        // Not encodable by the current codec, so not a meaningful input for either direction.
+      }
+    }
+    json = new String[entries.size()];
+    hex = new String[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      json[i] = entries.get(i).json;
+      hex[i] = entries.get(i).hex;
+    }
+  }
+
+  @Benchmark
+  public String encode() throws JsonProcessingException {
+    return codec.encode(json[next()]);
+  }
+
+  @Benchmark
+  public String encodeForSigning() throws JsonProcessingException {
+    return codec.encodeForSigning(json[next()]);
+  }
+
+  @Benchmark
+  public String decode() {
+    return codec.decode(hex[next()]);
+  }
+
+  private int next() {
+    int current = index;
+    index = current + 1 == json.length ? 0 : current + 1;
+    return current;
+  }
+
+}
@@ -0,0 +1,114 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.Base58;
+import org.xrpl.xrpl4j.codec.addresses.Utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Base58Check checksum path at 1, 8 and 64 threads, comparing {@link Utils#doubleDigest(byte[])} with the
+ * single {@code synchronized} {@link MessageDigest} it replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChecksumContentionBenchmark {
+
+  private static final MessageDigest SHARED_DIGEST;
+
+  static {
+    try {
+      SHARED_DIGEST = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * A version byte, a 20 byte AccountID and a 4 byte checksum.
+   */
+  private final byte[] payload = Base58.decode("rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe");
+
+  private final byte[] accountIdAndVersion = Arrays.copyOf(payload, 21);
+
+  @Benchmark
+  @Threads(1)
+  public byte[] threadLocal1() {
+    return Utils.doubleDigest(accountIdAndVersion);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public byte[] threadLocal8() {
+    return Utils.doubleDigest(accountIdAndVersion);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public byte[] threadLocal64() {
+    return Utils.doubleDigest(accountIdAndVersion);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public byte[] synchronized1() {
+    return synchronizedDoubleDigest(accountIdAndVersion);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public byte[] synchronized8() {
+    return synchronizedDoubleDigest(accountIdAndVersion);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public byte[] synchronized64() {
+    return synchronizedDoubleDigest(accountIdAndVersion);
+  }
+
+  private static byte[] synchronizedDoubleDigest(byte[] input) {
+    synchronized (SHARED_DIGEST) {
+      SHARED_DIGEST.reset();
+      SHARED_DIGEST.update(input, 0, input.length);
+      byte[] first = SHARED_DIGEST.digest();
+      return SHARED_DIGEST.digest(first);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefaultDefinitionsProvider;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsIndex;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold-start cost of loading the binary codec's definitions: each measurement is the first and only call
+ * in a fresh JVM. Compares the shared index read from the compiled {@code definitions.bin} against building the same
+ * index from {@code definitions.json} with Jackson.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class DefinitionsStartupBenchmark {
+
+  @Benchmark
+  public Object compiled() {
+    return new Object[] {DefinitionsService.getInstance(), FieldHeaderCodec.getInstance()};
+  }
+
+  /**
+   * Build the index from {@code definitions.json}, as the codec did before {@code definitions.bin}.
+   *
+   * @return The index and a codec over it.
+   */
+  @Benchmark
+  public Object json() {
+    DefinitionsIndex index = DefinitionsIndex.of(
+      new DefaultDefinitionsProvider(BinaryCodecObjectMapperFactory.getObjectMapper()).get()
+    );
+    return new Object[] {index, new FieldHeaderCodec(index)};
+  }
+
+}
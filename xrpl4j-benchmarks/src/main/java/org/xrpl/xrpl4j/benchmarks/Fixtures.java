@@ -0,0 +1,149 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Loads the binary codec's {@code codec-fixtures.json} and {@code data-driven-tests.json} corpora, which are packaged
+ * into the benchmarks jar so that every suite runs offline against the same inputs as the codec's unit tests.
+ */
+final class Fixtures {
+
+  /**
+   * The {@code accountState} ledger entries of {@code codec-fixtures.json}.
+   */
+  static final String ACCOUNT_STATE = "accountState";
+
+  /**
+   * The {@code transactions} of {@code codec-fixtures.json}.
+   */
+  static final String TRANSACTIONS = "transactions";
+
+  /**
+   * The {@code whole_objects} transactions of {@code data-driven-tests.json}.
+   */
+  static final String WHOLE_OBJECTS = "wholeObjects";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private Fixtures() {
+  }
+
+  /**
+   * A JSON object and its canonical binary encoding.
+   */
+  static final class Entry {
+
+    final String json;
+    final String hex;
+
+    Entry(final String json, final String hex) {
+      this.json = Objects.requireNonNull(json);
+      this.hex = Objects.requireNonNull(hex);
+    }
+
+  }
+
+  /**
+   * Load the entries of one corpus.
+   *
+   * @param corpus One of {@link #ACCOUNT_STATE}, {@link #TRANSACTIONS} or {@link #WHOLE_OBJECTS}.
+   *
+   * @return A {@link List} of {@link Entry}.
+   */
+  static List<Entry> load(final String corpus) {
+    Objects.requireNonNull(corpus);
+    final List<Entry> entries = new ArrayList<>();
+    switch (corpus) {
+      case ACCOUNT_STATE:
+      case TRANSACTIONS: {
+        for (JsonNode node : read("/codec-fixtures.json").get(corpus)) {
+          entries.add(new Entry(node.get("json").toString(), node.get("binary").asText()));
+        }
+        break;
+      }
+      case WHOLE_OBJECTS: {
+        for (JsonNode node : read("/data-driven-tests.json").get("whole_objects")) {
+          entries.add(new Entry(node.get("tx_json").toString(), node.get("blob_with_no_signing").asText()));
+        }
+        break;
+      }
+      default: {
+        throw new IllegalArgumentException("Unknown corpus: " + corpus);
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Collect the distinct classic addresses found in the top-level fields of every corpus.
+   *
+   * @return A {@link List} of classic address {@link String}s.
+   */
+  static List<String> classicAddresses() {
+    final Set<String> addresses = new LinkedHashSet<>();
+    for (String corpus : new String[] {ACCOUNT_STATE, TRANSACTIONS, WHOLE_OBJECTS}) {
+      for (Entry entry : load(corpus)) {
+        Iterator<Map.Entry<String, JsonNode>> fields = parse(entry.json).fields();
+        while (fields.hasNext()) {
+          String value = fields.next().getValue().asText();
+          if (value.startsWith("r") && value.length() >= 25 && value.length() <= 35) {
+            addresses.add(value);
+          }
+        }
+      }
+    }
+    return new ArrayList<>(addresses);
+  }
+
+  private static JsonNode parse(final String json) {
+    try {
+      return OBJECT_MAPPER.readTree(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static JsonNode read(final String resource) {
+    try (InputStream input = Fixtures.class.getResourceAsStream(resource)) {
+      if (input == null) {
+        throw new IllegalStateException("Missing fixture resource " + resource);
+      }
+      return OBJECT_MAPPER.readTree(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
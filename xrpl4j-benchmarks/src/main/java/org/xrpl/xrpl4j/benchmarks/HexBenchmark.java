@@ -0,0 +1,118 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Joiner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the table-driven hex codec in {@link ByteUtils} with the substring/{@link Joiner} based implementation it
+ * replaced, on 32 byte hashes and 1 KB blobs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HexBenchmark {
+
+  @Param({"32", "1024"})
+  int size;
+
+  byte[] bytes;
+  List<UnsignedByte> unsignedBytes;
+  String hex;
+  StringBuilder builder;
+
+  /**
+   * Generate random input of {@link #size} bytes.
+   */
+  @Setup
+  public void setUp() {
+    bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    unsignedBytes = new ArrayList<>(size);
+    for (byte value : bytes) {
+      unsignedBytes.add(UnsignedByte.of(value));
+    }
+    hex = ByteUtils.toHex(bytes);
+    builder = new StringBuilder(size * 2);
+  }
+
+  @Benchmark
+  public String encodeLegacy() {
+    return Joiner.on("").join(unsignedBytes.stream().map(UnsignedByte::hexValue).collect(Collectors.toList()));
+  }
+
+  @Benchmark
+  public String encodeTable() {
+    return ByteUtils.toHex(bytes);
+  }
+
+  @Benchmark
+  public StringBuilder encodeTableIntoBuilder() {
+    builder.setLength(0);
+    return ByteUtils.appendHex(builder, bytes, 0, bytes.length);
+  }
+
+  /**
+   * The substring and {@link BigInteger} based parsing that {@code ByteUtils.parse} used before the lookup table.
+   *
+   * @return The decoded bytes.
+   */
+  @Benchmark
+  public List<UnsignedByte> decodeLegacy() {
+    List<UnsignedByte> result = new ArrayList<>();
+    for (int i = 0; i < hex.length(); i += 2) {
+      String pair = hex.substring(i, i + 2);
+      byte highBits = new BigInteger(pair.substring(0, 1), 16).byteValue();
+      byte lowBits = new BigInteger(pair.substring(1, 2), 16).byteValue();
+      result.add(UnsignedByte.of(highBits, lowBits));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public byte[] decodeTable() {
+    return ByteUtils.fromHex(hex);
+  }
+
+}
@@ -0,0 +1,132 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.ModelBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding model {@link Transaction}s through their JSON form with {@link XrplBinaryCodec}
+ * against doing so directly with {@link ModelBinaryCodec}, over the fixture transactions that the model can represent.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBinaryCodecBenchmark {
+
+  ObjectMapper objectMapper;
+  XrplBinaryCodec binaryCodec;
+  ModelBinaryCodec modelCodec;
+  Transaction[] transactions;
+  String[] hex;
+  UnsignedByteArray[] bytes;
+  int index;
+
+  /**
+   * Load every fixture transaction that deserializes to a model {@link Transaction}.
+   */
+  @Setup
+  public void setUp() {
+    objectMapper = ObjectMapperFactory.create();
+    binaryCodec = new XrplBinaryCodec();
+    modelCodec = new ModelBinaryCodec(objectMapper);
+    List<Transaction> loaded = new ArrayList<>();
+    for (String corpus : new String[] {Fixtures.TRANSACTIONS, Fixtures.WHOLE_OBJECTS}) {
+      for (Fixtures.Entry entry : Fixtures.load(corpus)) {
+        try {
+          loaded.add(objectMapper.readValue(entry.json, Transaction.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+          // Not representable by the model.
+        }
+      }
+    }
+    transactions = loaded.toArray(new Transaction[0]);
+    hex = new String[transactions.length];
+    bytes = new UnsignedByteArray[transactions.length];
+    for (int i = 0; i < transactions.length; i++) {
+      bytes[i] = modelCodec.encode(transactions[i]);
+      hex[i] = bytes[i].hexValue();
+    }
+  }
+
+  @Benchmark
+  public UnsignedByteArray encodeViaJson() throws JsonProcessingException {
+    return UnsignedByteArray.fromHex(binaryCodec.encode(nextJson()));
+  }
+
+  @Benchmark
+  public UnsignedByteArray encodeDirect() {
+    return modelCodec.encode(transactions[next()]);
+  }
+
+  @Benchmark
+  public UnsignedByteArray encodeForSigningViaJson() throws JsonProcessingException {
+    return UnsignedByteArray.fromHex(binaryCodec.encodeForSigning(nextJson()));
+  }
+
+  @Benchmark
+  public UnsignedByteArray encodeForSigningDirect() {
+    return modelCodec.encodeForSigning(transactions[next()]);
+  }
+
+  @Benchmark
+  public Transaction decodeViaJson() throws JsonProcessingException {
+    return objectMapper.readValue(binaryCodec.decode(hex[next()]), Transaction.class);
+  }
+
+  @Benchmark
+  public Transaction decodeDirect() {
+    return modelCodec.decodeTransaction(bytes[next()]);
+  }
+
+  private String nextJson() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(transactions[next()]);
+  }
+
+  private int next() {
+    int current = index;
+    index = current + 1 == transactions.length ? 0 : current + 1;
+    return current;
+  }
+
+}
@@ -0,0 +1,91 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectView;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a filtering workload over the {@code accountState} corpus: find the owner of each {@code AccountRoot}
+ * entry. Compares decoding whole entries to JSON against reading the two fields needed through an
+ * {@link STObjectView}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("AbbreviationAsWordInName")
+public class STObjectViewBenchmark {
+
+  private static final int ACCOUNT_ROOT = 0x61;
+
+  UnsignedByteArray[] bytes;
+  int index;
+
+  /**
+   * Load the {@code accountState} corpus as bytes.
+   */
+  @Setup
+  public void setUp() {
+    List<Fixtures.Entry> entries = Fixtures.load(Fixtures.ACCOUNT_STATE);
+    bytes = new UnsignedByteArray[entries.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = UnsignedByteArray.fromHex(entries.get(i).hex);
+    }
+  }
+
+  @Benchmark
+  public String fullDecode() {
+    JsonNode entry = STObjectType.CODEC.readJson(new BinaryParser(bytes[next()]));
+    return entry.get("LedgerEntryType").asText().equals("AccountRoot") ? entry.get("Account").asText() : null;
+  }
+
+  @Benchmark
+  public String view() {
+    STObjectView entry = new STObjectView(bytes[next()]);
+    return entry.getUInt16("LedgerEntryType") == ACCOUNT_ROOT ? entry.getAccountId("Account").value() : null;
+  }
+
+  private int next() {
+    int current = index;
+    index = current + 1 == bytes.length ? 0 : current + 1;
+    return current;
+  }
+
+}
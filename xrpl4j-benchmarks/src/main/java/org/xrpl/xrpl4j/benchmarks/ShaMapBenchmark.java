@@ -0,0 +1,84 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.io.BaseEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.shamap.ShaMap;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures computing the root hash of a state tree of 100,000 ledger entries, on the calling thread and with the
+ * subtrees under the root hashed on the common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShaMapBenchmark {
+
+  private static final int ENTRIES = 100_000;
+
+  ShaMap stateMap;
+
+  /**
+   * Build a map of random keys and 100-byte entries.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(23);
+    stateMap = new ShaMap();
+    byte[] key = new byte[32];
+    byte[] entry = new byte[100];
+    for (int i = 0; i < ENTRIES; i++) {
+      random.nextBytes(key);
+      random.nextBytes(entry);
+      stateMap.addLedgerEntry(Hash256.of(BaseEncoding.base16().encode(key)), UnsignedByteArray.of(entry));
+    }
+  }
+
+  @Benchmark
+  public Hash256 sequential() {
+    return stateMap.hash();
+  }
+
+  @Benchmark
+  public Hash256 parallel() {
+    return stateMap.hash(ForkJoinPool.commonPool());
+  }
+
+}
@@ -0,0 +1,115 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.keypairs.Ed25519KeyPairService;
+import org.xrpl.xrpl4j.keypairs.KeyPair;
+import org.xrpl.xrpl4j.keypairs.KeyPairService;
+import org.xrpl.xrpl4j.keypairs.Secp256k1KeyPairService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures transaction signing and signature verification for both key types, over the signing encodings of the
+ * {@code data-driven-tests.json} transactions. Keys are derived from a fixed seed so that runs are comparable. Run with
+ * {@code -prof gc} to report allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SigningBenchmark {
+
+  private static final UnsignedByteArray ENTROPY = UnsignedByteArray.fromHex("0102030405060708090A0B0C0D0E0F10");
+
+  @Param( {"ED25519", "SECP256K1"})
+  String algorithm;
+
+  KeyPairService keyPairService;
+  KeyPair keyPair;
+  UnsignedByteArray[] messages;
+  String[] signatures;
+  int index;
+
+  /**
+   * Derive the key pair and precompute the messages and their signatures.
+   *
+   * @throws JsonProcessingException If a fixture cannot be encoded.
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    if ("ED25519".equals(algorithm)) {
+      keyPairService = Ed25519KeyPairService.getInstance();
+    } else {
+      keyPairService = Secp256k1KeyPairService.getInstance();
+    }
+    keyPair = keyPairService.deriveKeyPair(keyPairService.generateSeed(ENTROPY));
+
+    XrplBinaryCodec codec = new XrplBinaryCodec();
+    List<Fixtures.Entry> entries = Fixtures.load(Fixtures.WHOLE_OBJECTS);
+    messages = new UnsignedByteArray[entries.size()];
+    signatures = new String[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      messages[i] = UnsignedByteArray.fromHex(codec.encodeForSigning(entries.get(i).json));
+      signatures[i] = keyPairService.sign(messages[i], keyPair.privateKey());
+    }
+  }
+
+  @Benchmark
+  public String sign() {
+    return keyPairService.sign(messages[next()], keyPair.privateKey());
+  }
+
+  /**
+   * Verify a precomputed signature.
+   *
+   * @return Whether the signature is valid.
+   */
+  @Benchmark
+  public boolean verify() {
+    int current = next();
+    return keyPairService.verify(messages[current], signatures[current], keyPair.publicKey());
+  }
+
+  private int next() {
+    int current = index;
+    index = current + 1 == messages.length ? 0 : current + 1;
+    return current;
+  }
+
+}
@@ -0,0 +1,118 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: benchmarks
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.ClassicAddress;
+import org.xrpl.xrpl4j.codec.addresses.XAddressCodec;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.XAddress;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link XAddressCodec} with the {@link AddressCodec} X-Address conversions, for an account with a
+ * destination tag. Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings( {"MemberName", "MethodName"})
+public class XAddressBenchmark {
+
+  private static final Address CLASSIC_ADDRESS = Address.of("rGWrZyQqhTp9Xu7G5Pkayo7bXjH4k4QYpf");
+  private static final long TAG = 16781933;
+
+  AddressCodec addressCodec;
+  XAddressCodec xAddressCodec;
+  XAddress xAddress;
+  byte[] accountId;
+  char[] chars;
+
+  /**
+   * Create the codecs and precompute the inputs.
+   */
+  @Setup
+  public void setUp() {
+    addressCodec = new AddressCodec();
+    xAddressCodec = new XAddressCodec();
+    xAddress = addressCodec.classicAddressToXAddress(CLASSIC_ADDRESS, UnsignedInteger.valueOf(TAG), false);
+    accountId = addressCodec.decodeAccountId(CLASSIC_ADDRESS).toByteArray();
+    chars = new char[64];
+  }
+
+  @Benchmark
+  public XAddress classicToXAddressLegacy() {
+    return addressCodec.classicAddressToXAddress(CLASSIC_ADDRESS, Optional.of(UnsignedInteger.valueOf(TAG)), false);
+  }
+
+  @Benchmark
+  public String classicToXAddress() {
+    return xAddressCodec.classicAddressToXAddress(CLASSIC_ADDRESS.value(), TAG, false);
+  }
+
+  @Benchmark
+  public String accountIdToXAddress() {
+    return xAddressCodec.encode(accountId, 0, TAG, false);
+  }
+
+  @Benchmark
+  public int accountIdToXAddressChars() {
+    return xAddressCodec.encode(accountId, 0, TAG, false, chars, 0);
+  }
+
+  @Benchmark
+  public ClassicAddress xAddressToClassicLegacy() {
+    return addressCodec.xAddressToClassicAddress(xAddress);
+  }
+
+  @Benchmark
+  public String xAddressToClassic() {
+    return xAddressCodec.xAddressToClassicAddress(xAddress.value());
+  }
+
+  /**
+   * Decode the X-Address into the preallocated AccountID buffer.
+   *
+   * @return The destination tag.
+   */
+  @Benchmark
+  public long xAddressToAccountId() {
+    xAddressCodec.decode(xAddress.value(), accountId, 0);
+    return xAddressCodec.tag();
+  }
+
+}
@@ -0,0 +1,97 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Immutable;
+
+import java.util.Optional;
+
+/**
+ * The outcome of encoding or decoding one item of a batch: either a value or the {@link Throwable} that the item failed
+ * with.
+ *
+ * @param <T> The type of value produced for each item.
+ */
+@Immutable
+public interface BatchResult<T> {
+
+  static <T> ImmutableBatchResult.Builder<T> builder() {
+    return ImmutableBatchResult.builder();
+  }
+
+  /**
+   * A successful result.
+   *
+   * @param value The value produced for the item.
+   * @param <T>   The type of {@code value}.
+   *
+   * @return A {@link BatchResult}.
+   */
+  static <T> BatchResult<T> success(T value) {
+    return BatchResult.<T>builder().value(value).build();
+  }
+
+  /**
+   * A failed result.
+   *
+   * @param error The {@link Throwable} that the item failed with.
+   * @param <T>   The type of value that the item would have produced.
+   *
+   * @return A {@link BatchResult}.
+   */
+  static <T> BatchResult<T> failure(Throwable error) {
+    return BatchResult.<T>builder().error(error).build();
+  }
+
+  /**
+   * The value produced for the item, if it succeeded.
+   *
+   * @return An optionally-present {@link T}.
+   */
+  Optional<T> value();
+
+  /**
+   * The {@link Throwable} that the item failed with, if it failed.
+   *
+   * @return An optionally-present {@link Throwable}.
+   */
+  Optional<Throwable> error();
+
+  /**
+   * Whether the item succeeded.
+   *
+   * @return {@code true} if {@link #value()} is present.
+   */
+  default boolean isSuccess() {
+    return value().isPresent();
+  }
+
+  /**
+   * Validates that exactly one of {@link #value()} and {@link #error()} is present.
+   */
+  @Check
+  default void check() {
+    if (value().isPresent() == error().isPresent()) {
+      throw new IllegalStateException("A BatchResult must have exactly one of a value or an error.");
+    }
+  }
+}
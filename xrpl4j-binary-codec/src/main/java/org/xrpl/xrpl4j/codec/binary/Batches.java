@@ -0,0 +1,101 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs a codec operation over every item of a batch on an {@link Executor}.
+ *
+ * <p>Items are split into contiguous chunks of {@value #CHUNK_SIZE}, and each chunk is one task, so a worker handles
+ * many items in a row and reuses its thread's pooled serialization buffer (see
+ * {@link org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer#pooled()}). Results are written by index, so they are
+ * returned in input order. Anything thrown for one item, other than a {@link VirtualMachineError}, is recorded as that
+ * item's {@link BatchResult} and does not affect the others.</p>
+ */
+final class Batches {
+
+  static final int CHUNK_SIZE = 128;
+
+  private Batches() {
+  }
+
+  /**
+   * An operation on one item of a batch.
+   *
+   * @param <I> The type of input item.
+   * @param <O> The type of output value.
+   */
+  @FunctionalInterface
+  interface Operation<I, O> {
+
+    O apply(I item) throws Exception;
+  }
+
+  /**
+   * Apply {@code operation} to every item of {@code items} on {@code executor}, and wait for all of them.
+   *
+   * @param items     The {@link List} of input items.
+   * @param executor  The {@link Executor} to run chunks of items on.
+   * @param operation The {@link Operation} to apply to each item.
+   * @param <I>       The type of input item.
+   * @param <O>       The type of output value.
+   *
+   * @return A {@link List} of {@link BatchResult}s, in the same order as {@code items}.
+   */
+  static <I, O> List<BatchResult<O>> map(List<I> items, Executor executor, Operation<I, O> operation) {
+    Objects.requireNonNull(items);
+    Objects.requireNonNull(executor);
+    Objects.requireNonNull(operation);
+
+    @SuppressWarnings("unchecked")
+    BatchResult<O>[] results = new BatchResult[items.size()];
+    List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int start = 0; start < items.size(); start += CHUNK_SIZE) {
+      int from = start;
+      int to = Math.min(items.size(), start + CHUNK_SIZE);
+      chunks.add(CompletableFuture.runAsync(() -> {
+        for (int index = from; index < to; index++) {
+          results[index] = apply(operation, items.get(index));
+        }
+      }, executor));
+    }
+    CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+    return Collections.unmodifiableList(Arrays.asList(results));
+  }
+
+  private static <I, O> BatchResult<O> apply(Operation<I, O> operation, I item) {
+    try {
+      return BatchResult.success(operation.apply(item));
+    } catch (VirtualMachineError e) {
+      throw e;
+    } catch (Throwable e) {
+      // The codecs report some malformed input with java.lang.Error, which must not abort the rest of the batch.
+      return BatchResult.failure(e);
+    }
+  }
+}
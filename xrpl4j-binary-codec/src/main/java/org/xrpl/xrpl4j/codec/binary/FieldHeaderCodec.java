@@ -20,14 +20,12 @@ package org.xrpl.xrpl4j.codec.binary;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.binary.definitions.Definitions;
-import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsProvider;
-import org.xrpl.xrpl4j.codec.binary.definitions.FieldInfo;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsIndex;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,49 +37,60 @@ import java.util.Map;
  */
 public class FieldHeaderCodec {
 
-  private static final FieldHeaderCodec INSTANCE = new FieldHeaderCodec(DefinitionsProvider.getInstance().get(),
-    BinaryCodecObjectMapperFactory.getObjectMapper());
+  private static final FieldHeaderCodec INSTANCE = new FieldHeaderCodec(DefinitionsIndex.getInstance());
 
-  private final Definitions definitions;
+  private final DefinitionsIndex index;
 
-  private final Map<String, FieldInfo> fieldMetadataMap;
+  private final Map<String, String> fieldHeaderHexMap;
 
-  private final Map<FieldHeader, String> fieldIdNameMap;
-
-  private final Map<String, Integer> typeOrdinalMap;
+  /**
+   * Required-args Constructor.
+   *
+   * @param index The {@link DefinitionsIndex} to look fields up in.
+   */
+  public FieldHeaderCodec(DefinitionsIndex index) {
+    this.index = index;
+    this.fieldHeaderHexMap = new HashMap<>();
+    index.fields().keySet().forEach(fieldName -> {
+      FieldHeader fieldHeader = index.getFieldHeader(fieldName);
+      if (isEncodable(fieldHeader)) {
+        fieldHeaderHexMap.put(fieldName, encode(fieldHeader));
+      }
+    });
+  }
 
   /**
    * Required-args Constructor.
    *
    * @param definitions A {@link Definitions}.
-   * @param mapper      An {@link ObjectMapper}.
+   * @param mapper      An {@link ObjectMapper}, which is no longer used.
+   *
+   * @deprecated Use {@link #FieldHeaderCodec(DefinitionsIndex)} with {@link DefinitionsIndex#of(Definitions)}.
    */
+  @Deprecated
   public FieldHeaderCodec(Definitions definitions, ObjectMapper mapper) {
-    this.definitions = definitions;
-    this.fieldMetadataMap = new HashMap<>();
-    this.fieldIdNameMap = new HashMap<>();
-    this.typeOrdinalMap = definitions.types();
-    this.definitions.fields().forEach(field -> {
-      try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        fieldMetadataMap.put(fieldName, metadata);
-        fieldIdNameMap.put(fieldHeader, fieldName);
-      } catch (JsonProcessingException e) {
-        throw new IllegalArgumentException("invalid json", e);
-      }
-    });
+    this(DefinitionsIndex.of(definitions));
+  }
+
+  private static boolean isEncodable(FieldHeader fieldHeader) {
+    return fieldHeader.typeCode() > 0 && fieldHeader.typeCode() <= 255 &&
+      fieldHeader.fieldCode() > 0 && fieldHeader.fieldCode() <= 255;
   }
 
   public static FieldHeaderCodec getInstance() {
     return INSTANCE;
   }
 
+  /**
+   * Encode the field header of the named field as hex. Headers are precomputed for every field in the definitions.
+   *
+   * @param fieldName A {@link String} representing the name of a field.
+   *
+   * @return A {@link String} containing the hex-encoded field header.
+   */
   public String encode(String fieldName) {
-    return encode(getFieldId(fieldName));
+    String hex = fieldHeaderHexMap.get(fieldName);
+    return hex != null ? hex : encode(getFieldId(fieldName));
   }
 
   protected String encode(FieldHeader fieldHeader) {
@@ -114,7 +123,7 @@ public class FieldHeaderCodec {
 
   public String decode(String hex) {
     FieldHeader fieldHeader = decodeFieldId(hex);
-    return fieldIdNameMap.get(fieldHeader);
+    return index.getFieldName(fieldHeader);
   }
 
   protected FieldHeader decodeFieldId(String hex) {
@@ -151,11 +160,9 @@ public class FieldHeaderCodec {
   }
 
   protected FieldHeader getFieldId(String fieldName) {
-    FieldInfo metadata = fieldMetadataMap.get(fieldName);
-    Preconditions.checkNotNull(metadata, fieldName + " is not a valid field name");
-    Integer typeCode = typeOrdinalMap.get(metadata.type());
-    Preconditions.checkNotNull(typeCode, typeCode + " is not a valid type");
-    return FieldHeader.builder().typeCode(typeCode).fieldCode(metadata.nth()).build();
+    FieldHeader fieldHeader = index.getFieldHeader(fieldName);
+    Preconditions.checkNotNull(fieldHeader, fieldName + " is not a valid field name");
+    return fieldHeader;
   }
 
 }
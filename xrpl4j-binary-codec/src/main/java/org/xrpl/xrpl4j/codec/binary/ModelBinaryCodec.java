@@ -0,0 +1,557 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.model.flags.Flags;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerObject;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionType;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Encodes xrpl4j model objects, such as {@link Transaction}s, directly to canonical XRPL binary without first
+ * rendering them as JSON, and decodes binary {@link Transaction}s and {@link LedgerObject}s without an intermediate
+ * JSON {@link String}.
+ *
+ * <p>The fields of each model class are discovered once from the Jackson bean serializer of the supplied
+ * {@link ObjectMapper}, so that field names and inclusion rules are exactly those used when the same object is written
+ * as JSON, and are then matched to their {@link FieldInstance} from the {@link DefinitionsService}. Common scalar
+ * values (accounts, XRP amounts, unsigned integers, flags, hashes and blobs) are written straight into the output.
+ * Values with no direct mapping, such as issued currency amounts, path sets or {@code Signers}, are converted to JSON
+ * one field at a time and written with the same field types as {@link XrplBinaryCodec}, so that the output is
+ * byte-identical to it.</p>
+ */
+public class ModelBinaryCodec {
+
+  private static final String ACCOUNT = "Account";
+  private static final String SIGNERS = "Signers";
+  private static final String SIGNING_PUB_KEY = "SigningPubKey";
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final String AMOUNT = "Amount";
+  private static final String TRANSACTION_TYPE = "TransactionType";
+  private static final String INDEX = "index";
+  private static final String ACCOUNT_ID = "AccountID";
+
+  private static final byte[] TRX_SIGNATURE_PREFIX = {0x53, 0x54, 0x58, 0x00};
+  private static final byte[] TRX_MULTI_SIGNATURE_PREFIX = {0x53, 0x4D, 0x54, 0x00};
+  private static final byte OBJECT_END_MARKER = (byte) 0xE1;
+  private static final byte ARRAY_END_MARKER = (byte) 0xF1;
+  private static final byte ACCOUNT_ID_LENGTH = 20;
+  private static final long MAX_DROPS = 100_000_000_000_000_000L;
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, Optional<List<Property>>> propertiesByClass = new ConcurrentHashMap<>();
+
+  /**
+   * No-args constructor, using the model's default {@link ObjectMapper}.
+   */
+  public ModelBinaryCodec() {
+    this(ObjectMapperFactory.create());
+  }
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper The {@link ObjectMapper} whose serializers define the fields of each model class.
+   */
+  public ModelBinaryCodec(final ObjectMapper objectMapper) {
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+  }
+
+  /**
+   * Encodes a model object to canonical XRPL binary.
+   *
+   * @param value A model object, such as a {@link Transaction}.
+   *
+   * @return An {@link UnsignedByteArray} with the same contents as {@link XrplBinaryCodec#encode(String)} would
+   *   produce for the JSON of {@code value}.
+   */
+  public UnsignedByteArray encode(final Object value) {
+    Objects.requireNonNull(value);
+    BinarySerializer serializer = BinarySerializer.pooled();
+    writeObject(value, serializer, false, null);
+    return copyOf(serializer.sink());
+  }
+
+  /**
+   * Encodes a {@link Transaction} to canonical XRPL binary for single signing, including only signing fields.
+   *
+   * @param transaction A {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray} with the same contents as {@link XrplBinaryCodec#encodeForSigning(String)}.
+   */
+  public UnsignedByteArray encodeForSigning(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+    BinarySerializer serializer = BinarySerializer.pooled();
+    writePrefix(TRX_SIGNATURE_PREFIX, serializer);
+    writeObject(transaction, serializer, true, null);
+    return copyOf(serializer.sink());
+  }
+
+  /**
+   * Encodes a {@link Transaction} to canonical XRPL binary for multi signing by {@code signerAddress}. Any signing
+   * public key on the transaction is replaced by an empty one, and the signer's account ID is appended.
+   *
+   * @param transaction   A {@link Transaction} to encode.
+   * @param signerAddress The {@link Address} of the signer.
+   *
+   * @return An {@link UnsignedByteArray} with the same contents as
+   *   {@link XrplBinaryCodec#encodeForMultiSigning(String, String)}.
+   */
+  public UnsignedByteArray encodeForMultiSigning(final Transaction transaction, final Address signerAddress) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(signerAddress);
+    BinarySerializer serializer = BinarySerializer.pooled();
+    writePrefix(TRX_MULTI_SIGNATURE_PREFIX, serializer);
+    FieldInstance signingPubKey = definitionsService.getFieldInstance(SIGNING_PUB_KEY)
+      .orElseThrow(() -> new IllegalStateException("No definition for " + SIGNING_PUB_KEY));
+    writeObject(transaction, serializer, true, signingPubKey);
+    serializer.write(AddressCodec.getInstance().decodeAccountId(signerAddress));
+    return copyOf(serializer.sink());
+  }
+
+  /**
+   * Decodes canonical XRPL binary directly into the {@link Transaction} subtype named by its {@code TransactionType}
+   * field, without first rendering it as a JSON {@link String}.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing an encoded transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   */
+  public Transaction decodeTransaction(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    ObjectNode node = STObjectType.CODEC.readJson(new BinaryParser(bytes));
+    JsonNode transactionType = node.get(TRANSACTION_TYPE);
+    if (transactionType == null) {
+      throw new IllegalArgumentException("Encoded transaction has no " + TRANSACTION_TYPE);
+    }
+    Class<? extends Transaction> type = Transaction.typeMap.inverse()
+      .get(TransactionType.forValue(transactionType.asText()));
+    if (type == null) {
+      throw new IllegalArgumentException("No model type for " + TRANSACTION_TYPE + " " + transactionType.asText());
+    }
+    return treeToValue(node, type);
+  }
+
+  /**
+   * Decodes canonical XRPL binary directly into the {@link LedgerObject} subtype named by its {@code LedgerEntryType}
+   * field, without first rendering it as a JSON {@link String}. The index of a ledger object is its key in the state
+   * tree rather than one of its serialized fields, so it must be supplied separately.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing an encoded ledger object.
+   * @param index The {@link Hash256} index of the ledger object.
+   *
+   * @return The decoded {@link LedgerObject}.
+   */
+  public LedgerObject decodeLedgerObject(final UnsignedByteArray bytes, final Hash256 index) {
+    Objects.requireNonNull(bytes);
+    Objects.requireNonNull(index);
+    ObjectNode node = STObjectType.CODEC.readJson(new BinaryParser(bytes));
+    node.put(INDEX, index.value());
+    return treeToValue(node, LedgerObject.class);
+  }
+
+  /**
+   * Encodes each of {@code values} as {@link #encode(Object)} does, in parallel on {@code executor}. Each worker
+   * thread reuses its own serialization buffer across the items it encodes.
+   *
+   * @param values   A {@link List} of model objects, such as {@link Transaction}s.
+   * @param executor The {@link Executor} to encode on.
+   *
+   * @return A {@link List} of {@link BatchResult}s, in the same order as {@code values}. An item that cannot be
+   *   encoded has a failed result, and does not stop the others from being encoded.
+   */
+  public List<BatchResult<UnsignedByteArray>> encodeAll(final List<?> values, final Executor executor) {
+    return Batches.map(values, executor, this::encode);
+  }
+
+  /**
+   * Encodes each of {@code transactions} as {@link #encodeForSigning(Transaction)} does, in parallel on
+   * {@code executor}.
+   *
+   * @param transactions A {@link List} of {@link Transaction}s.
+   * @param executor     The {@link Executor} to encode on.
+   *
+   * @return A {@link List} of {@link BatchResult}s, in the same order as {@code transactions}. An item that cannot be
+   *   encoded has a failed result, and does not stop the others from being encoded.
+   */
+  public List<BatchResult<UnsignedByteArray>> encodeForSigningAll(
+    final List<? extends Transaction> transactions, final Executor executor
+  ) {
+    return Batches.map(transactions, executor, this::encodeForSigning);
+  }
+
+  /**
+   * Decodes each of {@code encodedTransactions} as {@link #decodeTransaction(UnsignedByteArray)} does, in parallel on
+   * {@code executor}.
+   *
+   * @param encodedTransactions A {@link List} of {@link UnsignedByteArray}s containing encoded transactions.
+   * @param executor            The {@link Executor} to decode on.
+   *
+   * @return A {@link List} of {@link BatchResult}s, in the same order as {@code encodedTransactions}. An item that
+   *   cannot be decoded has a failed result, and does not stop the others from being decoded.
+   */
+  public List<BatchResult<Transaction>> decodeTransactions(
+    final List<UnsignedByteArray> encodedTransactions, final Executor executor
+  ) {
+    return Batches.map(encodedTransactions, executor, this::decodeTransaction);
+  }
+
+  private <T> T treeToValue(final ObjectNode node, final Class<T> type) {
+    try {
+      return objectMapper.treeToValue(node, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Decoded fields do not form a valid " + type.getSimpleName(), e);
+    }
+  }
+
+  /**
+   * Write the fields of a model object, in canonical order.
+   *
+   * @param bean          The model object.
+   * @param serializer    The {@link BinarySerializer} to write to.
+   * @param signingOnly   Whether to skip fields that are not signing fields.
+   * @param emptyBlobField An optional blob field to write as empty in place of any value {@code bean} has for it.
+   */
+  private void writeObject(
+    final Object bean,
+    final BinarySerializer serializer,
+    final boolean signingOnly,
+    final FieldInstance emptyBlobField
+  ) {
+    List<Property> properties = propertiesOf(bean.getClass())
+      .orElseThrow(() -> new IllegalArgumentException(bean.getClass().getName() + " is not a model object"));
+
+    boolean isUnlModify = false;
+    for (Property property : properties) {
+      if (property.field.name().equals(TRANSACTION_TYPE)) {
+        isUnlModify = TransactionType.UNL_MODIFY.equals(property.get(bean));
+      }
+    }
+
+    FieldInstance pendingEmptyBlob = emptyBlobField;
+    for (Property property : properties) {
+      FieldInstance field = property.field;
+      if (signingOnly && !field.isSigningField()) {
+        continue;
+      }
+      // The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
+      if (isUnlModify && field.name().equals(ACCOUNT)) {
+        continue;
+      }
+      if (pendingEmptyBlob != null && pendingEmptyBlob.compareTo(field) <= 0) {
+        writeEmptyBlob(pendingEmptyBlob, serializer);
+        boolean replaced = pendingEmptyBlob.equals(field);
+        pendingEmptyBlob = null;
+        if (replaced) {
+          continue;
+        }
+      }
+      Object value = property.includedValue(bean);
+      if (value != null) {
+        writeField(field, value, serializer);
+      }
+    }
+    if (pendingEmptyBlob != null) {
+      writeEmptyBlob(pendingEmptyBlob, serializer);
+    }
+  }
+
+  private void writeField(final FieldInstance field, final Object value, final BinarySerializer serializer) {
+    String type = field.type();
+    if (value instanceof Address && type.equals(ACCOUNT_ID)) {
+      serializer.writeFieldHeader(field.header());
+      serializer.put(ACCOUNT_ID_LENGTH);
+      serializer.write(AddressCodec.getInstance().decodeAccountId((Address) value));
+    } else if (value instanceof XrpCurrencyAmount && type.equals(AMOUNT)) {
+      long drops = ((XrpCurrencyAmount) value).value().longValue();
+      if (drops < 0 || drops > MAX_DROPS) {
+        throw new IllegalArgumentException(value + " is an illegal amount");
+      }
+      serializer.writeFieldHeader(field.header());
+      writeUnsigned(drops | 0x4000000000000000L, 8, serializer);
+    } else if (value instanceof UnsignedInteger && isUnsigned(type, ((UnsignedInteger) value).longValue())) {
+      serializer.writeFieldHeader(field.header());
+      writeUnsigned(((UnsignedInteger) value).longValue(), unsignedWidth(type), serializer);
+    } else if (value instanceof Flags && isUnsigned(type, ((Flags) value).getValue())) {
+      serializer.writeFieldHeader(field.header());
+      writeUnsigned(((Flags) value).getValue(), unsignedWidth(type), serializer);
+    } else if (value instanceof String) {
+      writeText(field, (String) value, serializer);
+    } else if (value instanceof Hash256) {
+      writeText(field, ((Hash256) value).value(), serializer);
+    } else if (value instanceof TransactionType) {
+      writeText(field, ((TransactionType) value).value(), serializer);
+    } else if (type.equals(ST_OBJECT) && propertiesOf(value.getClass()).isPresent()) {
+      serializer.writeFieldHeader(field.header());
+      writeObject(value, serializer, false, null);
+      serializer.put(OBJECT_END_MARKER);
+    } else if (type.equals(ST_ARRAY) && !field.name().equals(SIGNERS) && isListOfModelObjects(value)) {
+      serializer.writeFieldHeader(field.header());
+      for (Object element : (Collection<?>) value) {
+        writeObject(element, serializer, false, null);
+      }
+      serializer.put(ARRAY_END_MARKER);
+    } else {
+      writeAsJson(field, value, serializer);
+    }
+  }
+
+  /**
+   * Write a field whose JSON form is {@code text}, mapping specialized values such as transaction types to their
+   * codes in the same way {@link STObjectType} does.
+   */
+  private void writeText(final FieldInstance field, final String text, final BinarySerializer serializer) {
+    String mapped = definitionsService.mapFieldSpecialization(field.name(), text)
+      .map(String::valueOf)
+      .orElse(text);
+    try {
+      serializer.writeFieldAndValue(field, new TextNode(mapped));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("invalid json", e);
+    }
+  }
+
+  /**
+   * Write a single field via its JSON representation. {@code Signers} are wrapped in a one-field object so that
+   * {@link STObjectType} puts them in canonical order.
+   */
+  private void writeAsJson(final FieldInstance field, final Object value, final BinarySerializer serializer) {
+    if (field.name().equals(SIGNERS)) {
+      ObjectNode wrapper = objectMapper.createObjectNode();
+      wrapper.set(field.name(), objectMapper.valueToTree(value));
+      STObjectType.CODEC.writeJson(wrapper, serializer);
+      return;
+    }
+
+    JsonNode node;
+    if (value instanceof IssuedCurrencyAmount) {
+      IssuedCurrencyAmount amount = (IssuedCurrencyAmount) value;
+      node = objectMapper.createObjectNode()
+        .put("currency", amount.currency())
+        .put("issuer", amount.issuer().value())
+        .put("value", amount.value());
+    } else {
+      node = objectMapper.valueToTree(value);
+    }
+    if (node.isTextual()) {
+      writeText(field, node.textValue(), serializer);
+      return;
+    }
+    try {
+      serializer.writeFieldAndValue(field, node);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("invalid json", e);
+    }
+    if (field.type().equals(ST_OBJECT)) {
+      serializer.put(OBJECT_END_MARKER);
+    }
+  }
+
+  private void writeEmptyBlob(final FieldInstance field, final BinarySerializer serializer) {
+    serializer.writeFieldHeader(field.header());
+    serializer.put((byte) 0);
+  }
+
+  private static void writePrefix(final byte[] prefix, final BinarySerializer serializer) {
+    for (byte value : prefix) {
+      serializer.put(value);
+    }
+  }
+
+  private static void writeUnsigned(final long value, final int byteCount, final BinarySerializer serializer) {
+    for (int shift = (byteCount - 1) * 8; shift >= 0; shift -= 8) {
+      serializer.put((byte) (value >>> shift));
+    }
+  }
+
+  private static int unsignedWidth(final String type) {
+    switch (type) {
+      case "UInt8":
+        return 1;
+      case "UInt16":
+        return 2;
+      case "UInt32":
+        return 4;
+      default:
+        return 0;
+    }
+  }
+
+  private static boolean isUnsigned(final String type, final long value) {
+    int width = unsignedWidth(type);
+    return width > 0 && value >= 0 && value < (1L << (width * 8));
+  }
+
+  private boolean isListOfModelObjects(final Object value) {
+    if (!(value instanceof Collection)) {
+      return false;
+    }
+    for (Object element : (Collection<?>) value) {
+      if (element == null || !propertiesOf(element.getClass()).isPresent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static UnsignedByteArray copyOf(final UnsignedByteArray sink) {
+    return UnsignedByteArray.withCapacity(sink.length()).append(sink);
+  }
+
+  /**
+   * The serialized properties of {@code type}, sorted into canonical field order, or empty if {@code type} is not
+   * serialized by a Jackson bean serializer.
+   */
+  private Optional<List<Property>> propertiesOf(final Class<?> type) {
+    Optional<List<Property>> properties = propertiesByClass.get(type);
+    if (properties == null) {
+      properties = introspect(type);
+      propertiesByClass.putIfAbsent(type, properties);
+    }
+    return properties;
+  }
+
+  private Optional<List<Property>> introspect(final Class<?> type) {
+    JsonSerializer<Object> serializer;
+    try {
+      serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+    } catch (JsonMappingException e) {
+      return Optional.empty();
+    }
+    if (!(serializer instanceof BeanSerializerBase)) {
+      return Optional.empty();
+    }
+
+    List<Property> properties = new ArrayList<>();
+    Iterator<PropertyWriter> writers = ((BeanSerializerBase) serializer).properties();
+    while (writers.hasNext()) {
+      PropertyWriter writer = writers.next();
+      if (!(writer instanceof BeanPropertyWriter)) {
+        return Optional.empty();
+      }
+      BeanPropertyWriter beanWriter = (BeanPropertyWriter) writer;
+      definitionsService.getFieldInstance(beanWriter.getName())
+        .filter(FieldInstance::isSerialized)
+        .ifPresent(field -> properties.add(new Property(
+          field,
+          beanWriter,
+          beanWriter.findPropertyInclusion(objectMapper.getSerializationConfig(), type).getValueInclusion()
+        )));
+    }
+    properties.sort((left, right) -> left.field.compareTo(right.field));
+    return Optional.of(ImmutableList.copyOf(properties));
+  }
+
+  /**
+   * A serialized property of a model class together with its field definition.
+   */
+  private static class Property {
+
+    private final FieldInstance field;
+    private final BeanPropertyWriter writer;
+    private final JsonInclude.Include inclusion;
+
+    Property(final FieldInstance field, final BeanPropertyWriter writer, final JsonInclude.Include inclusion) {
+      this.field = field;
+      this.writer = writer;
+      this.inclusion = inclusion;
+    }
+
+    Object get(final Object bean) {
+      try {
+        return writer.get(bean);
+      } catch (Exception e) {
+        throw new IllegalArgumentException("Unable to read " + writer.getName() + " from " + bean, e);
+      }
+    }
+
+    /**
+     * The value of this property, unwrapped from any {@link Optional}, or {@code null} if it is not included in the
+     * JSON form of {@code bean}.
+     */
+    Object includedValue(final Object bean) {
+      Object value = get(bean);
+      if (value instanceof Optional) {
+        value = ((Optional<?>) value).orElse(null);
+      }
+      if (value == null) {
+        return null;
+      }
+      if ((inclusion == JsonInclude.Include.NON_EMPTY || inclusion == JsonInclude.Include.NON_DEFAULT) &&
+        isEmpty(value)) {
+        return null;
+      }
+      return value;
+    }
+
+    private static boolean isEmpty(final Object value) {
+      if (value instanceof CharSequence) {
+        return ((CharSequence) value).length() == 0;
+      }
+      if (value instanceof Collection) {
+        return ((Collection<?>) value).isEmpty();
+      }
+      if (value instanceof Map) {
+        return ((Map<?, ?>) value).isEmpty();
+      }
+      return value.getClass().isArray() && Array.getLength(value) == 0;
+    }
+  }
+}
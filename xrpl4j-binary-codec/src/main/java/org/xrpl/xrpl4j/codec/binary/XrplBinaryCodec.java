@@ -31,12 +31,15 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
 import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
 import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.binary.types.UInt64Type;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -77,9 +80,9 @@ public class XrplBinaryCodec {
    */
   private String encode(final JsonNode jsonNode) {
     Objects.requireNonNull(jsonNode);
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    new STObjectType().fromJson(jsonNode).toBytesSink(byteList);
-    return byteList.hexValue();
+    BinarySerializer serializer = BinarySerializer.pooled();
+    STObjectType.CODEC.writeJson(jsonNode, serializer);
+    return serializer.sink().hexValue();
   }
 
   /**
@@ -111,7 +114,7 @@ public class XrplBinaryCodec {
     }
     // any existing signing keys should not also be signed
     ((ObjectNode) node).set("SigningPubKey", new TextNode(""));
-    String suffix = new AccountIdType().fromJson(new TextNode(xrpAccountId)).toHex();
+    String suffix = AccountIdType.CODEC.fromJson(new TextNode(xrpAccountId)).toHex();
     return TRX_MULTI_SIGNATURE_PREFIX + encode(removeNonSigningFields(node)) + suffix;
   }
 
@@ -164,9 +167,49 @@ public class XrplBinaryCodec {
     } else {
       nonSignPrefixHex = encodedTransaction;
     }
-    return new BinaryParser(nonSignPrefixHex).readType(STObjectType.class)
-      .toJson()
-      .toString();
+    return STObjectType.CODEC.readJson(new BinaryParser(nonSignPrefixHex)).toString();
+  }
+
+  /**
+   * Encodes each JSON value of {@code json} as {@link #encode(String)} does, in parallel on {@code executor}.
+   *
+   * @param json     A {@link List} of {@link String}s containing JSON to be encoded.
+   * @param executor The {@link Executor} to encode on.
+   *
+   * @return A {@link List} of {@link BatchResult}s holding hex {@link String}s, in the same order as {@code json}. An
+   *   item that cannot be encoded has a failed result, and does not stop the others from being encoded.
+   */
+  public List<BatchResult<String>> encodeAll(List<String> json, Executor executor) {
+    return Batches.map(json, executor, this::encode);
+  }
+
+  /**
+   * Encodes each JSON value of {@code json} as {@link #encodeForSigning(String)} does, in parallel on
+   * {@code executor}.
+   *
+   * @param json     A {@link List} of {@link String}s containing JSON to be encoded.
+   * @param executor The {@link Executor} to encode on.
+   *
+   * @return A {@link List} of {@link BatchResult}s holding hex {@link String}s, in the same order as {@code json}. An
+   *   item that cannot be encoded has a failed result, and does not stop the others from being encoded.
+   */
+  public List<BatchResult<String>> encodeForSigningAll(List<String> json, Executor executor) {
+    return Batches.map(json, executor, this::encodeForSigning);
+  }
+
+  /**
+   * Decodes each hex value of {@code encodedTransactions} as {@link #decode(String)} does, in parallel on
+   * {@code executor}.
+   *
+   * @param encodedTransactions A {@link List} of hex {@link String}s to decode.
+   * @param executor            The {@link Executor} to decode on.
+   *
+   * @return A {@link List} of {@link BatchResult}s holding JSON {@link String}s, in the same order as
+   *   {@code encodedTransactions}. An item that cannot be decoded has a failed result, and does not stop the others
+   *   from being decoded.
+   */
+  public List<BatchResult<String>> decodeAll(List<String> encodedTransactions, Executor executor) {
+    return Batches.map(encodedTransactions, executor, this::decode);
   }
 
   /**
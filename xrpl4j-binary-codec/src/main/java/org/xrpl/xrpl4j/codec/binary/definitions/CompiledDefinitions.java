@@ -0,0 +1,209 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes {@code definitions.bin}, the compact binary form of {@code definitions.json} from which
+ * {@link DefinitionsIndex#getInstance()} is loaded without Jackson.
+ *
+ * <p>The file is a {@link DataOutputStream} stream: a magic number and version, then the types, the fields (name,
+ * {@code nth}, a byte of flags and type name, in definitions order), the ledger entry types, the transaction types and
+ * the transaction results, each section prefixed with its number of entries.</p>
+ *
+ * <p>{@code definitions.bin} is not checked in. The build generates it from {@code definitions.json} by running
+ * {@link #main(String[])} after compiling this module, so the two cannot disagree in a built jar. Where it is missing,
+ * as in classes compiled by an IDE, {@link #load()} parses {@code definitions.json} instead.</p>
+ */
+final class CompiledDefinitions {
+
+  static final String RESOURCE = "/definitions.bin";
+
+  private static final int MAGIC = 0x58444546; // "XDEF"
+  private static final int VERSION = 1;
+
+  private static final int VARIABLE_LENGTH_ENCODED = 0x01;
+  private static final int SERIALIZED = 0x02;
+  private static final int SIGNING_FIELD = 0x04;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDefinitions.class);
+
+  private CompiledDefinitions() {
+  }
+
+  /**
+   * Load the {@link DefinitionsIndex} from {@link #RESOURCE}, or from {@code definitions.json} if that is missing or
+   * unreadable.
+   *
+   * @return A {@link DefinitionsIndex}.
+   */
+  static DefinitionsIndex load() {
+    return load(RESOURCE);
+  }
+
+  /**
+   * Load the {@link DefinitionsIndex} from the compiled {@code resource}, or from {@code definitions.json} if that is
+   * missing or unreadable. The resource is missing whenever the classes were built without the Maven build that
+   * generates it, for example by an IDE.
+   *
+   * @param resource The name of a compiled definitions resource.
+   *
+   * @return A {@link DefinitionsIndex}.
+   */
+  static DefinitionsIndex load(String resource) {
+    try (InputStream input = CompiledDefinitions.class.getResourceAsStream(resource)) {
+      if (input != null) {
+        return read(input);
+      }
+      LOGGER.warn("{} is missing, so definitions are being parsed from definitions.json instead.", resource);
+    } catch (IOException e) {
+      LOGGER.warn("{} cannot be read, so definitions are being parsed from definitions.json instead.", resource, e);
+    }
+    return fromJson();
+  }
+
+  /**
+   * Build the {@link DefinitionsIndex} by parsing {@code definitions.json}.
+   *
+   * @return A {@link DefinitionsIndex}.
+   */
+  static DefinitionsIndex fromJson() {
+    return DefinitionsIndex.of(
+      new DefaultDefinitionsProvider(BinaryCodecObjectMapperFactory.getObjectMapper()).get()
+    );
+  }
+
+  /**
+   * Read a {@link DefinitionsIndex} in compiled form.
+   *
+   * @param input The {@link InputStream} to read from.
+   *
+   * @return A {@link DefinitionsIndex}.
+   *
+   * @throws IOException if {@code input} cannot be read or is not in compiled form.
+   */
+  static DefinitionsIndex read(InputStream input) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+    if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+      throw new IOException("Not a compiled definitions file of version " + VERSION);
+    }
+    Map<String, Integer> types = readCodes(data);
+    int fieldCount = data.readInt();
+    Map<String, FieldInfo> fields = new LinkedHashMap<>(fieldCount * 2);
+    for (int index = 0; index < fieldCount; index++) {
+      String name = data.readUTF();
+      int nth = data.readInt();
+      int flags = data.readUnsignedByte();
+      fields.put(name, ImmutableFieldInfo.builder()
+        .nth(nth)
+        .isVariableLengthEncoded((flags & VARIABLE_LENGTH_ENCODED) != 0)
+        .isSerialized((flags & SERIALIZED) != 0)
+        .isSigningField((flags & SIGNING_FIELD) != 0)
+        .type(data.readUTF())
+        .build());
+    }
+    Map<String, Integer> ledgerEntryTypes = readCodes(data);
+    Map<String, Integer> transactionTypes = readCodes(data);
+    Map<String, Integer> transactionResults = readCodes(data);
+    return new DefinitionsIndex(types, fields, ledgerEntryTypes, transactionTypes, transactionResults);
+  }
+
+  /**
+   * Write {@code index} in compiled form.
+   *
+   * @param index  The {@link DefinitionsIndex} to write.
+   * @param output The {@link OutputStream} to write to.
+   *
+   * @throws IOException if {@code output} cannot be written.
+   */
+  static void write(DefinitionsIndex index, OutputStream output) throws IOException {
+    DataOutputStream data = new DataOutputStream(output);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    writeCodes(index.types(), data);
+    data.writeInt(index.fields().size());
+    for (Map.Entry<String, FieldInfo> field : index.fields().entrySet()) {
+      FieldInfo info = field.getValue();
+      data.writeUTF(field.getKey());
+      data.writeInt(info.nth());
+      data.writeByte((info.isVariableLengthEncoded() ? VARIABLE_LENGTH_ENCODED : 0) |
+        (info.isSerialized() ? SERIALIZED : 0) |
+        (info.isSigningField() ? SIGNING_FIELD : 0));
+      data.writeUTF(info.type());
+    }
+    writeCodes(index.ledgerEntryTypes(), data);
+    writeCodes(index.transactionTypes(), data);
+    writeCodes(index.transactionResults(), data);
+    data.flush();
+  }
+
+  /**
+   * Compile {@code definitions.json} and write it to the file named by the only argument.
+   *
+   * @param args The path of the file to write.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: CompiledDefinitions <output file>");
+    }
+    DefinitionsIndex index = fromJson();
+    Path path = Paths.get(args[0]);
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))) {
+      write(index, output);
+    }
+  }
+
+  private static Map<String, Integer> readCodes(DataInputStream data) throws IOException {
+    int count = data.readInt();
+    Map<String, Integer> codes = new LinkedHashMap<>(count * 2);
+    for (int index = 0; index < count; index++) {
+      codes.put(data.readUTF(), data.readInt());
+    }
+    return codes;
+  }
+
+  private static void writeCodes(Map<String, Integer> codes, DataOutputStream data) throws IOException {
+    data.writeInt(codes.size());
+    for (Map.Entry<String, Integer> code : codes.entrySet()) {
+      data.writeUTF(code.getKey());
+      data.writeInt(code.getValue());
+    }
+  }
+}
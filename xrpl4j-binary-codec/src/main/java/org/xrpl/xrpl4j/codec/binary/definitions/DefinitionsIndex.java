@@ -0,0 +1,299 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lookup tables over the XRPL type and field definitions, built once and shared by {@link DefinitionsService} and
+ * {@link org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec}.
+ *
+ * <p>The JVM-wide instance returned by {@link #getInstance()} is read from {@code definitions.bin}, a compact binary
+ * form of {@code definitions.json} (see {@link CompiledDefinitions}), so that loading it requires neither Jackson nor
+ * any JSON parsing. If {@code definitions.bin} is missing it is built from {@code definitions.json} instead. An index
+ * can also be built from parsed {@link Definitions} with {@link #of(Definitions)}.</p>
+ */
+public final class DefinitionsIndex {
+
+  // Type and field codes are at most one byte each in a serialized field header.
+  private static final int MAX_HEADER_CODE = 255;
+
+  private final Map<String, Integer> typeOrdinalMap;
+
+  // In definitions order, so that the index can be written back out in the same order.
+  private final Map<String, FieldInfo> fieldInfoMap;
+
+  private final Map<String, FieldHeader> fieldHeaderMap;
+
+  private final Map<FieldHeader, String> fieldIdNameMap;
+
+  // Optionals are cached alongside each FieldInstance so that lookups can return them without allocating.
+  private final Map<String, Optional<FieldInstance>> fieldInstanceMap;
+
+  // Indexed by type code, then field code. Only fields whose codes fit in a serialized field header are included.
+  private final Optional<FieldInstance>[][] fieldInstancesByCode;
+
+  private final Map<String, Integer> ledgerEntryTypes;
+
+  private final Map<String, Integer> transactionTypes;
+
+  private final Map<String, Integer> transactionResults;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param types              A {@link Map} of type names to type codes.
+   * @param fields             A {@link Map} of field names to {@link FieldInfo}, in definitions order.
+   * @param ledgerEntryTypes   A {@link Map} of ledger entry type names to codes.
+   * @param transactionTypes   A {@link Map} of transaction type names to codes.
+   * @param transactionResults A {@link Map} of transaction result names to codes.
+   */
+  DefinitionsIndex(
+    Map<String, Integer> types,
+    Map<String, FieldInfo> fields,
+    Map<String, Integer> ledgerEntryTypes,
+    Map<String, Integer> transactionTypes,
+    Map<String, Integer> transactionResults
+  ) {
+    this.typeOrdinalMap = ImmutableMap.copyOf(types);
+    this.fieldInfoMap = ImmutableMap.copyOf(fields);
+    this.ledgerEntryTypes = ImmutableMap.copyOf(ledgerEntryTypes);
+    this.transactionTypes = ImmutableMap.copyOf(transactionTypes);
+    this.transactionResults = ImmutableMap.copyOf(transactionResults);
+
+    Map<String, FieldHeader> tempFieldHeaderMap = new HashMap<>();
+    Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
+    Map<String, Optional<FieldInstance>> tempFieldInstanceMap = new HashMap<>();
+    fieldInfoMap.forEach((fieldName, info) -> {
+      Integer typeCode = typeOrdinalMap.get(info.type());
+      Preconditions.checkNotNull(typeCode, info.type() + " is not a valid type");
+      FieldHeader header = FieldHeader.builder().typeCode(typeCode).fieldCode(info.nth()).build();
+      tempFieldHeaderMap.put(fieldName, header);
+      tempFieldIdNameMap.put(header, fieldName);
+      tempFieldInstanceMap.put(fieldName, Optional.of(
+        FieldInstance.builder()
+          .header(header)
+          .isSerialized(info.isSerialized())
+          .isSigningField(info.isSigningField())
+          .isVariableLengthEncoded(info.isVariableLengthEncoded())
+          .nth(info.nth())
+          .name(fieldName)
+          .type(info.type())
+          .build()
+      ));
+    });
+    this.fieldHeaderMap = ImmutableMap.copyOf(tempFieldHeaderMap);
+    this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+    this.fieldInstanceMap = ImmutableMap.copyOf(tempFieldInstanceMap);
+    this.fieldInstancesByCode = indexByCode(fieldIdNameMap, fieldInstanceMap);
+  }
+
+  /**
+   * Obtain the JVM-wide instance of this {@link DefinitionsIndex}, read from {@code definitions.bin} on first use.
+   *
+   * @return A {@link DefinitionsIndex}.
+   */
+  public static DefinitionsIndex getInstance() {
+    return CompiledHolder.INSTANCE;
+  }
+
+  /**
+   * Build an index over parsed {@link Definitions}. Each field's metadata is read straight from its JSON node.
+   *
+   * @param definitions A {@link Definitions}.
+   *
+   * @return A {@link DefinitionsIndex}.
+   */
+  public static DefinitionsIndex of(Definitions definitions) {
+    Objects.requireNonNull(definitions);
+    Map<String, FieldInfo> fields = new LinkedHashMap<>();
+    for (List<JsonNode> field : definitions.fields()) {
+      JsonNode metadata = field.get(1);
+      fields.put(field.get(0).textValue(), ImmutableFieldInfo.builder()
+        .nth(metadata.get("nth").intValue())
+        .isVariableLengthEncoded(metadata.get("isVLEncoded").booleanValue())
+        .isSerialized(metadata.get("isSerialized").booleanValue())
+        .isSigningField(metadata.get("isSigningField").booleanValue())
+        .type(metadata.get("type").textValue())
+        .build());
+    }
+    return new DefinitionsIndex(
+      definitions.types(),
+      fields,
+      definitions.ledgerEntryTypes(),
+      definitions.transactionTypes(),
+      definitions.transactionResults()
+    );
+  }
+
+  /**
+   * The type codes, keyed by type name.
+   *
+   * @return An immutable {@link Map}.
+   */
+  public Map<String, Integer> types() {
+    return typeOrdinalMap;
+  }
+
+  /**
+   * The metadata of every field, keyed by field name, in definitions order.
+   *
+   * @return An immutable {@link Map}.
+   */
+  public Map<String, FieldInfo> fields() {
+    return fieldInfoMap;
+  }
+
+  /**
+   * The ledger entry type codes, keyed by ledger entry type name.
+   *
+   * @return An immutable {@link Map}.
+   */
+  public Map<String, Integer> ledgerEntryTypes() {
+    return ledgerEntryTypes;
+  }
+
+  /**
+   * The transaction type codes, keyed by transaction type name.
+   *
+   * @return An immutable {@link Map}.
+   */
+  public Map<String, Integer> transactionTypes() {
+    return transactionTypes;
+  }
+
+  /**
+   * The transaction result codes, keyed by transaction result name.
+   *
+   * @return An immutable {@link Map}.
+   */
+  public Map<String, Integer> transactionResults() {
+    return transactionResults;
+  }
+
+  /**
+   * Obtain the field name for the specified field header.
+   *
+   * @param fieldHeader A {@link FieldHeader}.
+   *
+   * @return A {@link String} representing the field name, or {@code null} if no field has that header.
+   */
+  public String getFieldName(FieldHeader fieldHeader) {
+    return fieldIdNameMap.get(fieldHeader);
+  }
+
+  /**
+   * Obtain the field header for the specified field name.
+   *
+   * @param fieldName A {@link String} representing the field name.
+   *
+   * @return A {@link FieldHeader}, or {@code null} if no field has that name.
+   */
+  public FieldHeader getFieldHeader(String fieldName) {
+    return fieldHeaderMap.get(fieldName);
+  }
+
+  /**
+   * Obtain the field info for the specified field name.
+   *
+   * @param fieldName A {@link String} representing the field name.
+   *
+   * @return A {@link FieldInfo}, or {@code null} if no field has that name.
+   */
+  public FieldInfo getFieldInfo(String fieldName) {
+    return fieldInfoMap.get(fieldName);
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified field name.
+   *
+   * @param fieldName A {@link String} for the field instance to obtain.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(String fieldName) {
+    if (fieldName == null) {
+      return Optional.empty();
+    }
+    return fieldInstanceMap.getOrDefault(fieldName, Optional.empty());
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified type and field codes, as read from a serialized
+   * field header.
+   *
+   * @param typeCode  An int representing the type code of the field.
+   * @param fieldCode An int representing the field code of the field.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    if (typeCode < 0 || typeCode >= fieldInstancesByCode.length) {
+      return Optional.empty();
+    }
+    Optional<FieldInstance>[] fields = fieldInstancesByCode[typeCode];
+    if (fields == null || fieldCode < 0 || fieldCode >= fields.length || fields[fieldCode] == null) {
+      return Optional.empty();
+    }
+    return fields[fieldCode];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<FieldInstance>[][] indexByCode(
+    Map<FieldHeader, String> fieldNames,
+    Map<String, Optional<FieldInstance>> fieldInstances
+  ) {
+    Optional<FieldInstance>[][] index = new Optional[MAX_HEADER_CODE + 1][];
+    fieldNames.forEach((header, name) -> {
+      int typeCode = header.typeCode();
+      int fieldCode = header.fieldCode();
+      if (typeCode < 1 || typeCode > MAX_HEADER_CODE || fieldCode < 1 || fieldCode > MAX_HEADER_CODE) {
+        return;
+      }
+      Optional<FieldInstance>[] fields = index[typeCode];
+      if (fields == null || fields.length <= fieldCode) {
+        fields = fields == null ? new Optional[fieldCode + 1] : Arrays.copyOf(fields, fieldCode + 1);
+        index[typeCode] = fields;
+      }
+      fields[fieldCode] = fieldInstances.get(name);
+    });
+    return index;
+  }
+
+  /**
+   * Holds the JVM-wide instance, so that {@code definitions.bin} is only read when it is first needed.
+   */
+  private static final class CompiledHolder {
+
+    private static final DefinitionsIndex INSTANCE = CompiledDefinitions.load();
+  }
+}
@@ -20,33 +20,24 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMap;
-import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Service for accessing XRPL type and field metadata from definitions.json.
+ *
+ * <p>Lookups are served by a {@link DefinitionsIndex}, in which a {@link FieldInstance} is built once for every field
+ * and indexed both by name and by type and field code, so field lookups during encoding and decoding do not
+ * allocate.</p>
  */
 public class DefinitionsService {
 
-  private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsProvider.getInstance(),
-    BinaryCodecObjectMapperFactory.getObjectMapper());
+  private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsIndex.getInstance());
 
-  private final Definitions definitions;
-
-  private final Map<String, FieldInfo> fieldInfoMap;
-
-  private final Map<FieldHeader, String> fieldIdNameMap;
-
-  private final Map<String, Integer> typeOrdinalMap;
+  private final DefinitionsIndex index;
 
   private final Map<Integer, String> transactionTypeReverseLookupMap;
 
@@ -57,33 +48,13 @@ public class DefinitionsService {
   /**
    * Required-args Constructor.
    *
-   * @param definitionsProvider A {@link DefinitionsProvider}.
-   * @param mapper              An {@link ObjectMapper}.
+   * @param index A {@link DefinitionsIndex}.
    */
-  DefinitionsService(DefinitionsProvider definitionsProvider, ObjectMapper mapper) {
-    this.definitions = definitionsProvider.get();
-    this.typeOrdinalMap = ImmutableMap.copyOf(definitions.types());
-
-    Map<String, FieldInfo> tempFieldInfoMap = new HashMap<>();
-    Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
-    this.definitions.fields().forEach(field -> {
-      try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        tempFieldInfoMap.put(fieldName, metadata);
-        tempFieldIdNameMap.put(fieldHeader, fieldName);
-      } catch (JsonProcessingException e) {
-        throw new IllegalArgumentException("invalid json", e);
-      }
-    });
-    this.fieldInfoMap = ImmutableMap.copyOf(tempFieldInfoMap);
-    this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
-    this.transactionTypeReverseLookupMap = inverse(definitions.transactionTypes());
-    this.transactionResultReverseLookupNap = inverse(definitions.transactionResults());
-    this.ledgerEntryTypeReverseLookupMap = inverse(definitions.ledgerEntryTypes());
+  DefinitionsService(DefinitionsIndex index) {
+    this.index = index;
+    this.transactionTypeReverseLookupMap = inverse(index.transactionTypes());
+    this.transactionResultReverseLookupNap = inverse(index.transactionResults());
+    this.ledgerEntryTypeReverseLookupMap = inverse(index.ledgerEntryTypes());
   }
 
   /**
@@ -103,7 +74,7 @@ public class DefinitionsService {
    * @return A {@link String} representing the field name for the specified field header.
    */
   public String getFieldName(FieldHeader fieldHeader) {
-    return fieldIdNameMap.get(fieldHeader);
+    return index.getFieldName(fieldHeader);
   }
 
   /**
@@ -114,7 +85,7 @@ public class DefinitionsService {
    * @return An optionally-present {@link FieldInfo}.
    */
   public Optional<FieldInfo> getFieldInfo(String fieldName) {
-    return Optional.ofNullable(fieldInfoMap.get(fieldName));
+    return Optional.ofNullable(index.getFieldInfo(fieldName));
   }
 
   /**
@@ -125,7 +96,7 @@ public class DefinitionsService {
    * @return An {@link Integer} representing the ordinal of the specified type name.
    */
   public Integer getTypeOrdinal(String typeName) {
-    return typeOrdinalMap.get(typeName);
+    return index.types().get(typeName);
   }
 
   /**
@@ -136,11 +107,7 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldHeader}.
    */
   public Optional<FieldHeader> getFieldHeader(String fieldName) {
-    return getFieldInfo(fieldName).map(info -> {
-      Integer typeCode = getTypeOrdinal(info.type());
-      Preconditions.checkNotNull(typeCode, typeCode + " is not a valid type");
-      return FieldHeader.builder().typeCode(typeCode).fieldCode(info.nth()).build();
-    });
+    return Optional.ofNullable(index.getFieldHeader(fieldName));
   }
 
   /**
@@ -151,18 +118,20 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldInstance}.
    */
   public Optional<FieldInstance> getFieldInstance(String fieldName) {
-    return DefinitionsService.getInstance().getFieldInfo(fieldName)
-      .flatMap(info -> getFieldHeader(fieldName)
-        .map(header ->
-          FieldInstance.builder()
-            .header(header)
-            .isSerialized(info.isSerialized())
-            .isSigningField(info.isSigningField())
-            .isVariableLengthEncoded(info.isVariableLengthEncoded())
-            .nth(info.nth())
-            .name(fieldName)
-            .type(info.type())
-            .build()));
+    return index.getFieldInstance(fieldName);
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified type and field codes, as read from a serialized
+   * field header.
+   *
+   * @param typeCode  An int representing the type code of the field.
+   * @param fieldCode An int representing the field code of the field.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    return index.getFieldInstance(typeCode, fieldCode);
   }
 
   /**
@@ -179,11 +148,11 @@ public class DefinitionsService {
     }
     switch (fieldName) {
       case "LedgerEntryType":
-        return Optional.ofNullable(definitions.ledgerEntryTypes().get(value));
+        return Optional.ofNullable(index.ledgerEntryTypes().get(value));
       case "TransactionResult":
-        return Optional.ofNullable(definitions.transactionResults().get(value));
+        return Optional.ofNullable(index.transactionResults().get(value));
       case "TransactionType":
-        return Optional.ofNullable(definitions.transactionTypes().get(value));
+        return Optional.ofNullable(index.transactionTypes().get(value));
       default:
         return Optional.empty();
     }
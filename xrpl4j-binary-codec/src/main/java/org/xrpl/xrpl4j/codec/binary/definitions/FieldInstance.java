@@ -20,8 +20,14 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
  * =========================LICENSE_END==================================
  */
 
+import org.immutables.value.Value.Auxiliary;
+import org.immutables.value.Value.Derived;
 import org.immutables.value.Value.Immutable;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.types.TypeCodec;
+import org.xrpl.xrpl4j.codec.binary.types.TypeCodecs;
+
+import java.util.Optional;
 
 /**
  * Holder of {@link FieldHeader} and {@link FieldInfo} data. Provided by {@link DefinitionsService} for looking up
@@ -70,6 +76,17 @@ public interface FieldInstance extends Comparable<FieldInstance> {
    */
   String type();
 
+  /**
+   * The shared {@link TypeCodec} for {@link #type()}, resolved once when this FieldInstance is built.
+   *
+   * @return An optionally-present {@link TypeCodec}, empty if this field's type cannot be serialized.
+   */
+  @Derived
+  @Auxiliary
+  default Optional<TypeCodec<?>> codec() {
+    return TypeCodecs.forName(type());
+  }
+
   /**
    * Whether or not this FieldInstance is variable-length encoded.
    *
@@ -0,0 +1,299 @@
+package org.xrpl.xrpl4j.codec.binary.keylets;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.binary.types.CurrencyType;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Computes the unique IDs (also known as keylets or indexes) of ledger objects offline, so that they can be requested
+ * directly with {@code ledger_entry} without first listing an account's objects.
+ *
+ * <p>Each ID is the SHA-512Half of a {@link LedgerSpace} prefix followed by the object's key fields: 20-byte
+ * AccountIDs, 20-byte currency codes and big-endian sequence numbers.</p>
+ *
+ * @see "https://xrpl.org/ledger-object-ids.html"
+ */
+public final class Keylets {
+
+  private static final int ACCOUNT_ID_WIDTH = 20;
+  private static final int CURRENCY_WIDTH = 20;
+  private static final int SPACE_WIDTH = 2;
+  private static final UnsignedInteger DEFAULT_SIGNER_LIST_ID = UnsignedInteger.ZERO;
+
+  private static final Hash256 AMENDMENTS = hash(key(LedgerSpace.AMENDMENTS, 0));
+  private static final Hash256 FEE_SETTINGS = hash(key(LedgerSpace.FEE_SETTINGS, 0));
+  private static final Hash256 NEGATIVE_UNL = hash(key(LedgerSpace.NEGATIVE_UNL, 0));
+  private static final Hash256 LEDGER_HASHES = hash(key(LedgerSpace.SKIP_LIST, 0));
+
+  private Keylets() {
+  }
+
+  /**
+   * The ID of the {@code AccountRoot} object of {@code account}.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 accountRoot(final Address account) {
+    return hash(key(LedgerSpace.ACCOUNT, ACCOUNT_ID_WIDTH).put(accountId(account)));
+  }
+
+  /**
+   * The ID of the {@code RippleState} object (trust line) between two accounts for a currency. The two accounts can be
+   * given in either order.
+   *
+   * @param account      The {@link Address} of one side of the trust line.
+   * @param otherAccount The {@link Address} of the other side of the trust line.
+   * @param currency     A three-character ISO currency code or a 40-character hex currency code.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 rippleState(final Address account, final Address otherAccount, final String currency) {
+    Objects.requireNonNull(currency);
+    byte[] accountId = accountId(account);
+    byte[] otherAccountId = accountId(otherAccount);
+    int comparison = UnsignedBytes.lexicographicalComparator().compare(accountId, otherAccountId);
+    if (comparison == 0) {
+      throw new IllegalArgumentException("A trust line cannot connect an account to itself.");
+    }
+    boolean accountIsLow = comparison < 0;
+    return hash(key(LedgerSpace.RIPPLE_STATE, ACCOUNT_ID_WIDTH * 2 + CURRENCY_WIDTH)
+      .put(accountIsLow ? accountId : otherAccountId)
+      .put(accountIsLow ? otherAccountId : accountId)
+      .put(currency(currency)));
+  }
+
+  /**
+   * The ID of the {@code Offer} object created by {@code account} in the transaction with {@code sequence}.
+   *
+   * @param account  The {@link Address} of the account that placed the offer.
+   * @param sequence The sequence number (or ticket sequence) of the {@code OfferCreate} transaction.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 offer(final Address account, final UnsignedInteger sequence) {
+    return accountAndSequence(LedgerSpace.OFFER, account, sequence);
+  }
+
+  /**
+   * The ID of the {@code Escrow} object created by {@code account} in the transaction with {@code sequence}.
+   *
+   * @param account  The {@link Address} of the account that created the escrow.
+   * @param sequence The sequence number (or ticket sequence) of the {@code EscrowCreate} transaction.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 escrow(final Address account, final UnsignedInteger sequence) {
+    return accountAndSequence(LedgerSpace.ESCROW, account, sequence);
+  }
+
+  /**
+   * The ID of the {@code PayChannel} object from {@code account} to {@code destination} created in the transaction
+   * with {@code sequence}.
+   *
+   * @param account     The {@link Address} of the source account of the channel.
+   * @param destination The {@link Address} of the destination account of the channel.
+   * @param sequence    The sequence number (or ticket sequence) of the {@code PaymentChannelCreate} transaction.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 payChannel(
+    final Address account,
+    final Address destination,
+    final UnsignedInteger sequence
+  ) {
+    Objects.requireNonNull(sequence);
+    return hash(key(LedgerSpace.PAY_CHANNEL, ACCOUNT_ID_WIDTH * 2 + Integer.BYTES)
+      .put(accountId(account))
+      .put(accountId(destination))
+      .putInt(sequence.intValue()));
+  }
+
+  /**
+   * The ID of the {@code Check} object created by {@code account} in the transaction with {@code sequence}.
+   *
+   * @param account  The {@link Address} of the account that created the check.
+   * @param sequence The sequence number (or ticket sequence) of the {@code CheckCreate} transaction.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 check(final Address account, final UnsignedInteger sequence) {
+    return accountAndSequence(LedgerSpace.CHECK, account, sequence);
+  }
+
+  /**
+   * The ID of the {@code Ticket} object owned by {@code account} with {@code ticketSequence}.
+   *
+   * @param account        The {@link Address} of the account that owns the ticket.
+   * @param ticketSequence The sequence number reserved by the ticket.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 ticket(final Address account, final UnsignedInteger ticketSequence) {
+    return accountAndSequence(LedgerSpace.TICKET, account, ticketSequence);
+  }
+
+  /**
+   * The ID of the {@code SignerList} object owned by {@code account}.
+   *
+   * @param account The {@link Address} of the account that owns the signer list.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 signerList(final Address account) {
+    return accountAndSequence(LedgerSpace.SIGNER_LIST, account, DEFAULT_SIGNER_LIST_ID);
+  }
+
+  /**
+   * The ID of the {@code DepositPreauth} object by which {@code account} preauthorizes {@code authorized}.
+   *
+   * @param account    The {@link Address} of the account that granted the preauthorization.
+   * @param authorized The {@link Address} of the preauthorized account.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 depositPreAuth(final Address account, final Address authorized) {
+    return hash(key(LedgerSpace.DEPOSIT_PREAUTH, ACCOUNT_ID_WIDTH * 2)
+      .put(accountId(account))
+      .put(accountId(authorized)));
+  }
+
+  /**
+   * The ID of the root {@code DirectoryNode} of the owner directory of {@code account}.
+   *
+   * @param account The {@link Address} of the account that owns the directory.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 ownerDirectory(final Address account) {
+    return hash(key(LedgerSpace.OWNER_DIRECTORY, ACCOUNT_ID_WIDTH).put(accountId(account)));
+  }
+
+  /**
+   * The ID of page {@code page} of the directory whose root {@code DirectoryNode} is {@code root}. Page zero is the
+   * root itself.
+   *
+   * @param root The {@link Hash256} ID of the root of the directory.
+   * @param page The page number, as found in the {@code IndexNext} and {@code IndexPrevious} fields.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 directoryPage(final Hash256 root, final UnsignedLong page) {
+    Objects.requireNonNull(root);
+    Objects.requireNonNull(page);
+    if (page.equals(UnsignedLong.ZERO)) {
+      return root;
+    }
+    return hash(key(LedgerSpace.DIRECTORY_NODE, 32 + Long.BYTES)
+      .put(BaseEncoding.base16().decode(root.value().toUpperCase(Locale.ROOT)))
+      .putLong(page.longValue()));
+  }
+
+  /**
+   * The ID of the singleton {@code Amendments} object.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 amendments() {
+    return AMENDMENTS;
+  }
+
+  /**
+   * The ID of the singleton {@code FeeSettings} object.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 feeSettings() {
+    return FEE_SETTINGS;
+  }
+
+  /**
+   * The ID of the singleton {@code NegativeUNL} object.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 negativeUnl() {
+    return NEGATIVE_UNL;
+  }
+
+  /**
+   * The ID of the {@code LedgerHashes} object that holds the hashes of the most recent 256 ledgers.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 ledgerHashes() {
+    return LEDGER_HASHES;
+  }
+
+  /**
+   * The ID of the {@code LedgerHashes} object that holds the hash of the flag ledger {@code ledgerIndex}, which is one
+   * of the objects that record every 256th ledger in groups of 65536.
+   *
+   * @param ledgerIndex The index of a ledger.
+   *
+   * @return The {@link Hash256} ID of the object.
+   */
+  public static Hash256 ledgerHashes(final UnsignedInteger ledgerIndex) {
+    Objects.requireNonNull(ledgerIndex);
+    return hash(key(LedgerSpace.SKIP_LIST, Integer.BYTES).putInt(ledgerIndex.intValue() >>> 16));
+  }
+
+  private static Hash256 accountAndSequence(
+    final LedgerSpace space,
+    final Address account,
+    final UnsignedInteger sequence
+  ) {
+    Objects.requireNonNull(sequence);
+    return hash(key(space, ACCOUNT_ID_WIDTH + Integer.BYTES).put(accountId(account)).putInt(sequence.intValue()));
+  }
+
+  private static ByteBuffer key(final LedgerSpace space, final int fieldsLength) {
+    return ByteBuffer.allocate(SPACE_WIDTH + fieldsLength).putChar(space.value());
+  }
+
+  private static Hash256 hash(final ByteBuffer key) {
+    byte[] digest = Hashing.sha512().hashBytes(key.array(), 0, key.position()).asBytes();
+    return Hash256.of(BaseEncoding.base16().encode(digest, 0, 32));
+  }
+
+  private static byte[] accountId(final Address account) {
+    Objects.requireNonNull(account);
+    return AddressCodec.getInstance().decodeAccountId(account).toByteArray();
+  }
+
+  private static byte[] currency(final String currency) {
+    return CurrencyType.CODEC.fromJson(new TextNode(currency)).toBytes();
+  }
+}
@@ -0,0 +1,61 @@
+package org.xrpl.xrpl4j.codec.binary.keylets;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+/**
+ * The two-byte namespace prefixes that the XRP Ledger hashes in front of the key fields of each type of ledger object
+ * to compute its unique ID.
+ *
+ * @see "https://xrpl.org/ledger-object-ids.html"
+ */
+public enum LedgerSpace {
+
+  ACCOUNT('a'),
+  AMENDMENTS('f'),
+  CHECK('C'),
+  DEPOSIT_PREAUTH('p'),
+  DIRECTORY_NODE('d'),
+  ESCROW('u'),
+  FEE_SETTINGS('e'),
+  NEGATIVE_UNL('N'),
+  OFFER('o'),
+  OWNER_DIRECTORY('O'),
+  PAY_CHANNEL('x'),
+  RIPPLE_STATE('r'),
+  SIGNER_LIST('S'),
+  SKIP_LIST('s'),
+  TICKET('T');
+
+  private final char value;
+
+  LedgerSpace(char value) {
+    this.value = value;
+  }
+
+  /**
+   * The namespace prefix, which is written as a big-endian 16-bit integer ahead of the key fields.
+   *
+   * @return A {@code char}.
+   */
+  public char value() {
+    return value;
+  }
+}
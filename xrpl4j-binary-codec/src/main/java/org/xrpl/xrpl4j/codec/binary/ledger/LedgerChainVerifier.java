@@ -0,0 +1,246 @@
+package org.xrpl.xrpl4j.codec.binary.ledger;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Verifies that a contiguous range of ledgers forms an unbroken hash chain: every header's {@code ledger_hash} is the
+ * hash of its other fields (see {@link LedgerHeaders#computeHash(LedgerHeader)}), and every header's
+ * {@code parent_hash} is the hash of the ledger before it.
+ *
+ * <p>The range is processed in batches. Headers are fetched on one {@link Executor} and hashed on another as each
+ * fetch completes, and the next batch is requested before the current one is checked, so fetching, hashing and
+ * checking overlap while at most two batches of headers are held in memory.</p>
+ *
+ * <p>A verified range is only internally consistent. To trust it, compare the hash of its last ledger with the hash of
+ * a ledger that the network has validated, or with the {@code parent_hash} of a ledger that has already been
+ * verified.</p>
+ */
+public class LedgerChainVerifier {
+
+  /**
+   * The default number of consecutive ledgers requested from the {@link LedgerHeaderSource} and checked together. A
+   * batch is also the unit of overlap: the next batch is fetched while the current one is checked, so at most two
+   * batches of headers are held in memory at once.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final LedgerHeaderSource source;
+  private final Executor fetchExecutor;
+  private final Executor hashExecutor;
+  private final int batchSize;
+
+  /**
+   * Required-args Constructor, with batches of {@value #DEFAULT_BATCH_SIZE} ledgers.
+   *
+   * @param source        The {@link LedgerHeaderSource} to fetch headers from.
+   * @param fetchExecutor The {@link Executor} that calls {@code source}.
+   * @param hashExecutor  The {@link Executor} that hashes headers.
+   */
+  public LedgerChainVerifier(
+    final LedgerHeaderSource source,
+    final Executor fetchExecutor,
+    final Executor hashExecutor
+  ) {
+    this(source, fetchExecutor, hashExecutor, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param source        The {@link LedgerHeaderSource} to fetch headers from.
+   * @param fetchExecutor The {@link Executor} that calls {@code source}.
+   * @param hashExecutor  The {@link Executor} that hashes headers.
+   * @param batchSize     The number of ledgers to request at a time.
+   */
+  public LedgerChainVerifier(
+    final LedgerHeaderSource source,
+    final Executor fetchExecutor,
+    final Executor hashExecutor,
+    final int batchSize
+  ) {
+    this.source = Objects.requireNonNull(source);
+    this.fetchExecutor = Objects.requireNonNull(fetchExecutor);
+    this.hashExecutor = Objects.requireNonNull(hashExecutor);
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Verify the ledgers from {@code firstLedgerIndex} to {@code lastLedgerIndex}, inclusive. The {@code parent_hash}
+   * of the first ledger is not checked.
+   *
+   * @param firstLedgerIndex The index of the first ledger in the range.
+   * @param lastLedgerIndex  The index of the last ledger in the range.
+   *
+   * @return A {@link List} of every {@link LedgerProblem} found, in ledger order, which is empty if the whole range
+   *   verified.
+   */
+  public List<LedgerProblem> verify(final UnsignedInteger firstLedgerIndex, final UnsignedInteger lastLedgerIndex) {
+    Objects.requireNonNull(firstLedgerIndex);
+    Objects.requireNonNull(lastLedgerIndex);
+    Preconditions.checkArgument(
+      firstLedgerIndex.compareTo(lastLedgerIndex) <= 0,
+      "firstLedgerIndex must not be greater than lastLedgerIndex"
+    );
+
+    long last = lastLedgerIndex.longValue();
+    List<LedgerProblem> problems = new ArrayList<>();
+    CheckedLedger previous = null;
+    long nextStart = firstLedgerIndex.longValue();
+    List<CompletableFuture<CheckedLedger>> current = submitBatch(nextStart, last);
+    nextStart += current.size();
+    while (!current.isEmpty()) {
+      List<CompletableFuture<CheckedLedger>> upcoming = submitBatch(nextStart, last);
+      nextStart += upcoming.size();
+      for (CompletableFuture<CheckedLedger> future : current) {
+        CheckedLedger checked = future.join();
+        if (checked.problem != null) {
+          problems.add(checked.problem);
+        }
+        if (previous != null && previous.hash != null && checked.parentHash != null &&
+          !checked.parentHash.equals(previous.hash)) {
+          problems.add(LedgerProblem.of(
+            checked.ledgerIndex,
+            LedgerProblem.Type.BROKEN_LINK,
+            "parent_hash " + checked.parentHash + " is not the hash of the previous ledger, " + previous.hash
+          ));
+        }
+        previous = checked;
+      }
+      current = upcoming;
+    }
+    return Collections.unmodifiableList(problems);
+  }
+
+  private List<CompletableFuture<CheckedLedger>> submitBatch(final long start, final long last) {
+    if (start > last) {
+      return Collections.emptyList();
+    }
+    long end = Math.min(last, start + batchSize - 1);
+    List<CompletableFuture<CheckedLedger>> batch = new ArrayList<>((int) (end - start + 1));
+    for (long index = start; index <= end; index++) {
+      UnsignedInteger ledgerIndex = UnsignedInteger.valueOf(index);
+      batch.add(CompletableFuture
+        .supplyAsync(() -> fetch(ledgerIndex), fetchExecutor)
+        .handleAsync((header, error) -> check(ledgerIndex, header, error), hashExecutor));
+    }
+    return batch;
+  }
+
+  private LedgerHeader fetch(final UnsignedInteger ledgerIndex) {
+    try {
+      return Objects.requireNonNull(source.fetch(ledgerIndex), "LedgerHeaderSource returned null");
+    } catch (Exception exception) {
+      throw new CompletionException(exception);
+    }
+  }
+
+  private static CheckedLedger check(final UnsignedInteger ledgerIndex, final LedgerHeader header, Throwable error) {
+    if (error != null) {
+      Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+      return new CheckedLedger(ledgerIndex, null, null, LedgerProblem.of(
+        ledgerIndex, LedgerProblem.Type.FETCH_FAILED, "Could not fetch the ledger header: " + cause
+      ));
+    }
+    if (!header.ledgerIndex().unsignedIntegerValue().equals(ledgerIndex)) {
+      return new CheckedLedger(ledgerIndex, null, null, LedgerProblem.of(
+        ledgerIndex, LedgerProblem.Type.INVALID_HEADER, "Fetched the header of ledger " + header.ledgerIndex()
+      ));
+    }
+
+    Hash256 hash;
+    try {
+      hash = LedgerHeaders.computeHash(header);
+    } catch (IllegalArgumentException exception) {
+      return new CheckedLedger(ledgerIndex, null, header.parentHash(), LedgerProblem.of(
+        ledgerIndex, LedgerProblem.Type.INVALID_HEADER, exception.getMessage()
+      ));
+    }
+    LedgerProblem problem = null;
+    if (!header.ledgerHash().isPresent()) {
+      problem = LedgerProblem.of(
+        ledgerIndex, LedgerProblem.Type.INVALID_HEADER, "Ledger header is missing ledger_hash"
+      );
+    } else if (!header.ledgerHash().get().equals(hash)) {
+      problem = LedgerProblem.of(
+        ledgerIndex,
+        LedgerProblem.Type.HASH_MISMATCH,
+        "ledger_hash " + header.ledgerHash().get() + " is not the hash of the header, " + hash
+      );
+    }
+    return new CheckedLedger(ledgerIndex, hash, header.parentHash(), problem);
+  }
+
+  /**
+   * Fetches the header of a ledger, for example with the {@code ledger} API method.
+   */
+  @FunctionalInterface
+  public interface LedgerHeaderSource {
+
+    /**
+     * Fetch the header of the ledger with index {@code ledgerIndex}.
+     *
+     * @param ledgerIndex The index of the ledger.
+     *
+     * @return The {@link LedgerHeader} of the ledger.
+     *
+     * @throws Exception if the header could not be fetched.
+     */
+    LedgerHeader fetch(UnsignedInteger ledgerIndex) throws Exception;
+  }
+
+  /**
+   * The outcome of checking one header on its own: its computed hash and claimed parent hash, where known, and its
+   * problem, if any.
+   */
+  private static final class CheckedLedger {
+
+    private final UnsignedInteger ledgerIndex;
+    private final Hash256 hash;
+    private final Hash256 parentHash;
+    private final LedgerProblem problem;
+
+    private CheckedLedger(
+      final UnsignedInteger ledgerIndex,
+      final Hash256 hash,
+      final Hash256 parentHash,
+      final LedgerProblem problem
+    ) {
+      this.ledgerIndex = ledgerIndex;
+      this.hash = hash;
+      this.parentHash = parentHash;
+      this.problem = problem;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package org.xrpl.xrpl4j.codec.binary.ledger;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.binary.shamap.HashPrefix;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Recomputes the hash of a ledger from the fields of its {@link LedgerHeader}.
+ *
+ * <p>A ledger's hash is the SHA-512Half of {@link HashPrefix#LEDGER_HEADER} followed by the ledger index, the total
+ * coins, the parent hash, the transaction hash, the account hash, the parent close time, the close time, the close
+ * time resolution and the close flags, each in its binary form. Because the header commits to the parent hash, a
+ * ledger with a verified hash also vouches for its parent, and because it commits to the transaction and account
+ * hashes, its contents can in turn be verified with {@link org.xrpl.xrpl4j.codec.binary.shamap.ShaMap}.</p>
+ *
+ * @see "https://xrpl.org/ledger-header.html"
+ */
+public final class LedgerHeaders {
+
+  private static final int HASH_LENGTH = 32;
+  private static final int HEADER_LENGTH = 4 + 4 + 8 + HASH_LENGTH * 3 + 4 + 4 + 1 + 1;
+
+  private LedgerHeaders() {
+  }
+
+  /**
+   * Compute the hash of the ledger described by {@code header}. A missing {@code close_flags} field is treated as
+   * zero, which is what servers that omit it mean.
+   *
+   * @param header A {@link LedgerHeader}.
+   *
+   * @return The {@link Hash256} of the ledger.
+   *
+   * @throws IllegalArgumentException if {@code header} is missing any other field that the hash covers.
+   */
+  public static Hash256 computeHash(final LedgerHeader header) {
+    Objects.requireNonNull(header);
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH)
+      .putInt(HashPrefix.LEDGER_HEADER.value())
+      .putInt(header.ledgerIndex().unsignedIntegerValue().intValue())
+      .putLong(require(header.totalCoins(), "total_coins").value().longValue())
+      .put(bytes(header.parentHash()))
+      .put(bytes(require(header.transactionHash(), "transaction_hash")))
+      .put(bytes(require(header.accountHash(), "account_hash")))
+      .putInt(uint32(require(header.parentCloseTime(), "parent_close_time"), "parent_close_time"))
+      .putInt(uint32(require(header.closeTime(), "close_time"), "close_time"))
+      .put(uint8(require(header.closeTimeResolution(), "close_time_resolution"), "close_time_resolution"))
+      .put(uint8(header.closeFlags().orElse(UnsignedInteger.ZERO), "close_flags"));
+
+    byte[] digest = Hashing.sha512().hashBytes(buffer.array()).asBytes();
+    return Hash256.of(BaseEncoding.base16().encode(digest, 0, HASH_LENGTH));
+  }
+
+  /**
+   * Whether the {@link LedgerHeader#ledgerHash()} of {@code header} is the hash of its other fields.
+   *
+   * @param header A {@link LedgerHeader}.
+   *
+   * @return {@code true} if {@code header} has a ledger hash and it matches {@link #computeHash(LedgerHeader)}.
+   *
+   * @throws IllegalArgumentException if {@code header} is missing a field that the hash covers.
+   */
+  public static boolean isHashValid(final LedgerHeader header) {
+    Objects.requireNonNull(header);
+    return header.ledgerHash().map(computeHash(header)::equals).orElse(false);
+  }
+
+  private static <T> T require(final Optional<T> value, final String field) {
+    return value.orElseThrow(() -> new IllegalArgumentException("Ledger header is missing " + field));
+  }
+
+  private static byte[] bytes(final Hash256 hash) {
+    return BaseEncoding.base16().decode(hash.value().toUpperCase(Locale.ROOT));
+  }
+
+  private static int uint32(final UnsignedLong value, final String field) {
+    if (value.compareTo(UnsignedLong.valueOf(UnsignedInteger.MAX_VALUE.longValue())) > 0) {
+      throw new IllegalArgumentException("Ledger header " + field + " does not fit in 32 bits: " + value);
+    }
+    return value.intValue();
+  }
+
+  private static byte uint8(final UnsignedInteger value, final String field) {
+    if (value.intValue() > 0xFF || value.intValue() < 0) {
+      throw new IllegalArgumentException("Ledger header " + field + " does not fit in 8 bits: " + value);
+    }
+    return (byte) value.intValue();
+  }
+}
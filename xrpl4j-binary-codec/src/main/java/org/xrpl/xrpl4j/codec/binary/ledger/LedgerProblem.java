@@ -0,0 +1,95 @@
+package org.xrpl.xrpl4j.codec.binary.ledger;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * A ledger that {@link LedgerChainVerifier} could not verify, and why.
+ */
+@Immutable
+public interface LedgerProblem {
+
+  static ImmutableLedgerProblem.Builder builder() {
+    return ImmutableLedgerProblem.builder();
+  }
+
+  /**
+   * A {@link LedgerProblem} for {@code ledgerIndex}.
+   *
+   * @param ledgerIndex The index of the ledger.
+   * @param type        The {@link Type} of problem.
+   * @param message     A description of the problem.
+   *
+   * @return A {@link LedgerProblem}.
+   */
+  static LedgerProblem of(UnsignedInteger ledgerIndex, Type type, String message) {
+    return builder().ledgerIndex(ledgerIndex).type(type).message(message).build();
+  }
+
+  /**
+   * The index of the ledger that could not be verified.
+   *
+   * @return An {@link UnsignedInteger}.
+   */
+  UnsignedInteger ledgerIndex();
+
+  /**
+   * The kind of problem.
+   *
+   * @return A {@link Type}.
+   */
+  Type type();
+
+  /**
+   * A human-readable description of the problem.
+   *
+   * @return A {@link String}.
+   */
+  String message();
+
+  /**
+   * The kinds of problem that a ledger can have.
+   */
+  enum Type {
+
+    /**
+     * The header could not be fetched.
+     */
+    FETCH_FAILED,
+
+    /**
+     * The header is for a different ledger index, or lacks a field that is needed to hash it.
+     */
+    INVALID_HEADER,
+
+    /**
+     * The header's {@code ledger_hash} is not the hash of its other fields.
+     */
+    HASH_MISMATCH,
+
+    /**
+     * The header's {@code parent_hash} is not the hash of the previous ledger in the range.
+     */
+    BROKEN_LINK
+  }
+}
@@ -21,7 +21,6 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
  */
 
 import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
@@ -29,14 +28,19 @@ import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+import org.xrpl.xrpl4j.codec.binary.types.TypeCodec;
+import org.xrpl.xrpl4j.codec.binary.types.TypeCodecs;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Parser for XRPL binary hex values.
+ * Parser for XRPL binary values.
+ *
+ * <p>The parser reads from an {@link UnsignedByteArray} with an int cursor. Hex input is converted to bytes once, when
+ * the parser is constructed, and {@link #read(int)} returns slices that share the parser's backing array rather than
+ * copies.</p>
  */
 public class BinaryParser {
 
@@ -50,65 +54,173 @@ public class BinaryParser {
   public static final int MAX_BYTE_VALUE = 256;
   // max value that can be represented in using two 8-bit bytes
   public static final int MAX_DOUBLE_BYTE_VALUE = 65536;
-  // 1 byte encodes to 2 characters in hex
-  private static final int BYTE_HEX_LENGTH = 2;
-  private final String hex;
+  private final UnsignedByteArray bytes;
 
   private int cursor = 0;
 
+  /**
+   * Required-args constructor.
+   *
+   * @param hex A {@link String} of hex-encoded binary data, which is converted to bytes once.
+   */
   public BinaryParser(String hex) {
-    this.hex = hex;
+    this(UnsignedByteArray.fromHex(Objects.requireNonNull(hex)));
+  }
+
+  /**
+   * Required-args constructor. The parser reads {@code bytes} in place, so it must not be modified while parsing.
+   *
+   * @param bytes An {@link UnsignedByteArray} of binary data.
+   */
+  public BinaryParser(UnsignedByteArray bytes) {
+    this.bytes = Objects.requireNonNull(bytes);
+  }
+
+  /**
+   * Required-args constructor. The parser reads {@code bytes} in place, so it must not be modified while parsing.
+   *
+   * @param bytes A byte array of binary data.
+   */
+  public BinaryParser(byte[] bytes) {
+    this(UnsignedByteArray.wrap(Objects.requireNonNull(bytes), 0, bytes.length));
+  }
+
+  /**
+   * Required-args constructor. The parser reads the remaining bytes of {@code buffer}, in place if the buffer is backed
+   * by an accessible array, and does not change the buffer's position.
+   *
+   * @param buffer A {@link ByteBuffer} of binary data.
+   */
+  public BinaryParser(ByteBuffer buffer) {
+    this(wrap(Objects.requireNonNull(buffer)));
+  }
+
+  private static UnsignedByteArray wrap(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return UnsignedByteArray.wrap(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    byte[] copy = new byte[buffer.remaining()];
+    buffer.duplicate().get(copy);
+    return UnsignedByteArray.wrap(copy, 0, copy.length);
   }
 
   public UnsignedByte peek() {
-    return UnsignedByte.of(hex.substring(cursor, cursor + BYTE_HEX_LENGTH));
+    return UnsignedByte.of(bytes.getByte(cursor));
+  }
+
+  /**
+   * Get the next byte as an unsigned value, without moving the cursor.
+   *
+   * @return An int between 0 and 255.
+   */
+  public int peekUnsignedByte() {
+    return bytes.getByte(cursor) & 0xFF;
   }
 
   public void skip(int bytesToSkip) {
-    cursor += bytesToSkip * BYTE_HEX_LENGTH;
+    cursor += bytesToSkip;
   }
 
   /**
-   * Read from this parser.
+   * Read from this parser. The result shares this parser's backing array.
    *
    * @param bytesToRead An int representing the number of bytes to read.
    *
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray read(int bytesToRead) {
-    if (cursor >= hex.length()) {
+    if (!hasMore()) {
       throw new IndexOutOfBoundsException("cursor moved past end of buffer");
     }
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < bytesToRead; i++) {
-      result.add(peek());
-      skip(1);
-    }
-    return new UnsignedByteArray(result);
+    checkRemaining(bytesToRead);
+    UnsignedByteArray result = bytes.slice(cursor, cursor + bytesToRead);
+    cursor += bytesToRead;
+    return result;
   }
 
   public UnsignedLong readUInt8() {
-    return readUInt(1);
+    return UnsignedLong.valueOf(readUnsignedByte());
   }
 
   public UnsignedLong readUInt16() {
-    return readUInt(2);
+    return UnsignedLong.valueOf(readUnsignedShort());
   }
 
   public UnsignedLong readUInt32() {
-    return readUInt(4);
+    return UnsignedLong.valueOf(readUnsignedInt());
   }
 
   public UnsignedLong readUInt64() {
-    return readUInt(8);
+    return UnsignedLong.fromLongBits(readLong());
+  }
+
+  /**
+   * Read a UInt8 without boxing it.
+   *
+   * @return An int between 0 and 255.
+   */
+  public int readUnsignedByte() {
+    checkRemaining(1);
+    return bytes.getByte(cursor++) & 0xFF;
+  }
+
+  /**
+   * Read a big-endian UInt16 without boxing it.
+   *
+   * @return An int between 0 and 65535.
+   */
+  public int readUnsignedShort() {
+    checkRemaining(2);
+    int value = (bytes.getByte(cursor) & 0xFF) << 8 | bytes.getByte(cursor + 1) & 0xFF;
+    cursor += 2;
+    return value;
+  }
+
+  /**
+   * Read a big-endian UInt32 without boxing it.
+   *
+   * @return A long between 0 and 4294967295.
+   */
+  public long readUnsignedInt() {
+    checkRemaining(4);
+    long value = (bytes.getByte(cursor) & 0xFFL) << 24 |
+      (bytes.getByte(cursor + 1) & 0xFF) << 16 |
+      (bytes.getByte(cursor + 2) & 0xFF) << 8 |
+      bytes.getByte(cursor + 3) & 0xFF;
+    cursor += 4;
+    return value;
+  }
+
+  /**
+   * Read a big-endian UInt64 without boxing it.
+   *
+   * @return A long holding the 64 bits of the value, which is negative for values of 2^63 and above.
+   */
+  public long readLong() {
+    checkRemaining(8);
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = value << 8 | bytes.getByte(cursor + i) & 0xFF;
+    }
+    cursor += 8;
+    return value;
   }
 
   public int size() {
-    return hex.length() / BYTE_HEX_LENGTH;
+    return bytes.length();
+  }
+
+  /**
+   * The offset of the next byte to be read, from the start of this parser's input.
+   *
+   * @return An int between 0 and {@link #size()}.
+   */
+  public int position() {
+    return cursor;
   }
 
   public boolean hasMore() {
-    return cursor < hex.length();
+    return cursor < bytes.length();
   }
 
   /**
@@ -117,15 +229,15 @@ public class BinaryParser {
    * @return The length of the variable length encoded bytes.
    */
   public int readVariableLengthLength() {
-    int firstByte = this.readUInt8().intValue();
+    int firstByte = this.readUnsignedByte();
     if (firstByte <= MAX_SINGLE_BYTE_LENGTH) {
       return firstByte;
     } else if (firstByte <= MAX_SECOND_BYTE_VALUE) {
-      int b2 = this.readUInt8().intValue();
-      return MAX_SECOND_BYTE_VALUE - 1 + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_BYTE_VALUE + b2;
+      int b2 = this.readUnsignedByte();
+      return MAX_SINGLE_BYTE_LENGTH + 1 + (firstByte - MAX_SINGLE_BYTE_LENGTH - 1) * MAX_BYTE_VALUE + b2;
     } else if (firstByte <= 254) {
-      int b2 = this.readUInt8().intValue();
-      int b3 = this.readUInt8().intValue();
+      int b2 = this.readUnsignedByte();
+      int b3 = this.readUnsignedByte();
       return MAX_DOUBLE_BYTE_LENGTH + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_DOUBLE_BYTE_VALUE +
         b2 * MAX_BYTE_VALUE +
         b3;
@@ -139,25 +251,33 @@ public class BinaryParser {
    * @return Field ordinal.
    */
   public FieldHeader readFieldHeader() {
-    int type = this.readUInt8().intValue();
+    int codes = readFieldCodes();
+    return FieldHeader.builder().fieldCode(codes & 0xFFFF).typeCode(codes >>> 16).build();
+  }
+
+  /**
+   * Read a field header, returning its type code in the upper and its field code in the lower 16 bits.
+   */
+  private int readFieldCodes() {
+    int type = this.readUnsignedByte();
     int nth = type & 15;
     type >>= 4;
 
     if (type == 0) {
-      type = this.readUInt8().intValue();
+      type = this.readUnsignedByte();
       if (type == 0 || type < 16) {
         throw new Error("Cannot read FieldOrdinal, type_code out of range");
       }
     }
 
     if (nth == 0) {
-      nth = this.readUInt8().intValue();
+      nth = this.readUnsignedByte();
       if (nth == 0 || nth < 16) {
         throw new Error("Cannot read FieldOrdinal, field_code out of range");
       }
     }
 
-    return FieldHeader.builder().fieldCode(nth).typeCode(type).build();
+    return type << 16 | nth;
   }
 
   /**
@@ -166,9 +286,8 @@ public class BinaryParser {
    * @return The field represented by the bytes at the head of the BinaryParser.
    */
   public Optional<FieldInstance> readField() {
-    FieldHeader header = readFieldHeader();
-    String fieldName = DefinitionsService.getInstance().getFieldName(header);
-    return DefinitionsService.getInstance().getFieldInstance(fieldName);
+    int codes = readFieldCodes();
+    return DefinitionsService.getInstance().getFieldInstance(codes >>> 16, codes & 0xFFFF);
   }
 
   /**
@@ -180,11 +299,7 @@ public class BinaryParser {
    * @return The instance of the type read from the BinaryParser.
    */
   public <T extends SerializedType<T>> T readType(Class<T> type) {
-    try {
-      return type.getDeclaredConstructor().newInstance().fromParser(this);
-    } catch (Exception e) {
-      throw new RuntimeException("could not instantiate field of type " + type.getName(), e);
-    }
+    return TypeCodecs.forClass(type).fromParser(this);
   }
 
   /**
@@ -192,8 +307,12 @@ public class BinaryParser {
    *
    * @param field The field that you wan to get the type of.
    *
-   * @return The type associated with the given field.
+   * @return A new instance of the type associated with the given field, or {@code null} if the field's type cannot be
+   *   serialized.
+   *
+   * @deprecated Read fields with the shared codec from {@link FieldInstance#codec()} instead.
    */
+  @Deprecated
   public SerializedType typeForField(FieldInstance field) {
     return SerializedType.getTypeByName(field.type());
   }
@@ -208,17 +327,15 @@ public class BinaryParser {
   public SerializedType readFieldValue(final FieldInstance field) {
     Objects.requireNonNull(field);
 
-    SerializedType type = this.typeForField(field);
-    if (type == null) {
-      throw new IllegalArgumentException("unsupported type " + type);
-    }
+    TypeCodec<?> codec = field.codec()
+      .orElseThrow(() -> new IllegalArgumentException("unsupported type " + field.type()));
 
     try {
       if (field.isVariableLengthEncoded()) {
         int sizeHint = this.readVariableLengthLength();
-        return type.fromParser(this, sizeHint);
+        return codec.fromParser(this, sizeHint);
       } else {
-        return type.fromParser(this);
+        return codec.fromParser(this);
       }
     } catch (Exception e) {
       throw new RuntimeException("could not instantiate field of type " + field.name(), e);
@@ -239,8 +356,10 @@ public class BinaryParser {
           .build());
   }
 
-  private UnsignedLong readUInt(int bytes) {
-    return ByteUtils.toUnsignedLong(read(bytes));
+  private void checkRemaining(int bytesToRead) {
+    if (bytesToRead < 0 || bytesToRead > bytes.length() - cursor) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
   }
 
 }
@@ -0,0 +1,314 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a stream of serialized objects, each preceded by the same variable length prefix that the binary format uses
+ * for {@code Blob} fields (see {@link BinarySerializer#writeVariableLength(int)}), one record at a time.
+ *
+ * <p>Only the record being read is held in memory, so inputs far larger than the heap can be processed. Each record
+ * is returned as its own {@link UnsignedByteArray}, which can be handed to {@link BinaryParser},
+ * {@link org.xrpl.xrpl4j.codec.binary.types.STObjectView} or
+ * {@link org.xrpl.xrpl4j.codec.binary.ModelBinaryCodec}, for example
+ * {@code reader.records().map(modelCodec::decodeTransaction)}.</p>
+ *
+ * <p>Instances are not thread-safe, but {@link #forEach(ExecutorService, int, Consumer)} hands records to a pool of
+ * consumers while a single thread reads.</p>
+ */
+public class BinaryRecordReader implements Closeable {
+
+  /**
+   * The largest length that a variable length prefix can encode.
+   */
+  public static final int MAX_RECORD_LENGTH = 918744;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAPPED_WINDOW_SIZE = 256 * 1024 * 1024;
+
+  private final ReadableByteChannel channel;
+  // Always in read mode between calls: bytes between position and limit have been read but not consumed.
+  private ByteBuffer buffer;
+  private boolean endOfInput;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param channel The {@link ReadableByteChannel} to read records from. It is closed by {@link #close()}.
+   */
+  public BinaryRecordReader(ReadableByteChannel channel) {
+    this.channel = Objects.requireNonNull(channel);
+    this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    this.buffer.flip();
+  }
+
+  /**
+   * Required-args constructor.
+   *
+   * @param inputStream The {@link InputStream} to read records from. It is closed by {@link #close()}.
+   */
+  public BinaryRecordReader(InputStream inputStream) {
+    this(Channels.newChannel(Objects.requireNonNull(inputStream)));
+  }
+
+  /**
+   * Read records from a file.
+   *
+   * @param path The {@link Path} of the file.
+   *
+   * @return A {@link BinaryRecordReader}.
+   *
+   * @throws IOException If the file cannot be opened.
+   */
+  public static BinaryRecordReader open(Path path) throws IOException {
+    return new BinaryRecordReader(FileChannel.open(path, StandardOpenOption.READ));
+  }
+
+  /**
+   * Read records from a memory-mapped file. The file is mapped in windows of at most 256 MiB, so files larger than
+   * the address space a single mapping allows can be read, and pages are read by the operating system rather than by
+   * read calls.
+   *
+   * @param path The {@link Path} of the file.
+   *
+   * @return A {@link BinaryRecordReader}.
+   *
+   * @throws IOException If the file cannot be opened.
+   */
+  public static BinaryRecordReader map(Path path) throws IOException {
+    return map(path, MAPPED_WINDOW_SIZE);
+  }
+
+  static BinaryRecordReader map(Path path, int windowSize) throws IOException {
+    return new BinaryRecordReader(new MappedFileChannel(FileChannel.open(path, StandardOpenOption.READ), windowSize));
+  }
+
+  /**
+   * Read the next record.
+   *
+   * @return The record's bytes, or {@link Optional#empty()} at the end of the input.
+   *
+   * @throws EOFException If the input ends part way through a record.
+   * @throws IOException  If the input cannot be read.
+   */
+  public Optional<UnsignedByteArray> next() throws IOException {
+    if (!fill(1)) {
+      return Optional.empty();
+    }
+    int firstByte = buffer.get(buffer.position()) & 0xFF;
+    int prefixLength = firstByte <= BinaryParser.MAX_SINGLE_BYTE_LENGTH ? 1 :
+      firstByte <= BinaryParser.MAX_SECOND_BYTE_VALUE ? 2 : 3;
+    if (!fill(prefixLength)) {
+      throw new EOFException("Input ends inside a record length prefix");
+    }
+    byte[] prefix = new byte[prefixLength];
+    buffer.get(prefix);
+    int length = new BinaryParser(prefix).readVariableLengthLength();
+    if (!fill(length)) {
+      throw new EOFException(String.format("Input ends inside a record of %s bytes", length));
+    }
+    byte[] record = new byte[length];
+    buffer.get(record);
+    return Optional.of(UnsignedByteArray.wrap(record, 0, length));
+  }
+
+  /**
+   * The remaining records as a sequential {@link Stream}. An {@link IOException} while reading is rethrown as an
+   * {@link UncheckedIOException}.
+   *
+   * @return A {@link Stream} of record bytes.
+   */
+  public Stream<UnsignedByteArray> records() {
+    Spliterator<UnsignedByteArray> spliterator = new Spliterators.AbstractSpliterator<UnsignedByteArray>(
+      Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL
+    ) {
+      @Override
+      public boolean tryAdvance(Consumer<? super UnsignedByteArray> action) {
+        Optional<UnsignedByteArray> record;
+        try {
+          record = next();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        record.ifPresent(action);
+        return record.isPresent();
+      }
+    };
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  /**
+   * Read the remaining records on the calling thread and pass each one to {@code consumer} on {@code executor}, with
+   * at most {@code maxInFlight} records read but not yet consumed at any time, which bounds memory use when the
+   * consumers are slower than the input. Returns once every record has been consumed.
+   *
+   * <p>If a consumer throws, no further records are read, and the first such exception is rethrown once the
+   * records already submitted have been consumed.</p>
+   *
+   * @param executor    The {@link ExecutorService} to run {@code consumer} on.
+   * @param maxInFlight The largest number of records to hold at once.
+   * @param consumer    A {@link Consumer} of record bytes, which must be safe to call from several threads at once.
+   *
+   * @throws IOException          If the input cannot be read.
+   * @throws InterruptedException If the calling thread is interrupted while waiting for consumers.
+   */
+  public void forEach(ExecutorService executor, int maxInFlight, Consumer<UnsignedByteArray> consumer)
+    throws IOException, InterruptedException {
+    Objects.requireNonNull(executor);
+    Objects.requireNonNull(consumer);
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be at least 1");
+    }
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    try {
+      Optional<UnsignedByteArray> record;
+      while (failure.get() == null && (record = next()).isPresent()) {
+        UnsignedByteArray bytes = record.get();
+        inFlight.acquire();
+        try {
+          executor.execute(() -> {
+            try {
+              consumer.accept(bytes);
+            } catch (Throwable e) {
+              failure.compareAndSet(null, e);
+            } finally {
+              inFlight.release();
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          inFlight.release();
+          throw e;
+        }
+      }
+    } finally {
+      inFlight.acquire(maxInFlight);
+      inFlight.release(maxInFlight);
+    }
+    Throwable thrown = failure.get();
+    if (thrown instanceof RuntimeException) {
+      throw (RuntimeException) thrown;
+    } else if (thrown instanceof Error) {
+      throw (Error) thrown;
+    } else if (thrown != null) {
+      throw new RuntimeException(thrown);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Read from the channel until at least {@code length} bytes are buffered or the input ends, growing the buffer if
+   * it is too small to hold {@code length} bytes.
+   *
+   * @return {@code true} if {@code length} bytes are buffered.
+   */
+  private boolean fill(int length) throws IOException {
+    if (buffer.remaining() >= length) {
+      return true;
+    }
+    if (buffer.capacity() < length) {
+      ByteBuffer larger = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+      larger.put(buffer);
+      buffer = larger;
+    } else {
+      buffer.compact();
+    }
+    while (buffer.position() < length && !endOfInput) {
+      endOfInput = channel.read(buffer) < 0;
+    }
+    buffer.flip();
+    return buffer.remaining() >= length;
+  }
+
+  /**
+   * A {@link ReadableByteChannel} over a file that copies from successive memory-mapped windows of the file.
+   */
+  private static final class MappedFileChannel implements ReadableByteChannel {
+
+    private final FileChannel file;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    private MappedFileChannel(FileChannel file, int windowSize) {
+      this.file = file;
+      this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      if (window == null || !window.hasRemaining()) {
+        long start = window == null ? 0 : windowStart + window.capacity();
+        long size = Math.min(windowSize, file.size() - start);
+        if (size <= 0) {
+          return -1;
+        }
+        window = file.map(FileChannel.MapMode.READ_ONLY, start, size);
+        windowStart = start;
+      }
+      int count = Math.min(dst.remaining(), window.remaining());
+      ByteBuffer slice = window.slice();
+      slice.limit(count);
+      dst.put(slice);
+      window.position(window.position() + count);
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return file.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      file.close();
+    }
+  }
+}
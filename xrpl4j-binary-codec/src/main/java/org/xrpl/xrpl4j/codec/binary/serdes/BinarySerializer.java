@@ -22,19 +22,29 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+import org.xrpl.xrpl4j.codec.binary.types.TypeCodec;
 
 import java.util.Objects;
 
 /**
  * Serializes JSON to XRPL binary format.
+ *
+ * <p>Field headers, length prefixes and values are written directly as bytes into the sink, and nested objects and
+ * arrays are streamed into the same sink rather than serialized separately and copied in.</p>
  */
 public class BinarySerializer {
 
+  // Pooled buffers that grew past this many bytes are dropped rather than kept alive by their thread.
+  private static final int MAX_POOLED_BUFFER_LENGTH = 64 * 1024;
+  private static final ThreadLocal<UnsignedByteArray> POOLED_BUFFER =
+    ThreadLocal.withInitial(() -> UnsignedByteArray.withCapacity(1024));
+
   private final UnsignedByteArray sink;
 
   /**
@@ -46,35 +56,97 @@ public class BinarySerializer {
     this.sink = sink;
   }
 
+  /**
+   * Get a serializer that writes into a buffer owned by the current thread, which is cleared and reused by every call
+   * to this method on that thread. The serializer and its {@link #sink()} must therefore not be used after the next
+   * call on the same thread, and anything that should outlive it must be copied out, e.g. with
+   * {@link UnsignedByteArray#hexValue()}.
+   *
+   * @return A {@link BinarySerializer} over an empty, reused sink.
+   */
+  public static BinarySerializer pooled() {
+    UnsignedByteArray buffer = POOLED_BUFFER.get();
+    if (buffer.length() > MAX_POOLED_BUFFER_LENGTH) {
+      buffer = UnsignedByteArray.withCapacity(1024);
+      POOLED_BUFFER.set(buffer);
+    }
+    return new BinarySerializer(buffer.clear());
+  }
+
+  /**
+   * The sink that this serializer writes into.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray sink() {
+    return sink;
+  }
+
   public void put(final String hexBytes) {
     sink.append(UnsignedByteArray.fromHex(hexBytes));
   }
 
+  public void put(final byte value) {
+    sink.append(value);
+  }
+
   public void write(final UnsignedByteArray list) {
     this.sink.append(list);
   }
 
   /**
-   * Calculate the header of Variable Length encoded bytes.
+   * Write the variable length prefix for {@code length} bytes. This is also the framing that
+   * {@link BinaryRecordReader} expects in front of each record.
    *
    * @param length the length of the bytes.
    */
-  private UnsignedByteArray encodeVariableLength(int length) {
+  public void writeVariableLength(int length) {
     if (length <= 192) {
-      return UnsignedByteArray.of(UnsignedByte.of(length));
+      sink.append((byte) length);
     } else if (length <= 12480) {
       length -= 193;
-      int byte1 = 193 + (length >>> 8);
-      int byte2 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2));
+      sink.append((byte) (193 + (length >>> 8)));
+      sink.append((byte) length);
     } else if (length <= 918744) {
       length -= 12481;
-      int byte1 = 241 + (length >>> 16);
-      int byte2 = (length >> 8) & 0xff;
-      int byte3 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2), UnsignedByte.of(byte3));
+      sink.append((byte) (241 + (length >>> 16)));
+      sink.append((byte) (length >> 8));
+      sink.append((byte) length);
+    } else {
+      throw new Error("Overflow error");
+    }
+  }
+
+  /**
+   * Write the one to three byte encoding of a field header.
+   *
+   * @param header A {@link FieldHeader}.
+   */
+  public void writeFieldHeader(final FieldHeader header) {
+    Objects.requireNonNull(header);
+    int typeCode = header.typeCode();
+    int fieldCode = header.fieldCode();
+    if (typeCode < 16) {
+      if (fieldCode < 16) {
+        // single byte case where high bits contain type code, low bits contain field code
+        sink.append((byte) (typeCode << 4 | fieldCode));
+      } else {
+        // 2 byte case where first byte contains type code + filler, second byte contains field code
+        sink.append((byte) (typeCode << 4));
+        sink.append((byte) fieldCode);
+      }
+    } else {
+      if (fieldCode < 16) {
+        // 2 byte case where first byte contains filler+field code, second byte contains typeCode
+        sink.append((byte) fieldCode);
+        sink.append((byte) typeCode);
+      } else {
+        // 3 byte case where first byte is filler, 2nd byte is type code, third byte is field code
+        sink.append((byte) 0);
+        sink.append((byte) typeCode);
+        sink.append((byte) fieldCode);
+      }
     }
-    throw new Error("Overflow error");
   }
 
   /**
@@ -86,8 +158,7 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final SerializedType value) {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
-    String fieldHeaderHex = FieldHeaderCodec.getInstance().encode(field.name());
-    this.sink.append(UnsignedByteArray.fromHex(fieldHeaderHex));
+    writeFieldHeader(field.header());
 
     if (field.isVariableLengthEncoded()) {
       this.writeLengthEncoded(value);
@@ -97,7 +168,8 @@ public class BinarySerializer {
   }
 
   /**
-   * Write field and value to BinarySerializer.
+   * Write field and value to BinarySerializer. Object and array values are written directly into this serializer's
+   * sink.
    *
    * @param field A {@link FieldInstance} to write into a {@link BinarySerializer}.
    * @param value A {@link JsonNode} to write into.
@@ -107,11 +179,23 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final JsonNode value) throws JsonProcessingException {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
+    TypeCodec<?> codec = field.codec()
+      .orElseThrow(() -> new IllegalArgumentException("unsupported type " + field.type()));
+    if (codec == STObjectType.CODEC) {
+      writeFieldHeader(field.header());
+      STObjectType.CODEC.writeJson(value, this);
+      return;
+    }
+    if (codec == STArrayType.CODEC) {
+      writeFieldHeader(field.header());
+      STArrayType.CODEC.writeJson(value, this);
+      return;
+    }
     SerializedType typedValue;
     if (field.name().equals("BaseFee")) {
-      typedValue = SerializedType.getTypeByName(field.type()).fromHex(value.asText());
+      typedValue = codec.fromHex(value.asText());
     } else {
-      typedValue = SerializedType.getTypeByName(field.type()).fromJson(value);
+      typedValue = codec.fromJson(value);
     }
     writeFieldAndValue(field, typedValue);
   }
@@ -123,10 +207,8 @@ public class BinarySerializer {
    */
   public void writeLengthEncoded(final SerializedType value) {
     Objects.requireNonNull(value);
-    UnsignedByteArray bytes = UnsignedByteArray.empty();
-    value.toBytesSink(bytes);
-    this.put(this.encodeVariableLength(bytes.length()).hexValue());
-    this.write(bytes);
+    this.writeVariableLength(value.byteLength());
+    value.toBytesSink(this.sink);
   }
 
 }
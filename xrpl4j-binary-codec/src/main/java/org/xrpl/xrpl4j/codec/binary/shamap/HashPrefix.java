@@ -0,0 +1,77 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+/**
+ * The four-byte prefixes that the XRP Ledger writes ahead of the data it hashes, so that hashes of different kinds of
+ * data can never collide.
+ */
+public enum HashPrefix {
+
+  /**
+   * Prefix of a transaction's binary form when computing the transaction's ID.
+   */
+  TRANSACTION_ID(0x54584E00),
+
+  /**
+   * Prefix of a transaction tree leaf, which holds a transaction and its metadata.
+   */
+  TRANSACTION_NODE(0x534E4400),
+
+  /**
+   * Prefix of a state tree leaf, which holds a ledger entry.
+   */
+  LEAF_NODE(0x4D4C4E00),
+
+  /**
+   * Prefix of an inner node of a SHAMap, which holds the hashes of its sixteen children.
+   */
+  INNER_NODE(0x4D494E00),
+
+  /**
+   * Prefix of a ledger header when computing the ledger's hash.
+   */
+  LEDGER_HEADER(0x4C575200);
+
+  private final int value;
+
+  HashPrefix(int value) {
+    this.value = value;
+  }
+
+  /**
+   * The prefix as a big-endian integer.
+   *
+   * @return An {@code int}.
+   */
+  public int value() {
+    return value;
+  }
+
+  /**
+   * The prefix as the four bytes that are hashed.
+   *
+   * @return A new {@code byte[]} of length four.
+   */
+  public byte[] bytes() {
+    return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+  }
+}
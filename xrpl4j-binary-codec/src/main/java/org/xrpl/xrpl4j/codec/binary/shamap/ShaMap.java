@@ -0,0 +1,304 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedBytes;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Computes the root hash of a SHAMap, the radix-16 hash tree in which the XRP Ledger stores the transactions and the
+ * state of each ledger, so that a ledger's {@code transaction_hash} and {@code account_hash} can be verified from its
+ * contents instead of trusted from a server.
+ *
+ * <p>A map holds either transactions with their metadata (see {@link #addTransaction(UnsignedByteArray,
+ * UnsignedByteArray)}) or ledger entries (see {@link #addLedgerEntry(Hash256, UnsignedByteArray)}). Each item is
+ * hashed into its leaf when it is added, so only its 32-byte key and 32-byte leaf hash are kept in memory, however
+ * large the item. Leaves are kept in sixteen buckets, one per branch of the root. The tree itself is never
+ * materialized: {@link #hash()} sorts each bucket by key and hashes the inner nodes bottom-up over contiguous ranges
+ * of it, and {@link #hash(Executor)} does the same with the buckets sorted and hashed in parallel.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @see "https://xrpl.org/ledgers.html#tree-format"
+ */
+public class ShaMap {
+
+  private static final int HASH_LENGTH = 32;
+  private static final int BRANCHES = 16;
+  private static final byte[] ZERO_HASH = new byte[HASH_LENGTH];
+  private static final Comparator<byte[]> KEY_ORDER = UnsignedBytes.lexicographicalComparator();
+
+  private final List<List<Leaf>> branches = new ArrayList<>(BRANCHES);
+  private int size;
+
+  /**
+   * No-args Constructor.
+   */
+  public ShaMap() {
+    for (int branch = 0; branch < BRANCHES; branch++) {
+      branches.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * Add a transaction to this map, keyed by its transaction ID.
+   *
+   * @param transaction The binary form of a signed transaction.
+   * @param metadata    The binary form of the transaction's metadata.
+   *
+   * @return This {@link ShaMap}.
+   */
+  public ShaMap addTransaction(final UnsignedByteArray transaction, final UnsignedByteArray metadata) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(metadata);
+    byte[] transactionBytes = transaction.toByteArray();
+    byte[] metadataBytes = metadata.toByteArray();
+
+    byte[] key = sha512Half(Hashing.sha512().newHasher()
+      .putBytes(HashPrefix.TRANSACTION_ID.bytes())
+      .putBytes(transactionBytes));
+    byte[] leafHash = sha512Half(Hashing.sha512().newHasher()
+      .putBytes(HashPrefix.TRANSACTION_NODE.bytes())
+      .putBytes(variableLength(transactionBytes.length))
+      .putBytes(transactionBytes)
+      .putBytes(variableLength(metadataBytes.length))
+      .putBytes(metadataBytes)
+      .putBytes(key));
+    add(new Leaf(key, leafHash));
+    return this;
+  }
+
+  /**
+   * Add a transaction to this map, keyed by its transaction ID.
+   *
+   * @param transactionHex The binary form of a signed transaction, as hex.
+   * @param metadataHex    The binary form of the transaction's metadata, as hex.
+   *
+   * @return This {@link ShaMap}.
+   */
+  public ShaMap addTransaction(final String transactionHex, final String metadataHex) {
+    return addTransaction(UnsignedByteArray.fromHex(transactionHex), UnsignedByteArray.fromHex(metadataHex));
+  }
+
+  /**
+   * Add a ledger entry to this map, keyed by its ID.
+   *
+   * @param index The ID of the ledger entry (see {@link org.xrpl.xrpl4j.codec.binary.keylets.Keylets}).
+   * @param entry The binary form of the ledger entry.
+   *
+   * @return This {@link ShaMap}.
+   */
+  public ShaMap addLedgerEntry(final Hash256 index, final UnsignedByteArray entry) {
+    Objects.requireNonNull(index);
+    Objects.requireNonNull(entry);
+    byte[] key = BaseEncoding.base16().decode(index.value().toUpperCase(Locale.ROOT));
+    byte[] leafHash = sha512Half(Hashing.sha512().newHasher()
+      .putBytes(HashPrefix.LEAF_NODE.bytes())
+      .putBytes(entry.toByteArray())
+      .putBytes(key));
+    add(new Leaf(key, leafHash));
+    return this;
+  }
+
+  /**
+   * Add a ledger entry to this map, keyed by its ID.
+   *
+   * @param index    The ID of the ledger entry (see {@link org.xrpl.xrpl4j.codec.binary.keylets.Keylets}).
+   * @param entryHex The binary form of the ledger entry, as hex.
+   *
+   * @return This {@link ShaMap}.
+   */
+  public ShaMap addLedgerEntry(final Hash256 index, final String entryHex) {
+    return addLedgerEntry(index, UnsignedByteArray.fromHex(entryHex));
+  }
+
+  /**
+   * The number of items in this map.
+   *
+   * @return An {@code int}.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Compute the root hash of this map on the calling thread. The root hash of an empty map is all zeros.
+   *
+   * @return The root {@link Hash256}.
+   *
+   * @throws IllegalStateException if two items have the same key.
+   */
+  public Hash256 hash() {
+    if (size == 0) {
+      return toHash256(ZERO_HASH);
+    }
+    Hasher hasher = Hashing.sha512().newHasher().putBytes(HashPrefix.INNER_NODE.bytes());
+    for (List<Leaf> branch : branches) {
+      hasher.putBytes(hashBranch(branch));
+    }
+    return toHash256(sha512Half(hasher));
+  }
+
+  /**
+   * Compute the root hash of this map, sorting and hashing each of the sixteen subtrees under the root as a separate
+   * task on {@code executor}. The calling thread waits for those tasks, which never wait for each other, so any
+   * {@link Executor} can be used, including a bounded pool. The root hash of an empty map is all zeros.
+   *
+   * @param executor The {@link Executor} to hash subtrees on.
+   *
+   * @return The root {@link Hash256}.
+   *
+   * @throws IllegalStateException if two items have the same key.
+   */
+  public Hash256 hash(final Executor executor) {
+    Objects.requireNonNull(executor);
+    if (size == 0) {
+      return toHash256(ZERO_HASH);
+    }
+
+    List<CompletableFuture<byte[]>> children = new ArrayList<>(BRANCHES);
+    for (List<Leaf> branch : branches) {
+      children.add(branch.isEmpty() ?
+        CompletableFuture.completedFuture(ZERO_HASH) :
+        CompletableFuture.supplyAsync(() -> hashBranch(branch), executor));
+    }
+
+    Hasher hasher = Hashing.sha512().newHasher().putBytes(HashPrefix.INNER_NODE.bytes());
+    try {
+      for (CompletableFuture<byte[]> child : children) {
+        hasher.putBytes(child.join());
+      }
+    } catch (CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw exception;
+    }
+    return toHash256(sha512Half(hasher));
+  }
+
+  private void add(final Leaf leaf) {
+    branches.get(nibble(leaf.key, 0)).add(leaf);
+    size++;
+  }
+
+  /**
+   * Hash the child of the root that holds the leaves of {@code branch}, sorting them first.
+   */
+  private static byte[] hashBranch(final List<Leaf> branch) {
+    if (branch.isEmpty()) {
+      return ZERO_HASH;
+    }
+    Leaf[] sorted = branch.toArray(new Leaf[0]);
+    Arrays.sort(sorted, (left, right) -> KEY_ORDER.compare(left.key, right.key));
+    for (int index = 1; index < sorted.length; index++) {
+      if (KEY_ORDER.compare(sorted[index - 1].key, sorted[index].key) == 0) {
+        throw new IllegalStateException(
+          "Duplicate SHAMap key " + BaseEncoding.base16().encode(sorted[index].key)
+        );
+      }
+    }
+    return hashChild(sorted, 0, sorted.length, 1);
+  }
+
+  /**
+   * Hash the child of an inner node at {@code depth - 1} that holds the sorted leaves in {@code [from, to)}, which
+   * must not be empty. A single leaf hangs directly off its parent; otherwise the child is an inner node at
+   * {@code depth}.
+   */
+  private static byte[] hashChild(final Leaf[] sorted, final int from, final int to, final int depth) {
+    return to - from == 1 ? sorted[from].hash : hashInner(sorted, from, to, depth);
+  }
+
+  private static byte[] hashInner(final Leaf[] sorted, final int from, final int to, final int depth) {
+    Hasher hasher = Hashing.sha512().newHasher().putBytes(HashPrefix.INNER_NODE.bytes());
+    int start = from;
+    for (int branch = 0; branch < BRANCHES; branch++) {
+      int end = branchEnd(sorted, start, to, depth, branch);
+      hasher.putBytes(start == end ? ZERO_HASH : hashChild(sorted, start, end, depth + 1));
+      start = end;
+    }
+    return sha512Half(hasher);
+  }
+
+  /**
+   * The end of the run of sorted leaves, starting at {@code from}, whose key has nibble {@code branch} at
+   * {@code depth}.
+   */
+  private static int branchEnd(final Leaf[] sorted, final int from, final int to, final int depth, final int branch) {
+    int end = from;
+    while (end < to && nibble(sorted[end].key, depth) == branch) {
+      end++;
+    }
+    return end;
+  }
+
+  private static int nibble(final byte[] key, final int depth) {
+    int value = key[depth >>> 1] & 0xFF;
+    return (depth & 1) == 0 ? value >>> 4 : value & 0x0F;
+  }
+
+  private static byte[] variableLength(final int length) {
+    BinarySerializer serializer = new BinarySerializer(UnsignedByteArray.withCapacity(3));
+    serializer.writeVariableLength(length);
+    return serializer.sink().toByteArray();
+  }
+
+  private static byte[] sha512Half(final Hasher hasher) {
+    byte[] digest = hasher.hash().asBytes();
+    byte[] half = new byte[HASH_LENGTH];
+    System.arraycopy(digest, 0, half, 0, HASH_LENGTH);
+    return half;
+  }
+
+  private static Hash256 toHash256(final byte[] hash) {
+    return Hash256.of(BaseEncoding.base16().encode(hash));
+  }
+
+  /**
+   * A key and the hash of the leaf node that holds its item.
+   */
+  private static final class Leaf {
+
+    private final byte[] key;
+    private final byte[] hash;
+
+    private Leaf(final byte[] key, final byte[] hash) {
+      this.key = key;
+      this.hash = hash;
+    }
+  }
+}
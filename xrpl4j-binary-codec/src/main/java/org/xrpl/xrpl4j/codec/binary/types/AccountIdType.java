@@ -32,7 +32,12 @@ import org.xrpl.xrpl4j.model.transactions.Address;
  */
 public class AccountIdType extends Hash160Type {
 
-  private static final AddressCodec addressCodec = new AddressCodec();
+  private static final AddressCodec addressCodec = AddressCodec.getInstance();
+
+  /**
+   * The shared, stateless codec for {@link AccountIdType}.
+   */
+  public static final Codec CODEC = new Codec();
 
   public AccountIdType() {
     this(UnsignedByteArray.ofSize(20));
@@ -44,18 +49,12 @@ public class AccountIdType extends Hash160Type {
 
   @Override
   public AccountIdType fromParser(BinaryParser parser) {
-    return new AccountIdType(parser.read(getWidth()));
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public AccountIdType fromJson(JsonNode node) {
-    String textValue = node.textValue();
-    if (textValue.isEmpty()) {
-      return new AccountIdType();
-    }
-    return HEX_REGEX.matcher(textValue).matches() ?
-      new AccountIdType(UnsignedByteArray.fromHex(textValue))
-      : new AccountIdType(addressCodec.decodeAccountId(Address.of(textValue)));
+    return CODEC.fromJson(node);
   }
 
   @Override
@@ -63,4 +62,28 @@ public class AccountIdType extends Hash160Type {
     return new TextNode(addressCodec.encodeAccountId(value()).value());
   }
 
+  /**
+   * The stateless codec for {@link AccountIdType}.
+   */
+  public static final class Codec extends TypeCodec<AccountIdType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public AccountIdType fromParser(BinaryParser parser) {
+      return new AccountIdType(parser.read(WIDTH));
+    }
+
+    @Override
+    public AccountIdType fromJson(JsonNode node) {
+      String textValue = node.textValue();
+      if (textValue.isEmpty()) {
+        return new AccountIdType();
+      }
+      return HEX_REGEX.matcher(textValue).matches() ?
+        new AccountIdType(UnsignedByteArray.fromHex(textValue))
+        : new AccountIdType(addressCodec.decodeAccountId(Address.of(textValue)));
+    }
+  }
 }
@@ -23,6 +23,7 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
@@ -49,9 +50,22 @@ class AmountType extends SerializedType<AmountType> {
   private static final int MAX_IOU_PRECISION = 16;
   private static final int MIN_IOU_EXPONENT = -96;
   private static final int MAX_IOU_EXPONENT = 80;
+  private static final long MAX_DROPS_LONG = 100_000_000_000_000_000L;
+  private static final long ISSUED_CURRENCY_BIT = 0x8000000000000000L;
+  private static final long POSITIVE_BIT = 0x4000000000000000L;
+  private static final long ZERO_CURRENCY_AMOUNT_BITS = ISSUED_CURRENCY_BIT;
+  private static final long MANTISSA_MASK = 0x003FFFFFFFFFFFFFL;
+  private static final String CURRENCY = "currency";
+  private static final String VALUE = "value";
+  private static final String ISSUER = "issuer";
 
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
+  /**
+   * The shared, stateless codec for {@link AmountType}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public AmountType() {
     this(UnsignedByteArray.fromHex(DEFAULT_AMOUNT_HEX));
   }
@@ -117,38 +131,150 @@ class AmountType extends SerializedType<AmountType> {
 
   @Override
   public AmountType fromParser(BinaryParser parser) {
-    boolean isXrp = !parser.peek().isNthBitSet(1);
-    int numBytes = isXrp ? NATIVE_AMOUNT_BYTE_LENGTH : CURRENCY_AMOUNT_BYTE_LENGTH;
-    return new AmountType(parser.read(numBytes));
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public AmountType fromJson(JsonNode value) throws JsonProcessingException {
-    if (value.isValueNode()) {
-      assertXrpIsValid(value.asText());
-      UInt64Type number = new UInt64Type().fromJson(value.asText());
-      byte[] rawBytes = number.toBytes();
-      rawBytes[0] |= 0x40;
-      return new AmountType(UnsignedByteArray.of(rawBytes));
-    }
+    return CODEC.fromJson(value);
+  }
 
-    Amount amount = objectMapper.treeToValue(value, Amount.class);
-    BigDecimal number = new BigDecimal(amount.value());
+  /**
+   * Encode an XRP amount in drops. Plain integers of up to 18 digits without leading zeros are parsed directly;
+   * anything else goes through {@link #encodeDropsWithBigDecimal(String)}, which accepts and rejects the same inputs
+   * as before.
+   *
+   * @param drops A {@link String} containing a number of drops.
+   *
+   * @return The 8 byte encoding.
+   */
+  static UnsignedByteArray encodeDrops(String drops) {
+    int length = drops.length();
+    if (length == 0 || length > 18 || (length > 1 && drops.charAt(0) == '0')) {
+      return encodeDropsWithBigDecimal(drops);
+    }
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      char digit = drops.charAt(i);
+      if (digit < '0' || digit > '9') {
+        return encodeDropsWithBigDecimal(drops);
+      }
+      value = value * 10 + (digit - '0');
+    }
+    if (value > MAX_DROPS_LONG) {
+      throw new IllegalArgumentException(drops + " is an illegal amount");
+    }
+    return longBytes(value | POSITIVE_BIT);
+  }
 
-    UnsignedByteArray result = number.unscaledValue().equals(BigInteger.ZERO) ?
-      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
-      getAmountBytes(number);
+  static UnsignedByteArray encodeDropsWithBigDecimal(String drops) {
+    assertXrpIsValid(drops);
+    byte[] rawBytes = UInt64Type.CODEC.fromJson(drops).toBytes();
+    rawBytes[0] |= 0x40;
+    return UnsignedByteArray.of(rawBytes);
+  }
 
-    UnsignedByteArray currency = new CurrencyType().fromJson(value.get("currency")).value();
-    UnsignedByteArray issuer = new AccountIdType().fromJson(value.get("issuer")).value();
+  /**
+   * Encode the first 8 bytes of an issued currency amount. Decimal strings whose significant digits fit the 16 digit
+   * mantissa and whose exponent is comfortably in range are handled with a long mantissa and an int exponent;
+   * anything else goes through {@link #encodeIouValueWithBigDecimal(String)}, so edge cases keep their existing
+   * results and errors.
+   *
+   * @param value A decimal {@link String}, such as {@code "-1.5e3"}.
+   *
+   * @return The 8 byte encoding, in a new {@link UnsignedByteArray} that has room for a currency and issuer.
+   */
+  static UnsignedByteArray encodeIouValue(String value) {
+    int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (index < length && value.charAt(index) == '-') {
+      negative = true;
+      index++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int pendingZeros = 0;
+    int fractionDigits = 0;
+    boolean seenDigit = false;
+    boolean seenPoint = false;
+    for (; index < length; index++) {
+      char character = value.charAt(index);
+      if (character == '.' && !seenPoint) {
+        seenPoint = true;
+        continue;
+      }
+      if (character < '0' || character > '9') {
+        break;
+      }
+      seenDigit = true;
+      if (seenPoint) {
+        fractionDigits++;
+      }
+      if (character == '0') {
+        if (digits > 0) {
+          pendingZeros++;
+        }
+      } else {
+        if (digits + pendingZeros >= MAX_IOU_PRECISION) {
+          return encodeIouValueWithBigDecimal(value);
+        }
+        for (; pendingZeros > 0; pendingZeros--) {
+          mantissa *= 10;
+          digits++;
+        }
+        mantissa = mantissa * 10 + (character - '0');
+        digits++;
+      }
+    }
+    int exponent = 0;
+    if (index < length) {
+      char marker = value.charAt(index++);
+      int exponentDigits = 0;
+      boolean negativeExponent = false;
+      if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+        negativeExponent = value.charAt(index++) == '-';
+      }
+      for (; index < length; index++, exponentDigits++) {
+        char character = value.charAt(index);
+        if (character < '0' || character > '9') {
+          break;
+        }
+        exponent = exponent * 10 + (character - '0');
+      }
+      if ((marker != 'e' && marker != 'E') || exponentDigits == 0 || exponentDigits > 4 || index < length) {
+        return encodeIouValueWithBigDecimal(value);
+      }
+      exponent = negativeExponent ? -exponent : exponent;
+    }
+    if (!seenDigit) {
+      return encodeIouValueWithBigDecimal(value);
+    }
+    if (mantissa == 0) {
+      return longBytes(ZERO_CURRENCY_AMOUNT_BITS);
+    }
 
-    result.append(currency);
-    result.append(issuer);
+    // value = mantissa * 10^(pendingZeros - fractionDigits + exponent), with the mantissa's last digit non-zero.
+    int mostSignificantExponent = digits - 1 + pendingZeros - fractionDigits + exponent;
+    if (mostSignificantExponent < MIN_IOU_EXPONENT + MAX_IOU_PRECISION - 1 ||
+      mostSignificantExponent > MAX_IOU_EXPONENT) {
+      return encodeIouValueWithBigDecimal(value);
+    }
+    for (int i = digits; i < MAX_IOU_PRECISION; i++) {
+      mantissa *= 10;
+    }
+    long wireExponent = 97 + mostSignificantExponent - 15;
+    return longBytes(ISSUED_CURRENCY_BIT | (negative ? 0 : POSITIVE_BIT) | wireExponent << 54 | mantissa);
+  }
 
-    return new AmountType(result);
+  static UnsignedByteArray encodeIouValueWithBigDecimal(String value) {
+    BigDecimal number = new BigDecimal(value);
+    return number.unscaledValue().equals(BigInteger.ZERO) ?
+      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
+      getAmountBytes(number);
   }
 
-  private UnsignedByteArray getAmountBytes(BigDecimal number) {
+  private static UnsignedByteArray getAmountBytes(BigDecimal number) {
     BigInteger paddedNumber = MathUtils.toPaddedBigInteger(number, 16);
     byte[] amountBytes = ByteUtils.toByteArray(paddedNumber, 8);
     amountBytes[0] |= 0x80;
@@ -169,44 +295,97 @@ class AmountType extends SerializedType<AmountType> {
 
   @Override
   public JsonNode toJson() {
+    BinaryParser parser = new BinaryParser(this.value());
+    long bits = parser.readLong();
     if (this.isNative()) {
-      byte[] rawBytes = toBytes();
-      rawBytes[0] &= 0x3f;
-      BigInteger value = new BigInteger(rawBytes);
-      if (!this.isPositive()) {
-        value = value.negate();
-      }
-      return new TextNode(value.toString());
+      long drops = bits & ~(ISSUED_CURRENCY_BIT | POSITIVE_BIT);
+      return new TextNode(Long.toString(this.isPositive() ? drops : -drops));
     } else {
-      BinaryParser parser = new BinaryParser(this.toHex());
-      UnsignedByteArray mantissa = parser.read(8);
-      final SerializedType<?> currency = new CurrencyType().fromParser(parser);
-      final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
+      final SerializedType<?> currency = CurrencyType.CODEC.fromParser(parser);
+      final SerializedType<?> issuer = AccountIdType.CODEC.fromParser(parser);
+
+      ObjectNode amount = objectMapper.createObjectNode();
+      amount.put(CURRENCY, currency.toJson().asText());
+      amount.put(VALUE, decodeIouValue(bits));
+      amount.put(ISSUER, issuer.toJson().asText());
+      return amount;
+    }
+  }
 
-      UnsignedByte b1 = mantissa.get(0);
-      UnsignedByte b2 = mantissa.get(1);
+  /**
+   * Decode the value of an issued currency amount from its first 8 bytes. Values with at most 16 significant digits
+   * and an exponent in range are formatted from the long mantissa directly; anything else goes through
+   * {@link #decodeIouValueWithBigDecimal(long)}, so edge cases keep their existing results and errors.
+   *
+   * @param bits The first 8 bytes of the amount, as a long.
+   *
+   * @return The value as a plain decimal {@link String}, without trailing zeros.
+   */
+  static String decodeIouValue(long bits) {
+    long mantissa = bits & MANTISSA_MASK;
+    if (mantissa == 0) {
+      return "0";
+    }
+    int exponent = (int) (bits >>> 54 & 0xFF) - 97;
+    while (mantissa % 10 == 0) {
+      mantissa /= 10;
+      exponent++;
+    }
+    String digits = Long.toString(mantissa);
+    int mostSignificantExponent = digits.length() - 1 + exponent;
+    if (digits.length() > MAX_IOU_PRECISION || mostSignificantExponent > MAX_IOU_EXPONENT ||
+      mostSignificantExponent < MIN_IOU_EXPONENT) {
+      return decodeIouValueWithBigDecimal(bits);
+    }
 
-      boolean isPositive = b1.isNthBitSet(2);
-      String sign = isPositive ? "" : "-";
+    StringBuilder builder = new StringBuilder(digits.length() + Math.abs(exponent) + 3);
+    if ((bits & POSITIVE_BIT) == 0) {
+      builder.append('-');
+    }
+    if (exponent >= 0) {
+      builder.append(digits);
+      for (int i = 0; i < exponent; i++) {
+        builder.append('0');
+      }
+    } else if (-exponent < digits.length()) {
+      builder.append(digits, 0, digits.length() + exponent).append('.').append(digits, digits.length() + exponent,
+        digits.length());
+    } else {
+      builder.append("0.");
+      for (int i = digits.length(); i < -exponent; i++) {
+        builder.append('0');
+      }
+      builder.append(digits);
+    }
+    return builder.toString();
+  }
 
-      int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
-      mantissa.set(0, UnsignedByte.of(0));
-      mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
+  static String decodeIouValueWithBigDecimal(long bits) {
+    UnsignedByteArray mantissa = longBytes(bits);
+    UnsignedByte b1 = mantissa.get(0);
+    UnsignedByte b2 = mantissa.get(1);
 
-      BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
-        .multiply(new BigDecimal("1e" + exponent))
-        .stripTrailingZeros();
+    boolean isPositive = b1.isNthBitSet(2);
+    String sign = isPositive ? "" : "-";
 
-      assertIouIsValid(value);
+    int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
+    mantissa.set(0, UnsignedByte.of(0));
+    mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
 
-      Amount amount = Amount.builder()
-        .currency(currency.toJson().asText())
-        .issuer(issuer.toJson().asText())
-        .value(value.toPlainString())
-        .build();
+    BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
+      .multiply(new BigDecimal("1e" + exponent))
+      .stripTrailingZeros();
 
-      return objectMapper.valueToTree(amount);
+    assertIouIsValid(value);
+    return value.toPlainString();
+  }
+
+  private static UnsignedByteArray longBytes(long bits) {
+    UnsignedByteArray bytes = UnsignedByteArray.withCapacity(CURRENCY_AMOUNT_BYTE_LENGTH);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      bytes.append((byte) (bits >>> shift));
     }
+    return bytes;
   }
 
   /**
@@ -229,4 +408,47 @@ class AmountType extends SerializedType<AmountType> {
     return (toBytes()[0] & 0x40) > 0;
   }
 
+  /**
+   * The stateless codec for {@link AmountType}.
+   */
+  public static final class Codec extends TypeCodec<AmountType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public AmountType fromParser(BinaryParser parser) {
+      boolean isXrp = !UnsignedByte.of(parser.peekUnsignedByte()).isNthBitSet(1);
+      int numBytes = isXrp ? NATIVE_AMOUNT_BYTE_LENGTH : CURRENCY_AMOUNT_BYTE_LENGTH;
+      return new AmountType(parser.read(numBytes));
+    }
+
+    @Override
+    public AmountType fromJson(JsonNode value) throws JsonProcessingException {
+      if (value.isValueNode()) {
+        return new AmountType(encodeDrops(value.asText()));
+      }
+
+      JsonNode amountValue = value.get(VALUE);
+      JsonNode currencyValue = value.get(CURRENCY);
+      JsonNode issuerValue = value.get(ISSUER);
+      UnsignedByteArray result;
+      if (value.size() == 3 && amountValue != null && amountValue.isTextual() &&
+        currencyValue != null && currencyValue.isTextual() && issuerValue != null && issuerValue.isTextual()) {
+        result = encodeIouValue(amountValue.asText());
+      } else {
+        // Let the Amount model report missing or mistyped members.
+        Amount amount = objectMapper.treeToValue(value, Amount.class);
+        result = encodeIouValueWithBigDecimal(amount.value());
+      }
+
+      UnsignedByteArray currency = CurrencyType.CODEC.fromJson(value.get(CURRENCY)).value();
+      UnsignedByteArray issuer = AccountIdType.CODEC.fromJson(value.get(ISSUER)).value();
+
+      result.append(currency);
+      result.append(issuer);
+
+      return new AmountType(result);
+    }
+  }
 }
@@ -29,6 +29,11 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
  */
 public class BlobType extends SerializedType<BlobType> {
 
+  /**
+   * The shared, stateless codec for {@link BlobType}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public BlobType() {
     this(UnsignedByteArray.empty());
   }
@@ -39,12 +44,30 @@ public class BlobType extends SerializedType<BlobType> {
 
   @Override
   public BlobType fromParser(BinaryParser parser, int lengthHint) {
-    return new BlobType(parser.read(lengthHint));
+    return CODEC.fromParser(parser, lengthHint);
   }
 
   @Override
   public BlobType fromJson(JsonNode node) {
-    return new BlobType(UnsignedByteArray.fromHex(node.asText()));
+    return CODEC.fromJson(node);
   }
 
+  /**
+   * The stateless codec for {@link BlobType}.
+   */
+  public static final class Codec extends TypeCodec<BlobType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public BlobType fromParser(BinaryParser parser, int lengthHint) {
+      return new BlobType(parser.read(lengthHint));
+    }
+
+    @Override
+    public BlobType fromJson(JsonNode node) {
+      return new BlobType(UnsignedByteArray.fromHex(node.asText()));
+    }
+  }
 }
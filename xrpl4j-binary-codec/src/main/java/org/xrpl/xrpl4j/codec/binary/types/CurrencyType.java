@@ -39,6 +39,11 @@ public class CurrencyType extends Hash160Type {
 
   private final Optional<String> iso;
 
+  /**
+   * The shared, stateless codec for {@link CurrencyType}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public CurrencyType() {
     this(UnsignedByteArray.ofSize(20));
   }
@@ -58,17 +63,12 @@ public class CurrencyType extends Hash160Type {
 
   @Override
   public CurrencyType fromParser(BinaryParser parser) {
-    return new CurrencyType(parser.read(getWidth()));
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public CurrencyType fromJson(JsonNode node) {
-    String textValue = node.textValue();
-    if (!isValidRepresentation(textValue)) {
-      throw new IllegalArgumentException("Unsupported Currency representation: " + textValue);
-    }
-    UnsignedByteArray bytes = textValue.length() == 3 ? isoToBytes(textValue) : UnsignedByteArray.fromHex(textValue);
-    return new CurrencyType(bytes);
+    return CODEC.fromJson(node);
   }
 
   @Override
@@ -76,12 +76,12 @@ public class CurrencyType extends Hash160Type {
     return iso.map(TextNode::new).orElseGet(() -> new TextNode(toHex()));
   }
 
-  private boolean isNative(UnsignedByteArray byteList) {
+  private static boolean isNative(UnsignedByteArray byteList) {
     String iso = byteList.slice(12, 15).hexValue();
     return onlyIso(byteList) && iso.equals("000000");
   }
 
-  private boolean onlyIso(UnsignedByteArray byteList) {
+  private static boolean onlyIso(UnsignedByteArray byteList) {
     for (int i = byteList.length() - 1; i >= 0; i--) {
       if (byteList.get(i).asInt() != 0 && !(i == 12 || i == 13 || i == 14)) {
         return false;
@@ -97,7 +97,7 @@ public class CurrencyType extends Hash160Type {
    *
    * @return
    */
-  private String rawISO(UnsignedByteArray list) {
+  private static String rawISO(UnsignedByteArray list) {
     return new String(list.slice(12, 15).toByteArray());
   }
 
@@ -106,7 +106,7 @@ public class CurrencyType extends Hash160Type {
    *
    * @return {@code true} if {@code value} is a valid representation; {@code false} otherwise.
    */
-  boolean isValidRepresentation(String value) {
+  static boolean isValidRepresentation(String value) {
     return isStringRepresentation(value);
   }
 
@@ -115,7 +115,7 @@ public class CurrencyType extends Hash160Type {
    *
    * @return {@code true} if {@code iso} is a valid ISO Code; {@code false} otherwise.
    */
-  private boolean isIsoCode(String iso) {
+  private static boolean isIsoCode(String iso) {
     return ISO_REGEX.matcher(iso).matches();
   }
 
@@ -124,7 +124,7 @@ public class CurrencyType extends Hash160Type {
    *
    * @return {@code true} if {@code hex} is a valid hex-encoded string; {@code false} otherwise.
    */
-  private boolean isHex(String hex) {
+  private static boolean isHex(String hex) {
     return HEX_REGEX.matcher(hex).matches();
   }
 
@@ -133,7 +133,7 @@ public class CurrencyType extends Hash160Type {
    *
    * @return {@code true} if {@code input} is a valid ISO or Hex representation; {@code false} otherwise.
    */
-  boolean isStringRepresentation(String input) {
+  static boolean isStringRepresentation(String input) {
     return isIsoCode(input) || isHex(input);
   }
 
@@ -142,7 +142,7 @@ public class CurrencyType extends Hash160Type {
    *
    * @return An {@link UnsignedByteArray}.
    */
-  private UnsignedByteArray isoToBytes(String iso) {
+  private static UnsignedByteArray isoToBytes(String iso) {
     UnsignedByteArray bytes = UnsignedByteArray.ofSize(20);
     if (!iso.equals("XRP")) {
       for (int i = 0; i < iso.length(); i++) {
@@ -152,4 +152,27 @@ public class CurrencyType extends Hash160Type {
     return bytes;
   }
 
+  /**
+   * The stateless codec for {@link CurrencyType}.
+   */
+  public static final class Codec extends TypeCodec<CurrencyType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public CurrencyType fromParser(BinaryParser parser) {
+      return new CurrencyType(parser.read(WIDTH));
+    }
+
+    @Override
+    public CurrencyType fromJson(JsonNode node) {
+      String textValue = node.textValue();
+      if (!isValidRepresentation(textValue)) {
+        throw new IllegalArgumentException("Unsupported Currency representation: " + textValue);
+      }
+      UnsignedByteArray bytes = textValue.length() == 3 ? isoToBytes(textValue) : UnsignedByteArray.fromHex(textValue);
+      return new CurrencyType(bytes);
+    }
+  }
 }
@@ -31,6 +31,11 @@ public class Hash128Type extends HashType<Hash128Type> {
 
   public static final int WIDTH = 16;
 
+  /**
+   * The shared, stateless codec for {@link Hash128Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public Hash128Type() {
     this(UnsignedByteArray.ofSize(WIDTH));
   }
@@ -41,11 +46,30 @@ public class Hash128Type extends HashType<Hash128Type> {
 
   @Override
   public Hash128Type fromParser(BinaryParser parser) {
-    return new Hash128Type(parser.read(WIDTH));
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public Hash128Type fromJson(JsonNode node) {
-    return new Hash128Type(UnsignedByteArray.fromHex(node.asText()));
+    return CODEC.fromJson(node);
+  }
+
+  /**
+   * The stateless codec for {@link Hash128Type}.
+   */
+  public static final class Codec extends TypeCodec<Hash128Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public Hash128Type fromParser(BinaryParser parser) {
+      return new Hash128Type(parser.read(WIDTH));
+    }
+
+    @Override
+    public Hash128Type fromJson(JsonNode node) {
+      return new Hash128Type(UnsignedByteArray.fromHex(node.asText()));
+    }
   }
 }
@@ -34,6 +34,11 @@ public class Hash160Type extends HashType<Hash160Type> {
   public static final int WIDTH = 20;
   protected static final Pattern HEX_REGEX = Pattern.compile("^[A-Z0-9]{40}$");
 
+  /**
+   * The shared, stateless codec for {@link Hash160Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public Hash160Type() {
     this(UnsignedByteArray.ofSize(WIDTH));
   }
@@ -44,11 +49,30 @@ public class Hash160Type extends HashType<Hash160Type> {
 
   @Override
   public Hash160Type fromParser(BinaryParser parser) {
-    return new Hash160Type(parser.read(WIDTH));
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public Hash160Type fromJson(JsonNode node) {
-    return new Hash160Type(UnsignedByteArray.fromHex(node.asText()));
+    return CODEC.fromJson(node);
+  }
+
+  /**
+   * The stateless codec for {@link Hash160Type}.
+   */
+  public static final class Codec extends TypeCodec<Hash160Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public Hash160Type fromParser(BinaryParser parser) {
+      return new Hash160Type(parser.read(WIDTH));
+    }
+
+    @Override
+    public Hash160Type fromJson(JsonNode node) {
+      return new Hash160Type(UnsignedByteArray.fromHex(node.asText()));
+    }
   }
 }
@@ -31,6 +31,11 @@ public class Hash256Type extends HashType<Hash256Type> {
 
   public static final int WIDTH = 32;
 
+  /**
+   * The shared, stateless codec for {@link Hash256Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public Hash256Type() {
     this(UnsignedByteArray.ofSize(WIDTH));
   }
@@ -41,11 +46,30 @@ public class Hash256Type extends HashType<Hash256Type> {
 
   @Override
   public Hash256Type fromParser(BinaryParser parser) {
-    return new Hash256Type(parser.read(WIDTH));
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public Hash256Type fromJson(JsonNode node) {
-    return new Hash256Type(UnsignedByteArray.fromHex(node.asText()));
+    return CODEC.fromJson(node);
+  }
+
+  /**
+   * The stateless codec for {@link Hash256Type}.
+   */
+  public static final class Codec extends TypeCodec<Hash256Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public Hash256Type fromParser(BinaryParser parser) {
+      return new Hash256Type(parser.read(WIDTH));
+    }
+
+    @Override
+    public Hash256Type fromJson(JsonNode node) {
+      return new Hash256Type(UnsignedByteArray.fromHex(node.asText()));
+    }
   }
 }
@@ -42,6 +42,11 @@ public class HopType extends SerializedType<HopType> {
 
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
+  /**
+   * The shared, stateless codec for {@link HopType}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public HopType() {
     this(UnsignedByteArray.empty());
   }
@@ -52,71 +57,90 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public HopType fromParser(BinaryParser parser) {
-    int type = parser.readUInt8().intValue();
-    UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
+    return CODEC.fromParser(parser);
+  }
+
+  @Override
+  public HopType fromJson(JsonNode node) throws JsonProcessingException {
+    return CODEC.fromJson(node);
+  }
+
+  @Override
+  public JsonNode toJson() {
+    BinaryParser parser = new BinaryParser(this.value());
+    int type = parser.readUnsignedByte();
+
+    ImmutableHop.Builder builder = Hop.builder();
 
     if ((type & TYPE_ACCOUNT) > 0) {
-      byteArray.append(parser.read(AccountIdType.WIDTH));
+      builder.account(AccountIdType.CODEC.fromParser(parser).toJson());
     }
 
     if ((type & TYPE_CURRENCY) > 0) {
-      byteArray.append(parser.read(CurrencyType.WIDTH));
+      builder.currency(CurrencyType.CODEC.fromParser(parser).toJson());
     }
 
     if ((type & TYPE_ISSUER) > 0) {
-      byteArray.append(parser.read(AccountIdType.WIDTH));
+      builder.account(AccountIdType.CODEC.fromParser(parser).toJson());
     }
 
-    return new HopType(byteArray);
+    return objectMapper.valueToTree(builder.build());
   }
 
-  @Override
-  public HopType fromJson(JsonNode node) throws JsonProcessingException {
-    if (!node.isObject()) {
-      throw new IllegalArgumentException("node is not an object");
+  /**
+   * The stateless codec for {@link HopType}.
+   */
+  public static final class Codec extends TypeCodec<HopType> {
+
+    private Codec() {
     }
 
-    UnsignedByteArray byteArray = UnsignedByteArray.ofSize(1);
+    @Override
+    public HopType fromParser(BinaryParser parser) {
+      int type = parser.readUnsignedByte();
+      UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
 
-    Hop hop = objectMapper.treeToValue(node, Hop.class);
+      if ((type & TYPE_ACCOUNT) > 0) {
+        byteArray.append(parser.read(AccountIdType.WIDTH));
+      }
 
-    hop.account().ifPresent(account -> {
-      byteArray.append(new AccountIdType().fromJson(account).value());
-      byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ACCOUNT)));
-    });
+      if ((type & TYPE_CURRENCY) > 0) {
+        byteArray.append(parser.read(CurrencyType.WIDTH));
+      }
 
-    hop.currency().ifPresent(currency -> {
-      byteArray.append(new CurrencyType().fromJson(currency).value());
-      byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_CURRENCY)));
-    });
+      if ((type & TYPE_ISSUER) > 0) {
+        byteArray.append(parser.read(AccountIdType.WIDTH));
+      }
 
-    hop.issuer().ifPresent(issuer -> {
-      byteArray.append(new AccountIdType().fromJson(issuer).value());
-      byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ISSUER)));
-    });
+      return new HopType(byteArray);
+    }
 
-    return new HopType(byteArray);
-  }
+    @Override
+    public HopType fromJson(JsonNode node) throws JsonProcessingException {
+      if (!node.isObject()) {
+        throw new IllegalArgumentException("node is not an object");
+      }
 
-  @Override
-  public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    int type = parser.readUInt8().intValue();
+      UnsignedByteArray byteArray = UnsignedByteArray.ofSize(1);
 
-    ImmutableHop.Builder builder = Hop.builder();
+      Hop hop = objectMapper.treeToValue(node, Hop.class);
 
-    if ((type & TYPE_ACCOUNT) > 0) {
-      builder.account(new AccountIdType().fromParser(parser).toJson());
-    }
+      hop.account().ifPresent(account -> {
+        byteArray.append(AccountIdType.CODEC.fromJson(account).value());
+        byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ACCOUNT)));
+      });
 
-    if ((type & TYPE_CURRENCY) > 0) {
-      builder.currency(new CurrencyType().fromParser(parser).toJson());
-    }
+      hop.currency().ifPresent(currency -> {
+        byteArray.append(CurrencyType.CODEC.fromJson(currency).value());
+        byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_CURRENCY)));
+      });
 
-    if ((type & TYPE_ISSUER) > 0) {
-      builder.account(new AccountIdType().fromParser(parser).toJson());
-    }
+      hop.issuer().ifPresent(issuer -> {
+        byteArray.append(AccountIdType.CODEC.fromJson(issuer).value());
+        byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ISSUER)));
+      });
 
-    return objectMapper.valueToTree(builder.build());
+      return new HopType(byteArray);
+    }
   }
 }
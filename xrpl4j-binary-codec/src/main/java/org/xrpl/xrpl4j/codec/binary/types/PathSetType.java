@@ -43,6 +43,11 @@ public class PathSetType extends SerializedType<PathSetType> {
   public static final String PATHSET_END_HEX = "00";
   public static final String PATH_SEPARATOR_HEX = "FF";
 
+  /**
+   * The shared, stateless codec for {@link PathSetType}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public PathSetType() {
     this(UnsignedByteArray.empty());
   }
@@ -53,46 +58,65 @@ public class PathSetType extends SerializedType<PathSetType> {
 
   @Override
   public PathSetType fromParser(BinaryParser parser) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    while (parser.hasMore()) {
-      byteArray.append(new PathType().fromParser(parser).value());
-      UnsignedByteArray nextByte = parser.read(1);
-      byteArray.append(nextByte);
-      if (nextByte.hexValue().equals(PATHSET_END_HEX)) {
-        break;
-      }
-    }
-    return new PathSetType(byteArray);
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public PathSetType fromJson(JsonNode node) throws JsonProcessingException {
-    if (!node.isArray()) {
-      throw new IllegalArgumentException("node is not an array");
-    }
-
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-
-    Iterator<JsonNode> nodeIterator = node.elements();
-    while (nodeIterator.hasNext()) {
-      JsonNode child = nodeIterator.next();
-      byteArray.append(new PathType().fromJson(child).value());
-      byteArray.append(UnsignedByteArray.fromHex(PATH_SEPARATOR_HEX));
-    }
-
-    byteArray.set(byteArray.length() - 1, UnsignedByte.of(PATHSET_END_HEX));
-    return new PathSetType(byteArray);
+    return CODEC.fromJson(node);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.value());
     List<JsonNode> values = new ArrayList<>();
 
     while (parser.hasMore()) {
-      values.add(new PathType().fromParser(parser).toJson());
+      values.add(PathType.CODEC.fromParser(parser).toJson());
       parser.skip(1);
     }
     return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
+
+  /**
+   * The stateless codec for {@link PathSetType}.
+   */
+  public static final class Codec extends TypeCodec<PathSetType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public PathSetType fromParser(BinaryParser parser) {
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+      while (parser.hasMore()) {
+        byteArray.append(PathType.CODEC.fromParser(parser).value());
+        int nextByte = parser.readUnsignedByte();
+        byteArray.append((byte) nextByte);
+        if (nextByte == PathType.PATHSET_END_BYTE) {
+          break;
+        }
+      }
+      return new PathSetType(byteArray);
+    }
+
+    @Override
+    public PathSetType fromJson(JsonNode node) throws JsonProcessingException {
+      if (!node.isArray()) {
+        throw new IllegalArgumentException("node is not an array");
+      }
+
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+
+      Iterator<JsonNode> nodeIterator = node.elements();
+      while (nodeIterator.hasNext()) {
+        JsonNode child = nodeIterator.next();
+        byteArray.append(PathType.CODEC.fromJson(child).value());
+        byteArray.append(UnsignedByteArray.fromHex(PATH_SEPARATOR_HEX));
+      }
+
+      byteArray.set(byteArray.length() - 1, UnsignedByte.of(PATHSET_END_HEX));
+      return new PathSetType(byteArray);
+    }
+  }
 }
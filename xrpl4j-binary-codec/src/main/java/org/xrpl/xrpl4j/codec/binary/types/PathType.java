@@ -41,6 +41,13 @@ public class PathType extends SerializedType<PathType> {
    */
   public static final String PATHSET_END_HEX = "00";
   public static final String PATH_SEPARATOR_HEX = "FF";
+  static final int PATHSET_END_BYTE = 0x00;
+  static final int PATH_SEPARATOR_BYTE = 0xFF;
+
+  /**
+   * The shared, stateless codec for {@link PathType}.
+   */
+  public static final Codec CODEC = new Codec();
 
   public PathType() {
     this(UnsignedByteArray.empty());
@@ -52,39 +59,58 @@ public class PathType extends SerializedType<PathType> {
 
   @Override
   public PathType fromParser(BinaryParser parser) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-
-    while (parser.hasMore()) {
-      byteArray.append(new HopType().fromParser(parser).value());
-      String nextByte = parser.peek().hexValue();
-      if (nextByte.equals(PATH_SEPARATOR_HEX) || nextByte.equals(PATHSET_END_HEX)) {
-        break;
-      }
-    }
-    return new PathType(byteArray);
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public PathType fromJson(JsonNode node) throws JsonProcessingException {
-    if (!node.isArray()) {
-      throw new IllegalArgumentException("node is not an object");
-    }
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    Iterator<JsonNode> nodeIterator = node.elements();
-    while (nodeIterator.hasNext()) {
-      JsonNode child = nodeIterator.next();
-      byteArray.append(new HopType().fromJson(child).value());
-    }
-    return new PathType(byteArray);
+    return CODEC.fromJson(node);
   }
 
   @Override
   public JsonNode toJson() {
     List<JsonNode> values = new ArrayList<>();
-    BinaryParser parser = new BinaryParser(this.toHex());
+    BinaryParser parser = new BinaryParser(this.value());
     while (parser.hasMore()) {
-      values.add(new HopType().fromParser(parser).toJson());
+      values.add(HopType.CODEC.fromParser(parser).toJson());
     }
     return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
+
+  /**
+   * The stateless codec for {@link PathType}.
+   */
+  public static final class Codec extends TypeCodec<PathType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public PathType fromParser(BinaryParser parser) {
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+
+      while (parser.hasMore()) {
+        byteArray.append(HopType.CODEC.fromParser(parser).value());
+        int nextByte = parser.peekUnsignedByte();
+        if (nextByte == PATH_SEPARATOR_BYTE || nextByte == PATHSET_END_BYTE) {
+          break;
+        }
+      }
+      return new PathType(byteArray);
+    }
+
+    @Override
+    public PathType fromJson(JsonNode node) throws JsonProcessingException {
+      if (!node.isArray()) {
+        throw new IllegalArgumentException("node is not an object");
+      }
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+      Iterator<JsonNode> nodeIterator = node.elements();
+      while (nodeIterator.hasNext()) {
+        JsonNode child = nodeIterator.next();
+        byteArray.append(HopType.CODEC.fromJson(child).value());
+      }
+      return new PathType(byteArray);
+    }
+  }
 }
@@ -33,6 +33,7 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Codec for XRPL STArray type.
@@ -41,9 +42,15 @@ import java.util.List;
 public class STArrayType extends SerializedType<STArrayType> {
 
   public static final String ARRAY_END_MARKER_HEX = "F1";
+  static final byte ARRAY_END_MARKER_BYTE = (byte) 0xF1;
 
   public static final String ARRAY_END_MARKER_NAME = "ArrayEndMarker";
 
+  /**
+   * The shared, stateless codec for {@link STArrayType}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public STArrayType() {
     this(UnsignedByteArray.empty());
   }
@@ -54,54 +61,95 @@ public class STArrayType extends SerializedType<STArrayType> {
 
   @Override
   public STArrayType fromParser(BinaryParser parser) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteArray);
-
-    while (parser.hasMore()) {
-      FieldInstance fieldInstance = parser.readField()
-        .orElseThrow(() -> new IllegalArgumentException("Parser should have had more fields but did not."));
-      if (fieldInstance.name().equals(ARRAY_END_MARKER_NAME)) {
-        break;
-      }
-      SerializedType<?> associatedValue = parser.readFieldValue(fieldInstance);
-      serializer.writeFieldAndValue(fieldInstance, associatedValue);
-      serializer.put(STObjectType.OBJECT_END_MARKER_HEX);
-    }
-    serializer.put(ARRAY_END_MARKER_HEX);
-    return new STArrayType(byteArray);
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public STArrayType fromJson(JsonNode node) {
-    if (!node.isArray()) {
-      throw new IllegalArgumentException("node is not an array");
-    }
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteList);
-
-    Iterator<JsonNode> nodeIterator = node.elements();
-    while (nodeIterator.hasNext()) {
-      JsonNode child = nodeIterator.next();
-      serializer.put(new STObjectType().fromJson(child).value().hexValue());
-    }
-    serializer.put(ARRAY_END_MARKER_HEX);
-    return new STArrayType(byteList);
+    return CODEC.fromJson(node);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
-    List<JsonNode> values = new ArrayList<>();
-    while (parser.hasMore()) {
-      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
-      if (field.name().equals(ARRAY_END_MARKER_NAME)) {
-        break;
+    return CODEC.readJson(new BinaryParser(this.value()));
+  }
+
+  /**
+   * The stateless codec for {@link STArrayType}. Besides reading and writing whole {@link STArrayType} values, it can
+   * stream an array between JSON and a {@link BinarySerializer} or {@link BinaryParser}.
+   */
+  public static final class Codec extends TypeCodec<STArrayType> {
+
+    private Codec() {
+    }
+
+    @Override
+    public STArrayType fromParser(BinaryParser parser) {
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+      BinarySerializer serializer = new BinarySerializer(byteArray);
+
+      while (parser.hasMore()) {
+        FieldInstance fieldInstance = parser.readField()
+          .orElseThrow(() -> new IllegalArgumentException("Parser should have had more fields but did not."));
+        if (fieldInstance.name().equals(ARRAY_END_MARKER_NAME)) {
+          break;
+        }
+        SerializedType<?> associatedValue = parser.readFieldValue(fieldInstance);
+        serializer.writeFieldAndValue(fieldInstance, associatedValue);
+        serializer.put(STObjectType.OBJECT_END_MARKER_BYTE);
+      }
+      serializer.put(ARRAY_END_MARKER_BYTE);
+      return new STArrayType(byteArray);
+    }
+
+    @Override
+    public STArrayType fromJson(JsonNode node) {
+      UnsignedByteArray byteList = UnsignedByteArray.empty();
+      writeJson(node, new BinarySerializer(byteList));
+      return new STArrayType(byteList);
+    }
+
+    /**
+     * Serialize a JSON array directly into {@code serializer}, without building an intermediate {@link STArrayType}.
+     *
+     * @param node       A {@link JsonNode} containing the array to serialize.
+     * @param serializer The {@link BinarySerializer} to write into.
+     */
+    public void writeJson(JsonNode node, BinarySerializer serializer) {
+      Objects.requireNonNull(node);
+      Objects.requireNonNull(serializer);
+      if (!node.isArray()) {
+        throw new IllegalArgumentException("node is not an array");
+      }
+      Iterator<JsonNode> nodeIterator = node.elements();
+      while (nodeIterator.hasNext()) {
+        STObjectType.CODEC.writeJson(nodeIterator.next(), serializer);
+      }
+      serializer.put(ARRAY_END_MARKER_BYTE);
+    }
+
+    /**
+     * Read the objects of an array from {@code parser} as JSON, up to the next array end marker or the end of the
+     * parser's input.
+     *
+     * @param parser A {@link BinaryParser} positioned at the first object of an array.
+     *
+     * @return An {@link ArrayNode}.
+     */
+    public ArrayNode readJson(BinaryParser parser) {
+      Objects.requireNonNull(parser);
+      List<JsonNode> values = new ArrayList<>();
+      while (parser.hasMore()) {
+        FieldInstance field = parser.readField()
+          .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+        if (field.name().equals(ARRAY_END_MARKER_NAME)) {
+          break;
+        }
+        ObjectNode child = new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(),
+          ImmutableMap.of(field.name(), STObjectType.CODEC.readJson(parser)));
+        values.add(child);
       }
-      STObjectType objectType = new STObjectType().fromParser(parser);
-      ObjectNode child = new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(),
-        ImmutableMap.of(field.name(), objectType.toJson()));
-      values.add(child);
+      return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
     }
-    return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
 }
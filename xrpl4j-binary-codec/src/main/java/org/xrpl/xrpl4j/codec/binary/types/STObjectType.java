@@ -43,6 +43,7 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -52,9 +53,15 @@ import java.util.stream.Collectors;
 public class STObjectType extends SerializedType<STObjectType> {
 
   public static final String OBJECT_END_MARKER_HEX = "E1";
+  static final byte OBJECT_END_MARKER_BYTE = (byte) 0xE1;
   private static final String OBJECT_END_MARKER = "ObjectEndMarker";
   private static final String ST_OBJECT = "STObject";
-  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+  private static final String ST_ARRAY = "STArray";
+
+  /**
+   * The shared, stateless codec for {@link STObjectType}.
+   */
+  public static final Codec CODEC = new Codec();
 
   public STObjectType() {
     this(UnsignedByteArray.empty());
@@ -66,129 +73,180 @@ public class STObjectType extends SerializedType<STObjectType> {
 
   @Override
   public STObjectType fromParser(BinaryParser parser) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteArray);
-
-    while (parser.hasMore()) {
-      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
-      if (field.name().equals(OBJECT_END_MARKER)) {
-        break;
-      }
-
-      SerializedType<?> associatedValue = parser.readFieldValue(field);
-      serializer.writeFieldAndValue(field, associatedValue);
-      if (field.type().equals(ST_OBJECT)) {
-        serializer.put(OBJECT_END_MARKER_HEX);
-      }
-    }
-    return new STObjectType(byteArray);
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public STObjectType fromJson(JsonNode node) {
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteList);
-    boolean isUNLModify;
-    try {
-      isUNLModify = "UNLModify".equals(node.get("TransactionType").asText());
-    } catch (Exception e) {
-      isUNLModify = false;
+    return CODEC.fromJson(node);
+  }
+
+  /**
+   * Return this object as JSON.
+   *
+   * @return A {@link JsonNode}.
+   */
+  public JsonNode toJson() {
+    return CODEC.readJson(new BinaryParser(this.value()));
+  }
+
+  /**
+   * The stateless codec for {@link STObjectType}. Besides reading and writing whole {@link STObjectType} values, it
+   * can stream an object between JSON and a {@link BinarySerializer} or {@link BinaryParser}.
+   */
+  public static final class Codec extends TypeCodec<STObjectType> {
+
+    private Codec() {
     }
 
-    List<FieldWithValue<JsonNode>> fields = new ArrayList<>();
-    for (String fieldName : Lists.newArrayList(node.fieldNames())) {
+    @Override
+    public STObjectType fromParser(BinaryParser parser) {
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+      BinarySerializer serializer = new BinarySerializer(byteArray);
 
-      /**
-       * The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
-       */
-      if (isUNLModify && fieldName.equals("Account")) {
-        continue;
-      }
+      while (parser.hasMore()) {
+        FieldInstance field = parser.readField()
+          .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+        if (field.name().equals(OBJECT_END_MARKER)) {
+          break;
+        }
 
-      JsonNode fieldNode;
-      // rippled expects signers canonically based on address
-      if (fieldName.equals("Signers")) {
-        final AddressCodec addressCodec = AddressCodec.getInstance();
-        ArrayNode arrayNode = (ArrayNode) node.get(fieldName);
-        List<JsonNode> jsonNodeList = new ArrayList<>();
-        for (JsonNode x : arrayNode) {
-          jsonNodeList.add(x);
+        SerializedType<?> associatedValue = parser.readFieldValue(field);
+        serializer.writeFieldAndValue(field, associatedValue);
+        if (field.type().equals(ST_OBJECT)) {
+          serializer.put(OBJECT_END_MARKER_BYTE);
         }
-        List<JsonNode> jsonNodesSorted = jsonNodeList.stream().sorted(
-          Comparator.comparing(
-            signature -> new BigInteger(addressCodec.decodeAccountId(
-              Address.of(signature.get("Signer").get("Account").asText())
-            ).hexValue(), 16)
-          )
-        ).collect(Collectors.toList());
-
-        final ObjectMapper objectMapper = ObjectMapperFactory.create();
-        fieldNode = objectMapper.createObjectNode().arrayNode().addAll(jsonNodesSorted);
-      } else {
-        fieldNode = node.get(fieldName);
       }
+      return new STObjectType(byteArray);
+    }
 
-      definitionsService.getFieldInstance(fieldName)
-        .filter(FieldInstance::isSerialized)
-        .ifPresent(fieldInstance -> fields.add(FieldWithValue.<JsonNode>builder()
-          .field(fieldInstance)
-          .value(mapSpecializedValues(fieldName, fieldNode))
-          .build()));
+    @Override
+    public STObjectType fromJson(JsonNode node) {
+      UnsignedByteArray byteList = UnsignedByteArray.empty();
+      writeJson(node, new BinarySerializer(byteList));
+      return new STObjectType(byteList);
     }
-    fields.stream()
-      .sorted()
-      .forEach(value -> {
-        try {
-          serializer.writeFieldAndValue(value.field(), value.value());
-        } catch (JsonProcessingException e) {
-          throw new IllegalArgumentException("invalid json", e);
+
+    /**
+     * Serialize a JSON object directly into {@code serializer}, without building an intermediate {@link STObjectType}.
+     *
+     * @param node       A {@link JsonNode} containing the object to serialize.
+     * @param serializer The {@link BinarySerializer} to write into.
+     */
+    public void writeJson(JsonNode node, BinarySerializer serializer) {
+      Objects.requireNonNull(node);
+      Objects.requireNonNull(serializer);
+      boolean isUNLModify;
+      try {
+        isUNLModify = "UNLModify".equals(node.get("TransactionType").asText());
+      } catch (Exception e) {
+        isUNLModify = false;
+      }
+
+      List<FieldWithValue<JsonNode>> fields = new ArrayList<>();
+      for (String fieldName : Lists.newArrayList(node.fieldNames())) {
+
+        /**
+         * The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
+         */
+        if (isUNLModify && fieldName.equals("Account")) {
+          continue;
         }
-        if (value.field().type().equals(ST_OBJECT)) {
-          serializer.put(OBJECT_END_MARKER_HEX);
+
+        JsonNode fieldNode;
+        // rippled expects signers canonically based on address
+        if (fieldName.equals("Signers")) {
+          final AddressCodec addressCodec = AddressCodec.getInstance();
+          ArrayNode arrayNode = (ArrayNode) node.get(fieldName);
+          List<JsonNode> jsonNodeList = new ArrayList<>();
+          for (JsonNode x : arrayNode) {
+            jsonNodeList.add(x);
+          }
+          List<JsonNode> jsonNodesSorted = jsonNodeList.stream().sorted(
+            Comparator.comparing(
+              signature -> new BigInteger(addressCodec.decodeAccountId(
+                Address.of(signature.get("Signer").get("Account").asText())
+              ).hexValue(), 16)
+            )
+          ).collect(Collectors.toList());
+
+          final ObjectMapper objectMapper = ObjectMapperFactory.create();
+          fieldNode = objectMapper.createObjectNode().arrayNode().addAll(jsonNodesSorted);
+        } else {
+          fieldNode = node.get(fieldName);
         }
-      });
 
-    return new STObjectType(byteList);
-  }
+        DefinitionsService.getInstance().getFieldInstance(fieldName)
+          .filter(FieldInstance::isSerialized)
+          .ifPresent(fieldInstance -> fields.add(FieldWithValue.<JsonNode>builder()
+            .field(fieldInstance)
+            .value(mapSpecializedValues(fieldName, fieldNode))
+            .build()));
+      }
+      fields.stream()
+        .sorted()
+        .forEach(value -> {
+          try {
+            serializer.writeFieldAndValue(value.field(), value.value());
+          } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("invalid json", e);
+          }
+          if (value.field().type().equals(ST_OBJECT)) {
+            serializer.put(OBJECT_END_MARKER_BYTE);
+          }
+        });
+    }
 
-  /**
-   * Maps (if necessary) a JSON node for the given fieldName to it's canonical value. Some fields (e.g. TransactionType)
-   * can be specified in JSON as an ordinal value or an enum (e.g. OfferCreate). Enum values need to be converted to the
-   * ordinal value for binary serialization.
-   *
-   * @param fieldName name of the JSON field.
-   * @param fieldNode JSON value for the field.
-   *
-   * @return either the original fieldNode or a remapped node if it's one of these special cases.
-   */
-  private JsonNode mapSpecializedValues(String fieldName, JsonNode fieldNode) {
-    return definitionsService.mapFieldSpecialization(fieldName, fieldNode.asText())
-      .map(value -> new TextNode("" + value))
-      .map(JsonNode.class::cast)
-      .orElse(fieldNode);
-  }
+    /**
+     * Maps (if necessary) a JSON node for the given fieldName to it's canonical value. Some fields (e.g.
+     * TransactionType) can be specified in JSON as an ordinal value or an enum (e.g. OfferCreate). Enum values need to
+     * be converted to the ordinal value for binary serialization.
+     *
+     * @param fieldName name of the JSON field.
+     * @param fieldNode JSON value for the field.
+     *
+     * @return either the original fieldNode or a remapped node if it's one of these special cases.
+     */
+    private JsonNode mapSpecializedValues(String fieldName, JsonNode fieldNode) {
+      return DefinitionsService.getInstance().mapFieldSpecialization(fieldName, fieldNode.asText())
+        .map(value -> new TextNode("" + value))
+        .map(JsonNode.class::cast)
+        .orElse(fieldNode);
+    }
 
-  /**
-   * Return this object as JSON.
-   *
-   * @return A {@link JsonNode}.
-   */
-  public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
-    Map<String, JsonNode> objectMap = new LinkedHashMap<>();
-    while (parser.hasMore()) {
-      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
-      if (field.name().equals(OBJECT_END_MARKER)) {
-        break;
+    /**
+     * Read the fields of an object from {@code parser} as JSON, up to the next object end marker or the end of the
+     * parser's input. Nested objects and arrays are read in the same pass rather than being copied out first.
+     *
+     * @param parser A {@link BinaryParser} positioned at the first field of an object.
+     *
+     * @return An {@link ObjectNode}.
+     */
+    public ObjectNode readJson(BinaryParser parser) {
+      Objects.requireNonNull(parser);
+      Map<String, JsonNode> objectMap = new LinkedHashMap<>();
+      while (parser.hasMore()) {
+        FieldInstance field = parser.readField()
+          .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+        if (field.name().equals(OBJECT_END_MARKER)) {
+          break;
+        }
+        JsonNode value;
+        if (field.type().equals(ST_OBJECT)) {
+          value = readJson(parser);
+        } else if (field.type().equals(ST_ARRAY)) {
+          value = STArrayType.CODEC.readJson(parser);
+        } else {
+          value = parser.readFieldValue(field).toJson();
+        }
+        JsonNode mapped = DefinitionsService.getInstance()
+          .mapFieldRawValueToSpecialization(field.name(), value.asText())
+          .map(TextNode::new)
+          .map(JsonNode.class::cast)
+          .orElse(value);
+        objectMap.put(field.name(), mapped);
       }
-      JsonNode value = parser.readFieldValue(field).toJson();
-      JsonNode mapped = definitionsService.mapFieldRawValueToSpecialization(field.name(), value.asText())
-        .map(TextNode::new)
-        .map(JsonNode.class::cast)
-        .orElse(value);
-      objectMap.put(field.name(), mapped);
+      return new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), objectMap);
     }
-    return new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), objectMap);
   }
-
 }
@@ -0,0 +1,436 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only view over the bytes of a binary STObject that decodes individual fields on demand.
+ *
+ * <p>The first access scans the object once to record where each field's value starts and ends, without decoding
+ * any of them. Later accesses decode only the field asked for, so code that filters many objects on one or two
+ * fields does not pay for the rest. Nested objects and arrays are returned as views over slices of the same bytes;
+ * nothing is copied.</p>
+ *
+ * <p>Instances are immutable and may be shared between threads.</p>
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+public class STObjectView {
+
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private final UnsignedByteArray bytes;
+
+  // Built on first access. The index is immutable, so two threads racing to build it is harmless.
+  private Index index;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param bytes The bytes of an STObject, without a signing or hash prefix. A trailing object end marker is
+   *              allowed but not required.
+   */
+  public STObjectView(UnsignedByteArray bytes) {
+    this.bytes = Objects.requireNonNull(bytes);
+  }
+
+  /**
+   * Whether this object contains a field named {@code fieldName}.
+   *
+   * @param fieldName The name of a field, such as {@code "Sequence"}.
+   *
+   * @return {@code true} if the field is present.
+   */
+  public boolean has(String fieldName) {
+    return index().find(fieldName) >= 0;
+  }
+
+  /**
+   * The names of the fields in this object, in the order they are serialized.
+   *
+   * @return A {@link List} of field names.
+   */
+  public List<String> fieldNames() {
+    Index index = index();
+    List<String> names = new ArrayList<>(index.fields.length);
+    for (FieldInstance field : index.fields) {
+      names.add(field.name());
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * The raw value of a field, without its field header or length prefix.
+   *
+   * @param fieldName The name of a field.
+   *
+   * @return An {@link UnsignedByteArray} that shares this view's bytes.
+   */
+  public UnsignedByteArray getBytes(String fieldName) {
+    Index index = index();
+    int slot = index.require(fieldName);
+    return bytes.slice(index.starts[slot], index.ends[slot]);
+  }
+
+  /**
+   * The value of a {@code UInt8} field.
+   *
+   * @param fieldName The name of a {@code UInt8} field.
+   *
+   * @return The value, between 0 and 255.
+   */
+  public int getUInt8(String fieldName) {
+    return parserFor(fieldName, "UInt8").readUnsignedByte();
+  }
+
+  /**
+   * The value of a {@code UInt16} field.
+   *
+   * @param fieldName The name of a {@code UInt16} field, such as {@code "TransactionType"}.
+   *
+   * @return The value, between 0 and 65535.
+   */
+  public int getUInt16(String fieldName) {
+    return parserFor(fieldName, "UInt16").readUnsignedShort();
+  }
+
+  /**
+   * The value of a {@code UInt32} field.
+   *
+   * @param fieldName The name of a {@code UInt32} field, such as {@code "Sequence"}.
+   *
+   * @return The value, between 0 and 2^32 - 1.
+   */
+  public long getUInt32(String fieldName) {
+    return parserFor(fieldName, "UInt32").readUnsignedInt();
+  }
+
+  /**
+   * The value of a {@code UInt64} field.
+   *
+   * @param fieldName The name of a {@code UInt64} field.
+   *
+   * @return An {@link UnsignedLong}.
+   */
+  public UnsignedLong getUInt64(String fieldName) {
+    return UnsignedLong.fromLongBits(parserFor(fieldName, "UInt64").readLong());
+  }
+
+  /**
+   * The value of an {@code AccountID} field.
+   *
+   * @param fieldName The name of an {@code AccountID} field, such as {@code "Account"}.
+   *
+   * @return The classic {@link Address}.
+   */
+  public Address getAccountId(String fieldName) {
+    requireType(fieldName, "AccountID");
+    return AddressCodec.getInstance().encodeAccountId(getBytes(fieldName));
+  }
+
+  /**
+   * Decode a single field to the same JSON that {@link STObjectType#toJson()} produces for it.
+   *
+   * @param fieldName The name of a field.
+   *
+   * @return A {@link JsonNode}.
+   */
+  public JsonNode getJson(String fieldName) {
+    Index index = index();
+    int slot = index.require(fieldName);
+    FieldInstance field = index.fields[slot];
+    BinaryParser parser = new BinaryParser(bytes.slice(index.starts[slot], index.ends[slot]));
+    JsonNode value;
+    if (field.type().equals(ST_OBJECT)) {
+      value = STObjectType.CODEC.readJson(parser);
+    } else if (field.type().equals(ST_ARRAY)) {
+      value = STArrayType.CODEC.readJson(parser);
+    } else {
+      TypeCodec<?> codec = field.codec()
+        .orElseThrow(() -> new IllegalArgumentException("unsupported type " + field.type()));
+      value = field.isVariableLengthEncoded() ?
+        codec.fromParser(parser, parser.size()).toJson() :
+        codec.fromParser(parser).toJson();
+    }
+    return definitionsService.mapFieldRawValueToSpecialization(field.name(), value.asText())
+      .map(TextNode::new)
+      .map(JsonNode.class::cast)
+      .orElse(value);
+  }
+
+  /**
+   * A view over a nested {@code STObject} field.
+   *
+   * @param fieldName The name of an {@code STObject} field.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public STObjectView getObject(String fieldName) {
+    requireType(fieldName, ST_OBJECT);
+    return new STObjectView(getBytes(fieldName));
+  }
+
+  /**
+   * Views over the elements of an {@code STArray} field. As in JSON, each element is an object with a single field
+   * that wraps the element's content, so the fields of a memo are read with {@code element.getObject("Memo")}.
+   *
+   * @param fieldName The name of an {@code STArray} field, such as {@code "Memos"}.
+   *
+   * @return A {@link List} of {@link STObjectView}s.
+   */
+  public List<STObjectView> getArray(String fieldName) {
+    requireType(fieldName, ST_ARRAY);
+    UnsignedByteArray array = getBytes(fieldName);
+    BinaryParser parser = new BinaryParser(array);
+    List<STObjectView> elements = new ArrayList<>();
+    while (parser.hasMore()) {
+      int start = parser.position();
+      FieldInstance field = readField(parser);
+      if (field.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+        break;
+      }
+      skipObject(parser);
+      elements.add(new STObjectView(array.slice(start, parser.position())));
+    }
+    return Collections.unmodifiableList(elements);
+  }
+
+  private BinaryParser parserFor(String fieldName, String type) {
+    requireType(fieldName, type);
+    return new BinaryParser(getBytes(fieldName));
+  }
+
+  private void requireType(String fieldName, String type) {
+    Index index = index();
+    FieldInstance field = index.fields[index.require(fieldName)];
+    if (!field.type().equals(type)) {
+      throw new IllegalArgumentException(
+        String.format("Field %s has type %s, not %s", fieldName, field.type(), type)
+      );
+    }
+  }
+
+  private Index index() {
+    Index result = index;
+    if (result == null) {
+      result = scan();
+      index = result;
+    }
+    return result;
+  }
+
+  private Index scan() {
+    List<FieldInstance> fields = new ArrayList<>();
+    List<Integer> starts = new ArrayList<>();
+    List<Integer> ends = new ArrayList<>();
+    BinaryParser parser = new BinaryParser(bytes);
+    while (parser.hasMore()) {
+      FieldInstance field = readField(parser);
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        break;
+      }
+      int start;
+      int end;
+      if (field.isVariableLengthEncoded()) {
+        int length = parser.readVariableLengthLength();
+        start = parser.position();
+        parser.skip(length);
+        end = parser.position();
+      } else if (field.type().equals(ST_OBJECT)) {
+        start = parser.position();
+        end = skipObject(parser);
+      } else if (field.type().equals(ST_ARRAY)) {
+        start = parser.position();
+        end = skipArray(parser);
+      } else {
+        start = parser.position();
+        skipValue(parser, field);
+        end = parser.position();
+      }
+      if (end > parser.size()) {
+        throw new IndexOutOfBoundsException("Field " + field.name() + " runs past the end of the object");
+      }
+      fields.add(field);
+      starts.add(start);
+      ends.add(end);
+    }
+    return new Index(fields, starts, ends);
+  }
+
+  private static FieldInstance readField(BinaryParser parser) {
+    return parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+  }
+
+  /**
+   * Skip the fields of a nested object and its end marker.
+   *
+   * @return The position of the end marker, which is where the object's content ends.
+   */
+  private static int skipObject(BinaryParser parser) {
+    while (parser.hasMore()) {
+      int position = parser.position();
+      FieldInstance field = readField(parser);
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        return position;
+      }
+      skipField(parser, field);
+    }
+    return parser.position();
+  }
+
+  /**
+   * Skip the elements of a nested array and its end marker.
+   *
+   * @return The position of the end marker, which is where the array's content ends.
+   */
+  private static int skipArray(BinaryParser parser) {
+    while (parser.hasMore()) {
+      int position = parser.position();
+      FieldInstance field = readField(parser);
+      if (field.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+        return position;
+      }
+      skipObject(parser);
+    }
+    return parser.position();
+  }
+
+  private static void skipField(BinaryParser parser, FieldInstance field) {
+    if (field.isVariableLengthEncoded()) {
+      parser.skip(parser.readVariableLengthLength());
+    } else if (field.type().equals(ST_OBJECT)) {
+      skipObject(parser);
+    } else if (field.type().equals(ST_ARRAY)) {
+      skipArray(parser);
+    } else {
+      skipValue(parser, field);
+    }
+  }
+
+  private static void skipValue(BinaryParser parser, FieldInstance field) {
+    switch (field.type()) {
+      case "UInt8":
+        parser.skip(1);
+        break;
+      case "UInt16":
+        parser.skip(2);
+        break;
+      case "UInt32":
+        parser.skip(4);
+        break;
+      case "UInt64":
+        parser.skip(8);
+        break;
+      case "Hash128":
+        parser.skip(Hash128Type.WIDTH);
+        break;
+      case "Hash160":
+        parser.skip(Hash160Type.WIDTH);
+        break;
+      case "Hash256":
+        parser.skip(Hash256Type.WIDTH);
+        break;
+      case "Amount":
+        boolean isXrp = (parser.peekUnsignedByte() & 0x80) == 0;
+        parser.skip(isXrp ? AmountType.NATIVE_AMOUNT_BYTE_LENGTH : AmountType.CURRENCY_AMOUNT_BYTE_LENGTH);
+        break;
+      case "PathSet":
+        skipPathSet(parser);
+        break;
+      default:
+        parser.readFieldValue(field);
+    }
+  }
+
+  private static void skipPathSet(BinaryParser parser) {
+    while (parser.hasMore()) {
+      int type = parser.readUnsignedByte();
+      if (type == PathType.PATHSET_END_BYTE) {
+        return;
+      }
+      if (type == PathType.PATH_SEPARATOR_BYTE) {
+        continue;
+      }
+      if ((type & HopType.TYPE_ACCOUNT) != 0) {
+        parser.skip(Hash160Type.WIDTH);
+      }
+      if ((type & HopType.TYPE_CURRENCY) != 0) {
+        parser.skip(Hash160Type.WIDTH);
+      }
+      if ((type & HopType.TYPE_ISSUER) != 0) {
+        parser.skip(Hash160Type.WIDTH);
+      }
+    }
+  }
+
+  /**
+   * Where each field's value lies within the object's bytes, in serialization order.
+   */
+  private static final class Index {
+
+    private final FieldInstance[] fields;
+    private final int[] starts;
+    private final int[] ends;
+
+    private Index(List<FieldInstance> fields, List<Integer> starts, List<Integer> ends) {
+      this.fields = fields.toArray(new FieldInstance[0]);
+      this.starts = new int[starts.size()];
+      this.ends = new int[ends.size()];
+      for (int i = 0; i < this.starts.length; i++) {
+        this.starts[i] = starts.get(i);
+        this.ends[i] = ends.get(i);
+      }
+    }
+
+    private int find(String fieldName) {
+      for (int i = 0; i < fields.length; i++) {
+        if (fields[i].name().equals(fieldName)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private int require(String fieldName) {
+      int slot = find(fieldName);
+      if (slot < 0) {
+        throw new IllegalArgumentException("No field named " + fieldName);
+      }
+      return slot;
+    }
+  }
+}
@@ -23,6 +23,8 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
@@ -40,24 +42,45 @@ import java.util.function.Supplier;
 public abstract class SerializedType<T extends SerializedType<T>> {
 
   @SuppressWarnings("all")
-  private static final Map<String, Supplier<SerializedType<?>>> typeMap =
-    new ImmutableMap.Builder<String, Supplier<SerializedType<?>>>()
-      .put("AccountID", () -> new AccountIdType())
-      .put("Amount", () -> new AmountType())
-      .put("Blob", () -> new BlobType())
-      .put("Currency", () -> new CurrencyType())
-      .put("Hash128", () -> new Hash128Type())
-      .put("Hash160", () -> new Hash160Type())
-      .put("Hash256", () -> new Hash256Type())
-      .put("PathSet", () -> new PathSetType())
-      .put("STArray", () -> new STArrayType())
-      .put("STObject", () -> new STObjectType())
-      .put("UInt8", () -> new UInt8Type())
-      .put("UInt16", () -> new UInt16Type())
-      .put("UInt32", () -> new UInt32Type())
-      .put("UInt64", () -> new UInt64Type())
-      .put("Vector256", () -> new Vector256Type())
+  private static final Map<Class<?>, Supplier<SerializedType<?>>> typeFactories =
+    new ImmutableMap.Builder<Class<?>, Supplier<SerializedType<?>>>()
+      .put(AccountIdType.class, () -> new AccountIdType())
+      .put(AmountType.class, () -> new AmountType())
+      .put(BlobType.class, () -> new BlobType())
+      .put(CurrencyType.class, () -> new CurrencyType())
+      .put(Hash128Type.class, () -> new Hash128Type())
+      .put(Hash160Type.class, () -> new Hash160Type())
+      .put(Hash256Type.class, () -> new Hash256Type())
+      .put(HopType.class, () -> new HopType())
+      .put(PathType.class, () -> new PathType())
+      .put(PathSetType.class, () -> new PathSetType())
+      .put(STArrayType.class, () -> new STArrayType())
+      .put(STObjectType.class, () -> new STObjectType())
+      .put(UInt8Type.class, () -> new UInt8Type())
+      .put(UInt16Type.class, () -> new UInt16Type())
+      .put(UInt32Type.class, () -> new UInt32Type())
+      .put(UInt64Type.class, () -> new UInt64Type())
+      .put(Vector256Type.class, () -> new Vector256Type())
       .build();
+
+  private static final BiMap<String, Class<?>> typesByName = new ImmutableBiMap.Builder<String, Class<?>>()
+    .put("AccountID", AccountIdType.class)
+    .put("Amount", AmountType.class)
+    .put("Blob", BlobType.class)
+    .put("Currency", CurrencyType.class)
+    .put("Hash128", Hash128Type.class)
+    .put("Hash160", Hash160Type.class)
+    .put("Hash256", Hash256Type.class)
+    .put("PathSet", PathSetType.class)
+    .put("STArray", STArrayType.class)
+    .put("STObject", STObjectType.class)
+    .put("UInt8", UInt8Type.class)
+    .put("UInt16", UInt16Type.class)
+    .put("UInt32", UInt32Type.class)
+    .put("UInt64", UInt64Type.class)
+    .put("Vector256", Vector256Type.class)
+    .build();
+
   private final UnsignedByteArray bytes;
 
   public SerializedType(UnsignedByteArray bytes) {
@@ -65,14 +88,35 @@ public abstract class SerializedType<T extends SerializedType<T>> {
   }
 
   /**
-   * Get the {@link SerializedType} for the supplied {@code name}.
+   * Get a new {@link SerializedType} for the supplied {@code name}, holding the type's default value.
    *
    * @param name A {@link String} representing the name of a {@link SerializedType}.
    *
-   * @return A {@link SerializedType} for the supplied {@code name}.
+   * @return A {@link SerializedType} for the supplied {@code name}, or {@code null} if there is no such type.
+   *
+   * @see TypeCodecs#forName(String)
    */
   public static SerializedType<?> getTypeByName(String name) {
-    return typeMap.get(name).get();
+    Class<?> type = typesByName.get(name);
+    return type == null ? null : typeFactories.get(type).get();
+  }
+
+  /**
+   * Get a new instance of the supplied class, holding the type's default value.
+   *
+   * @param type The {@link Class} of a {@link SerializedType}.
+   * @param <T>  The type of {@code type}.
+   *
+   * @return A new instance of {@code type}.
+   *
+   * @see TypeCodecs#forClass(Class)
+   */
+  public static <T extends SerializedType<?>> T getTypeByClass(Class<T> type) {
+    Supplier<SerializedType<?>> factory = typeFactories.get(type);
+    if (factory == null) {
+      throw new IllegalArgumentException("unsupported type " + type.getName());
+    }
+    return type.cast(factory.get());
   }
 
   /**
@@ -83,12 +127,18 @@ public abstract class SerializedType<T extends SerializedType<T>> {
    * @return A {@link String} representing the name of {@code type}.
    */
   public static String getNameByType(SerializedType<?> type) {
-    return typeMap.entrySet()
-      .stream()
-      .filter(entry -> entry.getValue().get().getClass().equals(type.getClass()))
-      .map(Map.Entry::getKey)
-      .findAny()
-      .orElse(null);
+    return typesByName.inverse().get(type.getClass());
+  }
+
+  /**
+   * Get the class of the type named {@code name}.
+   *
+   * @param name A {@link String} representing the name of a {@link SerializedType}.
+   *
+   * @return The {@link Class} of the named type, or {@code null} if there is no such type.
+   */
+  static Class<?> getClassByName(String name) {
+    return typesByName.get(name);
   }
 
   /**
@@ -177,6 +227,15 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     list.append(this.bytes);
   }
 
+  /**
+   * Get the number of bytes in this type's binary encoding.
+   *
+   * @return An int.
+   */
+  public int byteLength() {
+    return bytes.length();
+  }
+
   /**
    * Convert this {@link SerializedType} to a byte array.
    *
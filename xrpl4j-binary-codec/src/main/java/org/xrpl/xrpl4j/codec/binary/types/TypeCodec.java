@@ -0,0 +1,110 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+import java.util.Objects;
+
+/**
+ * Reads and writes one XRPL serialized type. Where a {@link SerializedType} holds a value, a codec holds nothing, so
+ * there is a single shared instance per type, available from {@link TypeCodecs}.
+ *
+ * @param <T> The {@link SerializedType} read by this codec.
+ */
+public abstract class TypeCodec<T extends SerializedType<?>> {
+
+  /**
+   * Read a {@link T} using the supplied {@code parser}.
+   *
+   * @param parser A {@link BinaryParser} to use.
+   *
+   * @return A {@link T} based upon the information found in {@code parser}.
+   */
+  public T fromParser(BinaryParser parser) {
+    throw new UnsupportedOperationException("This operation is only supported by specific sub-classes.");
+  }
+
+  /**
+   * Read a {@link T} using the supplied {@code parser}.
+   *
+   * @param parser     A {@link BinaryParser} to use.
+   * @param lengthHint A hint/suggestion for the length of the content in {@code parser}.
+   *
+   * @return A {@link T} based upon the information found in {@code parser}.
+   */
+  public T fromParser(BinaryParser parser, int lengthHint) {
+    return fromParser(parser);
+  }
+
+  /**
+   * Obtain a {@link T} using the supplied {@code node}.
+   *
+   * @param node A {@link JsonNode} to use.
+   *
+   * @return A {@link T} based upon the information found in {@code node}.
+   * @throws JsonProcessingException if {@code node} is not well-formed JSON.
+   */
+  public abstract T fromJson(JsonNode node) throws JsonProcessingException;
+
+  /**
+   * Obtain a {@link T} from the supplied {@code json}.
+   *
+   * @param json A {@link String} containing JSON content.
+   *
+   * @return A {@link T}.
+   */
+  public T fromJson(String json) {
+    try {
+      return fromJson(BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Obtain a {@link T} from the supplied {@code hex}.
+   *
+   * @param hex A String of hex-encoded binary data.
+   *
+   * @return A {@link T}.
+   */
+  public T fromHex(String hex) {
+    return fromParser(new BinaryParser(hex));
+  }
+
+  /**
+   * Obtain a {@link T} from the supplied {@code hex}.
+   *
+   * @param hex        A {@link String} containing hex-encoded binary content.
+   * @param lengthHint An int representing the expected length of {@code hex}.
+   *
+   * @return A {@link T}.
+   */
+  public T fromHex(String hex, int lengthHint) {
+    Objects.requireNonNull(hex);
+    return fromParser(new BinaryParser(hex), lengthHint);
+  }
+}
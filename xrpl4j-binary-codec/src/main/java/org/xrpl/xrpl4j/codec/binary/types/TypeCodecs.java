@@ -0,0 +1,84 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The single registry of {@link TypeCodec}s, holding one shared, stateless codec per XRPL serialized type.
+ */
+public final class TypeCodecs {
+
+  private static final Map<Class<?>, TypeCodec<?>> codecsByClass = new ImmutableMap.Builder<Class<?>, TypeCodec<?>>()
+    .put(AccountIdType.class, AccountIdType.CODEC)
+    .put(AmountType.class, AmountType.CODEC)
+    .put(BlobType.class, BlobType.CODEC)
+    .put(CurrencyType.class, CurrencyType.CODEC)
+    .put(Hash128Type.class, Hash128Type.CODEC)
+    .put(Hash160Type.class, Hash160Type.CODEC)
+    .put(Hash256Type.class, Hash256Type.CODEC)
+    .put(HopType.class, HopType.CODEC)
+    .put(PathType.class, PathType.CODEC)
+    .put(PathSetType.class, PathSetType.CODEC)
+    .put(STArrayType.class, STArrayType.CODEC)
+    .put(STObjectType.class, STObjectType.CODEC)
+    .put(UInt8Type.class, UInt8Type.CODEC)
+    .put(UInt16Type.class, UInt16Type.CODEC)
+    .put(UInt32Type.class, UInt32Type.CODEC)
+    .put(UInt64Type.class, UInt64Type.CODEC)
+    .put(Vector256Type.class, Vector256Type.CODEC)
+    .build();
+
+  private TypeCodecs() {
+  }
+
+  /**
+   * Get the codec for the type named {@code name}.
+   *
+   * @param name A {@link String} representing the name of a {@link SerializedType}, such as {@code UInt32}.
+   *
+   * @return An optionally-present {@link TypeCodec}, empty if the named type cannot be serialized.
+   */
+  public static Optional<TypeCodec<?>> forName(String name) {
+    return Optional.ofNullable(SerializedType.getClassByName(name)).map(codecsByClass::get);
+  }
+
+  /**
+   * Get the codec for the supplied class.
+   *
+   * @param type The {@link Class} of a {@link SerializedType}.
+   * @param <T>  The type of {@code type}.
+   *
+   * @return The {@link TypeCodec} for {@code type}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends SerializedType<?>> TypeCodec<T> forClass(Class<T> type) {
+    TypeCodec<?> codec = codecsByClass.get(type);
+    if (codec == null) {
+      throw new IllegalArgumentException("unsupported type " + type.getName());
+    }
+    return (TypeCodec<T>) codec;
+  }
+}
@@ -30,6 +30,11 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
  */
 public class UInt16Type extends UIntType<UInt16Type> {
 
+  /**
+   * The shared, stateless codec for {@link UInt16Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public UInt16Type() {
     this(UnsignedLong.ZERO);
   }
@@ -40,12 +45,12 @@ public class UInt16Type extends UIntType<UInt16Type> {
 
   @Override
   public UInt16Type fromParser(BinaryParser parser) {
-    return new UInt16Type(parser.readUInt16());
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public UInt16Type fromJson(JsonNode value) {
-    return new UInt16Type(UnsignedLong.valueOf(value.asText()));
+    return CODEC.fromJson(value);
   }
 
   @Override
@@ -53,4 +58,22 @@ public class UInt16Type extends UIntType<UInt16Type> {
     return new IntNode(UnsignedLong.valueOf(toHex(), 16).intValue());
   }
 
+  /**
+   * The stateless codec for {@link UInt16Type}.
+   */
+  public static final class Codec extends TypeCodec<UInt16Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public UInt16Type fromParser(BinaryParser parser) {
+      return new UInt16Type(parser.readUInt16());
+    }
+
+    @Override
+    public UInt16Type fromJson(JsonNode value) {
+      return new UInt16Type(UnsignedLong.valueOf(value.asText()));
+    }
+  }
 }
@@ -30,6 +30,11 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
  */
 public class UInt32Type extends UIntType<UInt32Type> {
 
+  /**
+   * The shared, stateless codec for {@link UInt32Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public UInt32Type() {
     this(UnsignedLong.ZERO);
   }
@@ -40,16 +45,35 @@ public class UInt32Type extends UIntType<UInt32Type> {
 
   @Override
   public UInt32Type fromParser(BinaryParser parser) {
-    return new UInt32Type(parser.readUInt32());
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public UInt32Type fromJson(JsonNode value) {
-    return new UInt32Type(UnsignedLong.valueOf(value.asText()));
+    return CODEC.fromJson(value);
   }
 
   @Override
   public JsonNode toJson() {
     return new LongNode(UnsignedLong.valueOf(toHex(), 16).longValue());
   }
+
+  /**
+   * The stateless codec for {@link UInt32Type}.
+   */
+  public static final class Codec extends TypeCodec<UInt32Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public UInt32Type fromParser(BinaryParser parser) {
+      return new UInt32Type(parser.readUInt32());
+    }
+
+    @Override
+    public UInt32Type fromJson(JsonNode value) {
+      return new UInt32Type(UnsignedLong.valueOf(value.asText()));
+    }
+  }
 }
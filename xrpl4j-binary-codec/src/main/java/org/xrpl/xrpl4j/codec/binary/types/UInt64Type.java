@@ -29,6 +29,11 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
  */
 public class UInt64Type extends UIntType<UInt64Type> {
 
+  /**
+   * The shared, stateless codec for {@link UInt64Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public UInt64Type() {
     this(UnsignedLong.ZERO);
   }
@@ -39,12 +44,30 @@ public class UInt64Type extends UIntType<UInt64Type> {
 
   @Override
   public UInt64Type fromParser(BinaryParser parser) {
-    return new UInt64Type(parser.readUInt64());
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public UInt64Type fromJson(JsonNode value) {
-    return new UInt64Type(UnsignedLong.valueOf(value.asText()));
+    return CODEC.fromJson(value);
   }
 
+  /**
+   * The stateless codec for {@link UInt64Type}.
+   */
+  public static final class Codec extends TypeCodec<UInt64Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public UInt64Type fromParser(BinaryParser parser) {
+      return new UInt64Type(parser.readUInt64());
+    }
+
+    @Override
+    public UInt64Type fromJson(JsonNode value) {
+      return new UInt64Type(UnsignedLong.valueOf(value.asText()));
+    }
+  }
 }
@@ -30,6 +30,11 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
  */
 public class UInt8Type extends UIntType<UInt8Type> {
 
+  /**
+   * The shared, stateless codec for {@link UInt8Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public UInt8Type() {
     this(UnsignedLong.ZERO);
   }
@@ -40,12 +45,12 @@ public class UInt8Type extends UIntType<UInt8Type> {
 
   @Override
   public UInt8Type fromParser(BinaryParser parser) {
-    return new UInt8Type(parser.readUInt8());
+    return CODEC.fromParser(parser);
   }
 
   @Override
   public UInt8Type fromJson(JsonNode value) {
-    return new UInt8Type(UnsignedLong.valueOf(value.asText()));
+    return CODEC.fromJson(value);
   }
 
   @Override
@@ -53,4 +58,22 @@ public class UInt8Type extends UIntType<UInt8Type> {
     return new IntNode(UnsignedLong.valueOf(toHex(), 16).intValue());
   }
 
+  /**
+   * The stateless codec for {@link UInt8Type}.
+   */
+  public static final class Codec extends TypeCodec<UInt8Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public UInt8Type fromParser(BinaryParser parser) {
+      return new UInt8Type(parser.readUInt8());
+    }
+
+    @Override
+    public UInt8Type fromJson(JsonNode value) {
+      return new UInt8Type(UnsignedLong.valueOf(value.asText()));
+    }
+  }
 }
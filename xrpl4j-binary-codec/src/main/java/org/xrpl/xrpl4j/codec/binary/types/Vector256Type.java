@@ -38,6 +38,11 @@ public class Vector256Type extends SerializedType<Vector256Type> {
 
   public static final int WIDTH = 32;
 
+  /**
+   * The shared, stateless codec for {@link Vector256Type}.
+   */
+  public static final Codec CODEC = new Codec();
+
   public Vector256Type() {
     this(UnsignedByteArray.empty());
   }
@@ -48,35 +53,17 @@ public class Vector256Type extends SerializedType<Vector256Type> {
 
   @Override
   public Vector256Type fromParser(BinaryParser parser, int lengthHint) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    int bytes = lengthHint;
-    int hashes = bytes / WIDTH;
-    for (int i = 0; i < hashes; i++) {
-      new Hash256Type().fromParser(parser).toBytesSink(byteArray);
-    }
-    return new Vector256Type(byteArray);
+    return CODEC.fromParser(parser, lengthHint);
   }
 
   @Override
   public Vector256Type fromJson(JsonNode node) {
-    if (!node.isArray()) {
-      throw new IllegalArgumentException("node is not an array");
-    }
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    Iterator<JsonNode> nodeIterator = node.elements();
-    while (nodeIterator.hasNext()) {
-      JsonNode child = nodeIterator.next();
-      if (!child.isTextual()) {
-        throw new IllegalArgumentException("non-string value found in vector");
-      }
-      new Hash256Type().fromJson(child).toBytesSink(byteList);
-    }
-    return new Vector256Type(byteList);
+    return CODEC.fromJson(node);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.value());
     List<JsonNode> values = new ArrayList<>();
     while (parser.hasMore()) {
       UnsignedByteArray bytes = parser.read(32);
@@ -84,4 +71,41 @@ public class Vector256Type extends SerializedType<Vector256Type> {
     }
     return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
+
+  /**
+   * The stateless codec for {@link Vector256Type}.
+   */
+  public static final class Codec extends TypeCodec<Vector256Type> {
+
+    private Codec() {
+    }
+
+    @Override
+    public Vector256Type fromParser(BinaryParser parser, int lengthHint) {
+      UnsignedByteArray byteArray = UnsignedByteArray.empty();
+      int bytes = lengthHint;
+      int hashes = bytes / WIDTH;
+      for (int i = 0; i < hashes; i++) {
+        Hash256Type.CODEC.fromParser(parser).toBytesSink(byteArray);
+      }
+      return new Vector256Type(byteArray);
+    }
+
+    @Override
+    public Vector256Type fromJson(JsonNode node) {
+      if (!node.isArray()) {
+        throw new IllegalArgumentException("node is not an array");
+      }
+      UnsignedByteArray byteList = UnsignedByteArray.empty();
+      Iterator<JsonNode> nodeIterator = node.elements();
+      while (nodeIterator.hasNext()) {
+        JsonNode child = nodeIterator.next();
+        if (!child.isTextual()) {
+          throw new IllegalArgumentException("non-string value found in vector");
+        }
+        Hash256Type.CODEC.fromJson(child).toBytesSink(byteList);
+      }
+      return new Vector256Type(byteList);
+    }
+  }
 }
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefaultDefinitionsProvider;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsIndex;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
 import org.xrpl.xrpl4j.codec.fixtures.data.FieldTest;
 
@@ -41,7 +42,7 @@ class FieldHeaderCodecTest {
   @BeforeEach
   public void loadFixtures() throws IOException {
     ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
-    fieldHeaderCodec = new FieldHeaderCodec(new DefaultDefinitionsProvider(objectMapper).get(), objectMapper);
+    fieldHeaderCodec = new FieldHeaderCodec(DefinitionsIndex.of(new DefaultDefinitionsProvider(objectMapper).get()));
     fieldTests = FixtureUtils.getDataDrivenFixtures().fieldTests();
     assertThat(fieldTests).hasSize(125);
   }
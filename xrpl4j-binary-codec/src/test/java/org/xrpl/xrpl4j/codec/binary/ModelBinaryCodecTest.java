@@ -0,0 +1,370 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerObject;
+import org.xrpl.xrpl4j.model.ledger.SignerEntry;
+import org.xrpl.xrpl4j.model.ledger.SignerEntryWrapper;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.ImmutablePayment;
+import org.xrpl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.Memo;
+import org.xrpl.xrpl4j.model.transactions.MemoWrapper;
+import org.xrpl.xrpl4j.model.transactions.PathStep;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Signer;
+import org.xrpl.xrpl4j.model.transactions.SignerListSet;
+import org.xrpl.xrpl4j.model.transactions.SignerWrapper;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.UnlModify;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link ModelBinaryCodec}, checking that it agrees with {@link XrplBinaryCodec} in both directions.
+ */
+class ModelBinaryCodecTest {
+
+  private static final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private static final Address SOURCE = Address.of("rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe");
+  private static final Address DESTINATION = Address.of("rMH4UxPrbuMa1spCBR98hLLyNJp4d8p4tM");
+  private static final Address ISSUER = Address.of("rvYAfWj5gh67oV6fW32ZzP3Aw4Eubs59B");
+  private static final String PUBLIC_KEY = "ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A";
+  private static final String SIGNATURE = "C3646313B08EED6AF4392261A31B961F10C66CB733DB7F6CD9EAB079857834C8B0334270A2" +
+    "C037E63CDCCC1932E0832882B7B7066ECD2FAEDEB4A83DF8AE6303";
+
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+  private final ModelBinaryCodec modelCodec = new ModelBinaryCodec(objectMapper);
+
+  /**
+   * Fixtures the model cannot reproduce byte-for-byte, each with the reason. Every other fixture transaction must
+   * encode to exactly its fixture bytes.
+   */
+  private static final Map<String, String> LOSSY_FIXTURES = ImmutableMap.of(
+    "wholeObjectTests[3]", "Flags is absent, but the model always writes Flags, defaulting to tfFullyCanonicalSig",
+    "wholeObjectTests[9]", "Flags is absent, but the model always writes Flags, defaulting to tfFullyCanonicalSig",
+    "wholeObjectTests[16]", "Flags is 0, but the model derives AccountSet Flags as tfFullyCanonicalSig",
+    "wholeObjectTests[17]", "Flags is 0, but the model derives AccountSet Flags as tfFullyCanonicalSig"
+  );
+
+  /**
+   * Every transaction in the codec fixtures that the model can represent, named by its position in the fixtures.
+   */
+  private static Stream<Arguments> fixtureTransactions() throws IOException {
+    List<Arguments> arguments = new ArrayList<>();
+    List<CodecFixture> transactions = FixtureUtils.getCodecFixtures().transactions();
+    for (int i = 0; i < transactions.size(); i++) {
+      toTransaction("transactions[" + i + "]", transactions.get(i).json(), transactions.get(i).binary(), arguments);
+    }
+    List<WholeObject> wholeObjects = FixtureUtils.getDataDrivenFixtures().wholeObjectTests();
+    for (int i = 0; i < wholeObjects.size(); i++) {
+      toTransaction(
+        "wholeObjectTests[" + i + "]", wholeObjects.get(i).txJson(), wholeObjects.get(i).expectedHex(), arguments
+      );
+    }
+    return arguments.stream();
+  }
+
+  private static void toTransaction(String name, JsonNode json, String binary, List<Arguments> arguments) {
+    try {
+      arguments.add(Arguments.of(name, objectMapper.treeToValue(json, Transaction.class), binary));
+    } catch (JsonProcessingException | IllegalArgumentException | IllegalStateException e) {
+      // not representable by the model, so not a candidate for direct encoding.
+    }
+  }
+
+  @Test
+  void fixturesContainModelTransactions() throws IOException {
+    assertThat(fixtureTransactions().count()).isGreaterThanOrEqualTo(10);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("fixtureTransactions")
+  void encodeFixture(String name, Transaction transaction, String expectedHex) throws JsonProcessingException {
+    assertMatchesJsonEncoding(transaction);
+    if (LOSSY_FIXTURES.containsKey(name)) {
+      assertThat(modelCodec.encode(transaction).hexValue())
+        .as("%s is listed as lossy (%s) but now encodes exactly", name, LOSSY_FIXTURES.get(name))
+        .isNotEqualTo(expectedHex);
+    } else {
+      assertThat(modelCodec.encode(transaction).hexValue()).as(name).isEqualTo(expectedHex);
+    }
+  }
+
+  @Test
+  void lossyFixturesAreModelTransactions() throws IOException {
+    List<Object> names = new ArrayList<>();
+    fixtureTransactions().forEach(arguments -> names.add(arguments.get()[0]));
+    assertThat(names).containsAll(LOSSY_FIXTURES.keySet());
+  }
+
+  @Test
+  void encodePaymentWithIssuedCurrencyPathsAndMemos() throws JsonProcessingException {
+    IssuedCurrencyAmount usd = IssuedCurrencyAmount.builder().currency("USD").issuer(ISSUER).value("1.2345").build();
+    Payment payment = Payment.builder()
+      .account(SOURCE)
+      .destination(DESTINATION)
+      .destinationTag(UnsignedInteger.valueOf(70000))
+      .amount(usd)
+      .sendMax(XrpCurrencyAmount.ofDrops(2_000_000))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.ONE)
+      .lastLedgerSequence(UnsignedInteger.valueOf(4_000_000_000L))
+      .invoiceId(Hash256.of("6F1DFD1D0FE8A32E40E1F2C05CF1C15545BAB56B617F9C6C2D63A6B704BEF59B"))
+      .addPaths(Collections.singletonList(PathStep.builder().currency("USD").issuer(ISSUER).build()))
+      .addMemos(MemoWrapper.builder()
+        .memo(Memo.builder().memoType("74657374").memoData("48656C6C6F").build())
+        .build())
+      .signingPublicKey(PUBLIC_KEY)
+      .build();
+
+    assertMatchesJsonEncoding(payment);
+  }
+
+  @Test
+  void encodeEmptySigningPublicKey() throws JsonProcessingException {
+    Payment payment = Payment.builder()
+      .account(SOURCE)
+      .destination(DESTINATION)
+      .amount(XrpCurrencyAmount.ofDrops(0))
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.ONE)
+      .signingPublicKey("")
+      .build();
+
+    assertMatchesJsonEncoding(payment);
+    assertThat(modelCodec.encode(payment).hexValue()).contains("7300");
+  }
+
+  @Test
+  void encodeMultiSignedTransaction() throws JsonProcessingException {
+    SignerListSet signerListSet = SignerListSet.builder()
+      .account(SOURCE)
+      .fee(XrpCurrencyAmount.ofDrops(36))
+      .sequence(UnsignedInteger.valueOf(5))
+      .signerQuorum(UnsignedInteger.valueOf(2))
+      .addSignerEntries(
+        SignerEntryWrapper.of(SignerEntry.builder().account(DESTINATION).signerWeight(UnsignedInteger.ONE).build()),
+        SignerEntryWrapper.of(SignerEntry.builder().account(ISSUER).signerWeight(UnsignedInteger.ONE).build())
+      )
+      .addSigners(
+        SignerWrapper.of(Signer.builder().account(ISSUER).signingPublicKey(PUBLIC_KEY)
+          .transactionSignature(SIGNATURE).build()),
+        SignerWrapper.of(Signer.builder().account(DESTINATION).signingPublicKey(PUBLIC_KEY)
+          .transactionSignature(SIGNATURE).build())
+      )
+      .signingPublicKey("")
+      .build();
+
+    assertMatchesJsonEncoding(signerListSet);
+  }
+
+  @Test
+  void encodeUnlModifyWithoutAccount() throws JsonProcessingException {
+    UnlModify unlModify = UnlModify.builder()
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.valueOf(2470665))
+      .signingPublicKey("")
+      .ledgerSequence(LedgerIndex.of(UnsignedInteger.valueOf(67850752)))
+      .unlModifyValidator("EDB6FC8E803EE8EDC2793F1EC917B2EE41D35255618DEB91D3F9B1FC89B75D4539")
+      .unlModifyDisabling(UnsignedInteger.valueOf(1))
+      .build();
+
+    assertMatchesJsonEncoding(unlModify);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("fixtureTransactions")
+  void decodeFixture(String name, Transaction transaction, String hex) throws JsonProcessingException {
+    Transaction expected = objectMapper.readValue(binaryCodec.decode(hex), Transaction.class);
+    Transaction decoded = modelCodec.decodeTransaction(UnsignedByteArray.fromHex(hex));
+
+    assertThat(decoded).isEqualTo(expected);
+    assertThat(decoded.getClass()).isEqualTo(transaction.getClass());
+  }
+
+  @Test
+  void decodeLedgerObjectFixtures() throws IOException {
+    Hash256 index = Hash256.of("2B6AC232AA4C4BE41BF49D2459FA4A0347E1B543A4C92FCEE0821C0201E2E9A8");
+    int decoded = 0;
+    for (CodecFixture fixture : FixtureUtils.getCodecFixtures().accountState()) {
+      ObjectNode json = (ObjectNode) objectMapper.readTree(binaryCodec.decode(fixture.binary()));
+      json.put("index", index.value());
+      LedgerObject expected;
+      try {
+        expected = objectMapper.treeToValue(json, LedgerObject.class);
+      } catch (JsonProcessingException e) {
+        // not representable by the model.
+        continue;
+      }
+      assertThat(modelCodec.decodeLedgerObject(UnsignedByteArray.fromHex(fixture.binary()), index))
+        .isEqualTo(expected);
+      decoded++;
+    }
+    assertThat(decoded).isGreaterThanOrEqualTo(100);
+  }
+
+  /**
+   * Decoding the encoding of any transaction yields the same transaction, and encoding that again yields the same
+   * bytes.
+   */
+  @Test
+  void roundTripRandomTransactions() {
+    Random random = new Random(20221018L);
+    for (int i = 0; i < 500; i++) {
+      Payment payment = randomPayment(random);
+      UnsignedByteArray bytes = modelCodec.encode(payment);
+      Transaction decoded = modelCodec.decodeTransaction(bytes);
+
+      assertThat(decoded).isEqualTo(payment);
+      assertThat(modelCodec.encode(decoded)).isEqualTo(bytes);
+    }
+  }
+
+  @Test
+  void decodeTransactionWithoutTransactionType() {
+    assertThatThrownBy(() -> modelCodec.decodeTransaction(UnsignedByteArray.fromHex("684000000000000064")))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void encodeNonModelObject() {
+    assertThatThrownBy(() -> modelCodec.encode("not a transaction"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void batchesPreserveOrderAndReportFailures() {
+    Random random = new Random(20221018L);
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      values.add(i == 500 ? "not a transaction" : randomPayment(random));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<BatchResult<UnsignedByteArray>> encoded = modelCodec.encodeAll(values, executor);
+      assertThat(encoded).hasSize(values.size());
+      List<UnsignedByteArray> bytes = new ArrayList<>();
+      for (int i = 0; i < values.size(); i++) {
+        if (i == 500) {
+          assertThat(encoded.get(i).isSuccess()).isFalse();
+          assertThat(encoded.get(i).error()).containsInstanceOf(IllegalArgumentException.class);
+          bytes.add(UnsignedByteArray.fromHex("684000000000000064"));
+        } else {
+          assertThat(encoded.get(i).value()).hasValue(modelCodec.encode(values.get(i)));
+          assertThat(modelCodec.encodeForSigningAll(Collections.singletonList((Payment) values.get(i)), executor)
+            .get(0).value()).hasValue(modelCodec.encodeForSigning((Payment) values.get(i)));
+          bytes.add(encoded.get(i).value().get());
+        }
+      }
+
+      List<BatchResult<Transaction>> decoded = modelCodec.decodeTransactions(bytes, executor);
+      for (int i = 0; i < values.size(); i++) {
+        if (i == 500) {
+          assertThat(decoded.get(i).error()).containsInstanceOf(IllegalArgumentException.class);
+        } else {
+          assertThat(decoded.get(i).value()).hasValue((Transaction) values.get(i));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static Payment randomPayment(Random random) {
+    ImmutablePayment.Builder builder = Payment.builder()
+      .account(randomAddress(random))
+      .destination(randomAddress(random))
+      .amount(XrpCurrencyAmount.ofDrops(Math.floorMod(random.nextLong(), 100_000_000_000_000_000L)))
+      .fee(XrpCurrencyAmount.ofDrops(random.nextInt(1_000_000)))
+      .sequence(UnsignedInteger.fromIntBits(random.nextInt()))
+      .signingPublicKey(randomHex(random, 33));
+    if (random.nextBoolean()) {
+      builder.destinationTag(UnsignedInteger.fromIntBits(random.nextInt()));
+    }
+    if (random.nextBoolean()) {
+      builder.lastLedgerSequence(UnsignedInteger.fromIntBits(random.nextInt()));
+    }
+    if (random.nextBoolean()) {
+      builder.invoiceId(Hash256.of(randomHex(random, 32)));
+    }
+    if (random.nextBoolean()) {
+      builder.transactionSignature(randomHex(random, 64));
+    }
+    for (int i = random.nextInt(3); i > 0; i--) {
+      builder.addMemos(MemoWrapper.builder()
+        .memo(Memo.builder().memoData(randomHex(random, 1 + random.nextInt(300))).build())
+        .build());
+    }
+    return builder.build();
+  }
+
+  private static Address randomAddress(Random random) {
+    byte[] accountId = new byte[20];
+    random.nextBytes(accountId);
+    return AddressCodec.getInstance().encodeAccountId(UnsignedByteArray.of(accountId));
+  }
+
+  private static String randomHex(Random random, int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return UnsignedByteArray.of(bytes).hexValue();
+  }
+
+  private void assertMatchesJsonEncoding(Transaction transaction) throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(transaction);
+    assertThat(modelCodec.encode(transaction).hexValue()).isEqualTo(binaryCodec.encode(json));
+    assertThat(modelCodec.encodeForSigning(transaction).hexValue()).isEqualTo(binaryCodec.encodeForSigning(json));
+    assertThat(modelCodec.encodeForMultiSigning(transaction, DESTINATION).hexValue())
+      .isEqualTo(binaryCodec.encodeForMultiSigning(json, DESTINATION.value()));
+  }
+}
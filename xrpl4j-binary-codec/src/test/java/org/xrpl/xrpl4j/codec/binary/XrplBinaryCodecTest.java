@@ -46,6 +46,8 @@ import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 class XrplBinaryCodecTest {
@@ -67,6 +69,43 @@ class XrplBinaryCodecTest {
       .map(Arguments::of);
   }
 
+  @Test
+  void batchesPreserveOrderAndReportFailures() throws JsonProcessingException {
+    List<String> json = Lists.newArrayList(SIMPLE_JSON, "not json", MULTI_LEVEL_OBJECT_JSON);
+    List<BatchResult<String>> encoded = encoder.encodeAll(json, Runnable::run);
+    assertThat(encoded.get(0).value()).hasValue(SIMPLE_HEX);
+    assertThat(encoded.get(1).error()).containsInstanceOf(JsonProcessingException.class);
+    assertThat(encoded.get(2).value()).hasValue(MULTI_LEVEL_OBJECT_HEX);
+
+    assertThat(encoder.encodeForSigningAll(json, Runnable::run).get(2).value())
+      .hasValue(encoder.encodeForSigning(MULTI_LEVEL_OBJECT_JSON));
+
+    List<BatchResult<String>> decoded = encoder.decodeAll(Lists.newArrayList(SIMPLE_HEX, "ZZ", SINGLE_OBJECT_HEX),
+      Runnable::run);
+    assertThat(decoded.get(0).value()).hasValue(SIMPLE_JSON);
+    assertThat(decoded.get(1).isSuccess()).isFalse();
+    assertThat(decoded.get(2).value()).hasValue(SINGLE_LEVEL_OBJECT_JSON);
+  }
+
+  @Test
+  void batchesReportErrorsThrownByTheCodec() {
+    // An IOU Amount whose 17-digit mantissa makes AmountType throw java.lang.Error.
+    String malformedAmountHex = "61D87FFFFFFFFFFFFF0000000000000000000000005553440000000000" +
+      "B5F762798A53D543A014CAF8B297CFF8F2F937E8";
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<BatchResult<String>> decoded = encoder.decodeAll(
+        Lists.newArrayList(SIMPLE_HEX, malformedAmountHex, SINGLE_OBJECT_HEX), executor
+      );
+      assertThat(decoded).hasSize(3);
+      assertThat(decoded.get(0).value()).hasValue(SIMPLE_JSON);
+      assertThat(decoded.get(1).error()).containsInstanceOf(Error.class);
+      assertThat(decoded.get(2).value()).hasValue(SINGLE_LEVEL_OBJECT_JSON);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void encodeDecodeSimple() throws JsonProcessingException {
     assertThat(encoder.encode(SIMPLE_JSON)).isEqualTo(SIMPLE_HEX);
@@ -125,6 +164,17 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(hex)).isEqualTo(json);
   }
 
+  @Test
+  void encodeDecodeMediumBlob() throws JsonProcessingException {
+    String mediumValue = Strings.repeat("A", 2000);
+    String json = "{\"Domain\":\"" + mediumValue + "\"}";
+    String blobType = "77";
+    String lengthInHex = "C427"; // 1000 encoded in XRPL hex length encoding
+    String hex = blobType + lengthInHex + mediumValue;
+    assertThat(encoder.encode(json)).isEqualTo(hex);
+    assertThat(encoder.decode(hex)).isEqualTo(json);
+  }
+
   @Test
   void encodeDecodeBigBlob() throws JsonProcessingException {
     String bigValue = Strings.repeat("A", 50000);
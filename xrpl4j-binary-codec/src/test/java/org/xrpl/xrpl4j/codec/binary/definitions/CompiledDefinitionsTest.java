@@ -0,0 +1,128 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for {@link CompiledDefinitions}.
+ */
+class CompiledDefinitionsTest {
+
+  @Test
+  void compiledResourceMatchesDefinitionsJson() throws IOException {
+    byte[] actual;
+    try (InputStream input = CompiledDefinitions.class.getResourceAsStream(CompiledDefinitions.RESOURCE)) {
+      assertThat(input).as("%s is missing; it is generated by the build", CompiledDefinitions.RESOURCE).isNotNull();
+      actual = readAll(input);
+    }
+    assertThat(actual).isEqualTo(compile(jsonIndex()));
+  }
+
+  @Test
+  void mainWritesCompiledDefinitions(@TempDir Path directory) throws IOException {
+    Path path = directory.resolve("generated").resolve("definitions.bin");
+    CompiledDefinitions.main(new String[] {path.toString()});
+
+    assertThat(Files.readAllBytes(path)).isEqualTo(compile(jsonIndex()));
+  }
+
+  @Test
+  void sharedIndexMatchesIndexOverDefinitionsJson() {
+    DefinitionsIndex json = jsonIndex();
+    DefinitionsIndex compiled = DefinitionsIndex.getInstance();
+
+    assertThat(compiled.types()).isEqualTo(json.types());
+    assertThat(compiled.fields()).containsExactlyEntriesOf(json.fields());
+    assertThat(compiled.ledgerEntryTypes()).isEqualTo(json.ledgerEntryTypes());
+    assertThat(compiled.transactionTypes()).isEqualTo(json.transactionTypes());
+    assertThat(compiled.transactionResults()).isEqualTo(json.transactionResults());
+    json.fields().keySet().forEach(name -> {
+      FieldHeader header = json.getFieldHeader(name);
+      assertThat(compiled.getFieldHeader(name)).isEqualTo(header);
+      assertThat(compiled.getFieldName(header)).isEqualTo(json.getFieldName(header));
+      assertThat(compiled.getFieldInstance(name)).isEqualTo(json.getFieldInstance(name));
+      assertThat(compiled.getFieldInstance(header.typeCode(), header.fieldCode()))
+        .isEqualTo(json.getFieldInstance(header.typeCode(), header.fieldCode()));
+    });
+  }
+
+  @Test
+  void loadFallsBackToDefinitionsJson() {
+    DefinitionsIndex json = jsonIndex();
+    DefinitionsIndex loaded = CompiledDefinitions.load("/missing-definitions.bin");
+
+    assertThat(loaded.fields()).containsExactlyEntriesOf(json.fields());
+    assertThat(loaded.types()).containsExactlyEntriesOf(json.types());
+    assertThat(loaded.transactionResults()).containsExactlyEntriesOf(json.transactionResults());
+  }
+
+  @Test
+  void roundTrip() throws IOException {
+    DefinitionsIndex index = jsonIndex();
+    DefinitionsIndex copy = CompiledDefinitions.read(new ByteArrayInputStream(compile(index)));
+
+    assertThat(copy.fields()).containsExactlyEntriesOf(index.fields());
+    assertThat(copy.types()).containsExactlyEntriesOf(index.types());
+    assertThat(copy.transactionResults()).containsExactlyEntriesOf(index.transactionResults());
+  }
+
+  @Test
+  void rejectsOtherFormats() {
+    assertThatThrownBy(() -> CompiledDefinitions.read(new ByteArrayInputStream("{\"TYPES\":{}}".getBytes())))
+      .isInstanceOf(IOException.class);
+  }
+
+  private static DefinitionsIndex jsonIndex() {
+    return DefinitionsIndex.of(
+      new DefaultDefinitionsProvider(BinaryCodecObjectMapperFactory.getObjectMapper()).get()
+    );
+  }
+
+  private static byte[] compile(DefinitionsIndex index) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CompiledDefinitions.write(index, output);
+    return output.toByteArray();
+  }
+
+  private static byte[] readAll(InputStream input) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+    }
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,74 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+
+import java.io.IOException;
+
+/**
+ * Unit tests for {@link DefinitionsService}.
+ */
+class DefinitionsServiceTest {
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  @Test
+  void getFieldInstanceByName() {
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+    assertThat(fee.name()).isEqualTo("Fee");
+    assertThat(fee.type()).isEqualTo("Amount");
+    assertThat(fee.header()).isEqualTo(FieldHeader.builder().typeCode(6).fieldCode(8).build());
+    assertThat(fee.isSerialized()).isTrue();
+    assertThat(fee.isSigningField()).isTrue();
+    assertThat(fee.isVariableLengthEncoded()).isFalse();
+
+    assertThat(definitionsService.getFieldInstance("Fee")).isSameAs(definitionsService.getFieldInstance("Fee"));
+    assertThat(definitionsService.getFieldInstance("NotAField")).isEmpty();
+    assertThat(definitionsService.getFieldInstance(null)).isEmpty();
+  }
+
+  @Test
+  void getFieldInstanceByCodeMatchesName() throws IOException {
+    FixtureUtils.getDataDrivenFixtures().fieldTests().forEach(fieldTest ->
+      assertThat(definitionsService.getFieldInstance(fieldTest.type(), fieldTest.nthOfType()))
+        .isEqualTo(definitionsService.getFieldInstance(fieldTest.name()))
+        .isPresent()
+    );
+  }
+
+  @Test
+  void getFieldInstanceByCodeOutOfRange() {
+    assertThat(definitionsService.getFieldInstance(6, 200)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(200, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(-1, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(6, -1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(256, 1)).isEmpty();
+    // Not serialized, so its codes never appear in a field header.
+    assertThat(definitionsService.getFieldInstance(5, 257)).isEmpty();
+    assertThat(definitionsService.getFieldInstance("hash")).isPresent();
+  }
+
+}
@@ -0,0 +1,151 @@
+package org.xrpl.xrpl4j.codec.binary.keylets;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+/**
+ * Unit tests for {@link Keylets}.
+ *
+ * <p>Expected IDs are taken from the ledger object examples at https://xrpl.org/ledger-object-types.html and from the
+ * ledger object ID tests of the JavaScript library.</p>
+ */
+class KeyletsTest {
+
+  private static final Address ACCOUNT = Address.of("rf1BiGeXwwQoi8Z2ueFYTEXSwuJYfV2Jpn");
+
+  @Test
+  void accountRoot() {
+    assertThat(Keylets.accountRoot(ACCOUNT))
+      .isEqualTo(Hash256.of("13F1A95D7AAB7108D5CE7EEAF504B2894B8C674E6D68499076441C4837282BF8"));
+  }
+
+  @Test
+  void rippleStateIsIndependentOfAccountOrder() {
+    Address other = Address.of("rsA2LpzuawewSBQXkiju3YQTMzW13pAAdW");
+    Hash256 expected = Hash256.of("9CA88CDEDFF9252B3DE183CE35B038F57282BC9503CDFA1923EF9A95DF0D6F7B");
+    assertThat(Keylets.rippleState(ACCOUNT, other, "USD")).isEqualTo(expected);
+    assertThat(Keylets.rippleState(other, ACCOUNT, "USD")).isEqualTo(expected);
+    assertThat(Keylets.rippleState(ACCOUNT, other, "0000000000000000000000005553440000000000")).isEqualTo(expected);
+  }
+
+  @Test
+  void rippleStateWithSelfIsRejected() {
+    assertThatThrownBy(() -> Keylets.rippleState(ACCOUNT, ACCOUNT, "USD"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void offer() {
+    assertThat(Keylets.offer(Address.of("rBqb89MRQJnMPq8wTwEbtz4kvxrEDfcYvt"), UnsignedInteger.valueOf(866)))
+      .isEqualTo(Hash256.of("96F76F27D8A327FC48753167EC04A46AA0E382E6F57F32FD12274144D00F1797"));
+  }
+
+  @Test
+  void escrow() {
+    assertThat(Keylets.escrow(Address.of("rDx69ebzbowuqztksVDmZXjizTd12BVr4x"), UnsignedInteger.valueOf(84)))
+      .isEqualTo(Hash256.of("61E8E8ED53FA2CEBE192B23897071E9A75217BF5A410E9CB5B45AAB7AECA567A"));
+  }
+
+  @Test
+  void payChannel() {
+    assertThat(Keylets.payChannel(
+      Address.of("rDx69ebzbowuqztksVDmZXjizTd12BVr4x"),
+      Address.of("rLFtVprxUEfsH54eCWKsZrEQzMDsx1wqso"),
+      UnsignedInteger.valueOf(82)
+    )).isEqualTo(Hash256.of("E35708503B3C3143FB522D749AAFCC296E8060F0FB371A9A56FAE0B1ED127366"));
+  }
+
+  @Test
+  void check() {
+    assertThat(Keylets.check(Address.of("rUn84CUYbNjRoTQ6mSW7BVJPSVJNLb1QLo"), UnsignedInteger.valueOf(2)))
+      .isEqualTo(Hash256.of("49647F0D748DC3FE26BDACBC57F251AADEFFF391403EC9BF87C97F67E9977FB0"));
+  }
+
+  @Test
+  void ticket() {
+    Address account = Address.of("rEhxGqkqPPSxQ3P25J66ft5TwpzV14k2de");
+    Hash256 ticket = Keylets.ticket(account, UnsignedInteger.valueOf(3));
+
+    assertThat(ticket)
+      .isNotEqualTo(Keylets.ticket(account, UnsignedInteger.valueOf(4)))
+      .isNotEqualTo(Keylets.ticket(ACCOUNT, UnsignedInteger.valueOf(3)))
+      .isNotEqualTo(Keylets.check(account, UnsignedInteger.valueOf(3)))
+      .isNotEqualTo(Keylets.offer(account, UnsignedInteger.valueOf(3)));
+    // TicketIT checks this keylet against the ID that rippled assigns to a new Ticket.
+  }
+
+  @Test
+  void signerList() {
+    assertThat(Keylets.signerList(ACCOUNT))
+      .isEqualTo(Hash256.of("A9C28A28B85CD533217F5C0A0C7767666B093FA58A0F2D80026FCC4CD932DDC7"));
+  }
+
+  @Test
+  void depositPreAuth() {
+    assertThat(Keylets.depositPreAuth(
+      Address.of("rsUiUMpnrgxQp24dJYZDhmV4bE3aBtQyt8"),
+      Address.of("rEhxGqkqPPSxQ3P25J66ft5TwpzV14k2de")
+    )).isEqualTo(Hash256.of("4A255038CC3ADCC1A9C91509279B59908251728D0DAADB248FFE297D0F7E068C"));
+  }
+
+  @Test
+  void ownerDirectory() {
+    assertThat(Keylets.ownerDirectory(Address.of("rpR95n1iFkTqpoy1e878f4Z1pVHVtWKMNQ")))
+      .isEqualTo(Hash256.of("193C591BF62482468422313F9D3274B5927CA80B4DD3707E42015DD609E39C94"));
+  }
+
+  @Test
+  void directoryPage() {
+    Hash256 root = Keylets.ownerDirectory(ACCOUNT);
+    assertThat(Keylets.directoryPage(root, UnsignedLong.ZERO)).isEqualTo(root);
+    assertThat(Keylets.directoryPage(root, UnsignedLong.ONE))
+      .isNotEqualTo(root)
+      .isEqualTo(Keylets.directoryPage(Hash256.of(root.value().toLowerCase()), UnsignedLong.ONE));
+  }
+
+  @Test
+  void singletons() {
+    assertThat(Keylets.amendments())
+      .isEqualTo(Hash256.of("7DB0788C020F02780A673DC74757F23823FA3014C1866E72CC4CD8B226CD6EF4"));
+    assertThat(Keylets.feeSettings())
+      .isEqualTo(Hash256.of("4BC50C9B0D8515D3EAAE1E74B29A95804346C491EE1A95BF25E4AAB854A6A651"));
+    assertThat(Keylets.negativeUnl())
+      .isEqualTo(Hash256.of("2E8A59AA9D3B5B186B0B9E0F62E6C02587CA74A4D778938E957B6357D364B244"));
+    assertThat(Keylets.ledgerHashes())
+      .isEqualTo(Hash256.of("B4979A36CDC7F3D3D5C31A4EAE2AC7D7209DDA877588B9AFC66799692AB0D66B"));
+  }
+
+  @Test
+  void ledgerHashesGroupsFlagLedgers() {
+    assertThat(Keylets.ledgerHashes(UnsignedInteger.valueOf(65536)))
+      .isEqualTo(Keylets.ledgerHashes(UnsignedInteger.valueOf(131071)))
+      .isNotEqualTo(Keylets.ledgerHashes(UnsignedInteger.valueOf(131072)))
+      .isNotEqualTo(Keylets.ledgerHashes());
+  }
+}
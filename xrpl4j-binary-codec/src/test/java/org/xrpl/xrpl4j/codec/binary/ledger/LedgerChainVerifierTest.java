@@ -0,0 +1,152 @@
+package org.xrpl.xrpl4j.codec.binary.ledger;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for {@link LedgerChainVerifier}.
+ */
+class LedgerChainVerifierTest {
+
+  private static final long FIRST = 1000;
+  private static final long LAST = 1999;
+
+  private final Map<UnsignedInteger, LedgerHeader> headers = new HashMap<>();
+  private ExecutorService fetchExecutor;
+  private ExecutorService hashExecutor;
+
+  @BeforeEach
+  void setUp() {
+    fetchExecutor = Executors.newFixedThreadPool(4);
+    hashExecutor = Executors.newFixedThreadPool(2);
+    Hash256 parentHash = Hash256.of("AE996778246BC81F85D5AF051241DAA577C23BCA04C034A7074F93700194520D");
+    for (long index = FIRST; index <= LAST; index++) {
+      LedgerHeader header = LedgerHeader.builder()
+        .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(index)))
+        .parentHash(parentHash)
+        .accountHash(Hash256.of(String.format("%064X", index)))
+        .transactionHash(Hash256.of(String.format("%064X", index * 31)))
+        .totalCoins(XrpCurrencyAmount.ofDrops(99991024049618156L - index))
+        .parentCloseTime(UnsignedLong.valueOf(638329270 + index * 4))
+        .closeTime(UnsignedLong.valueOf(638329274 + index * 4))
+        .closeTimeResolution(UnsignedInteger.valueOf(10))
+        .build();
+      header = LedgerHeader.builder().from(header).ledgerHash(LedgerHeaders.computeHash(header)).build();
+      headers.put(header.ledgerIndex().unsignedIntegerValue(), header);
+      parentHash = header.ledgerHash().get();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    fetchExecutor.shutdownNow();
+    hashExecutor.shutdownNow();
+  }
+
+  @Test
+  void validChainHasNoProblems() {
+    assertThat(verifier(64).verify(UnsignedInteger.valueOf(FIRST), UnsignedInteger.valueOf(LAST))).isEmpty();
+    assertThat(verifier(7).verify(UnsignedInteger.valueOf(1500), UnsignedInteger.valueOf(1500))).isEmpty();
+    assertThat(new LedgerChainVerifier(headers::get, fetchExecutor, hashExecutor)
+      .verify(UnsignedInteger.valueOf(FIRST), UnsignedInteger.valueOf(LAST))).isEmpty();
+  }
+
+  @Test
+  void tamperedHeaderBreaksItsHashAndTheNextLink() {
+    UnsignedInteger tampered = UnsignedInteger.valueOf(1300);
+    headers.put(tampered, LedgerHeader.builder().from(headers.get(tampered))
+      .totalCoins(XrpCurrencyAmount.ofDrops(1))
+      .build());
+
+    List<LedgerProblem> problems = verifier(64).verify(UnsignedInteger.valueOf(FIRST), UnsignedInteger.valueOf(LAST));
+
+    assertThat(problems).extracting(LedgerProblem::ledgerIndex, LedgerProblem::type).containsExactly(
+      tuple(tampered, LedgerProblem.Type.HASH_MISMATCH),
+      tuple(UnsignedInteger.valueOf(1301), LedgerProblem.Type.BROKEN_LINK)
+    );
+  }
+
+  @Test
+  void consistentlyForgedHeaderBreaksTheNextLink() {
+    UnsignedInteger forged = UnsignedInteger.valueOf(1447);
+    LedgerHeader header = LedgerHeader.builder().from(headers.get(forged))
+      .accountHash(Hash256.of(String.format("%064X", 7)))
+      .build();
+    headers.put(forged, LedgerHeader.builder().from(header).ledgerHash(LedgerHeaders.computeHash(header)).build());
+
+    List<LedgerProblem> problems = verifier(10).verify(UnsignedInteger.valueOf(FIRST), UnsignedInteger.valueOf(LAST));
+
+    assertThat(problems).hasSize(1);
+    assertThat(problems.get(0).ledgerIndex()).isEqualTo(UnsignedInteger.valueOf(1448));
+    assertThat(problems.get(0).type()).isEqualTo(LedgerProblem.Type.BROKEN_LINK);
+  }
+
+  @Test
+  void fetchFailuresAndWrongHeadersAreReported() {
+    UnsignedInteger missing = UnsignedInteger.valueOf(1010);
+    UnsignedInteger wrong = UnsignedInteger.valueOf(1020);
+    LedgerChainVerifier verifier = new LedgerChainVerifier(ledgerIndex -> {
+      if (ledgerIndex.equals(missing)) {
+        throw new IOException("ledger not found");
+      }
+      return headers.get(ledgerIndex.equals(wrong) ? UnsignedInteger.valueOf(1021) : ledgerIndex);
+    }, fetchExecutor, hashExecutor, 8);
+
+    List<LedgerProblem> problems = verifier.verify(UnsignedInteger.valueOf(FIRST), UnsignedInteger.valueOf(1030));
+
+    assertThat(problems).extracting(LedgerProblem::ledgerIndex, LedgerProblem::type).containsExactly(
+      tuple(missing, LedgerProblem.Type.FETCH_FAILED),
+      tuple(wrong, LedgerProblem.Type.INVALID_HEADER)
+    );
+    assertThat(problems.get(0).message()).contains("ledger not found");
+  }
+
+  @Test
+  void invalidArgumentsAreRejected() {
+    assertThatThrownBy(() -> verifier(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> verifier(8).verify(UnsignedInteger.valueOf(LAST), UnsignedInteger.valueOf(FIRST)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private LedgerChainVerifier verifier(final int batchSize) {
+    return new LedgerChainVerifier(headers::get, fetchExecutor, hashExecutor, batchSize);
+  }
+}
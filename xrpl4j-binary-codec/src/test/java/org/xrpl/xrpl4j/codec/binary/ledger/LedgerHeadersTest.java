@@ -0,0 +1,122 @@
+package org.xrpl.xrpl4j.codec.binary.ledger;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+/**
+ * Unit tests for {@link LedgerHeaders}.
+ */
+class LedgerHeadersTest {
+
+  /**
+   * The header of ledger 54300940, from the example at https://xrpl.org/ledger.html.
+   */
+  static LedgerHeader ledger54300940() {
+    return LedgerHeader.builder()
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(54300940)))
+      .ledgerHash(Hash256.of("3652D7FD0576BC452C0D2E9B747BDD733075971D1A9A1D98125055DEF428721A"))
+      .parentHash(Hash256.of("AE996778246BC81F85D5AF051241DAA577C23BCA04C034A7074F93700194520D"))
+      .accountHash(Hash256.of("B258A8BB4743FB74CBBD6E9F67E4A56C4432EA09E5805E4CC2DA26F2DBE8F3D1"))
+      .transactionHash(Hash256.of("FC6FFCB71B2527DDD630EE5409D38913B4D4C026AA6C3B14A3E9D4ED45CFE30D"))
+      .totalCoins(XrpCurrencyAmount.ofDrops(99991024049618156L))
+      .parentCloseTime(UnsignedLong.valueOf(638329270))
+      .closeTime(UnsignedLong.valueOf(638329271))
+      .closeTimeResolution(UnsignedInteger.valueOf(10))
+      .closed(true)
+      .build();
+  }
+
+  @Test
+  void computeHash() {
+    assertThat(LedgerHeaders.computeHash(ledger54300940()))
+      .isEqualTo(Hash256.of("3652D7FD0576BC452C0D2E9B747BDD733075971D1A9A1D98125055DEF428721A"));
+    assertThat(LedgerHeaders.computeHash(LedgerHeader.builder().from(ledger54300940())
+      .closeFlags(UnsignedInteger.ZERO)
+      .parentHash(Hash256.of("ae996778246bc81f85d5af051241daa577c23bca04c034a7074f93700194520d"))
+      .build()
+    )).isEqualTo(Hash256.of("3652D7FD0576BC452C0D2E9B747BDD733075971D1A9A1D98125055DEF428721A"));
+  }
+
+  @Test
+  void everyFieldIsCovered() {
+    LedgerHeader header = ledger54300940();
+    Hash256 hash = LedgerHeaders.computeHash(header);
+
+    assertThat(LedgerHeaders.computeHash(LedgerHeader.builder().from(header)
+      .closeFlags(UnsignedInteger.ONE).build())).isNotEqualTo(hash);
+    assertThat(LedgerHeaders.computeHash(LedgerHeader.builder().from(header)
+      .closeTime(UnsignedLong.valueOf(638329272)).build())).isNotEqualTo(hash);
+    assertThat(LedgerHeaders.computeHash(LedgerHeader.builder().from(header)
+      .totalCoins(XrpCurrencyAmount.ofDrops(99991024049618155L)).build())).isNotEqualTo(hash);
+    assertThat(LedgerHeaders.computeHash(LedgerHeader.builder().from(header)
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(54300941))).build())).isNotEqualTo(hash);
+  }
+
+  @Test
+  void isHashValid() {
+    assertThat(LedgerHeaders.isHashValid(ledger54300940())).isTrue();
+    assertThat(LedgerHeaders.isHashValid(LedgerHeader.builder().from(ledger54300940())
+      .closeTimeResolution(UnsignedInteger.valueOf(20)).build())).isFalse();
+    assertThat(LedgerHeaders.isHashValid(LedgerHeader.builder()
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(54300940)))
+      .parentHash(ledger54300940().parentHash())
+      .accountHash(ledger54300940().accountHash())
+      .transactionHash(ledger54300940().transactionHash())
+      .totalCoins(ledger54300940().totalCoins())
+      .parentCloseTime(ledger54300940().parentCloseTime())
+      .closeTime(ledger54300940().closeTime())
+      .closeTimeResolution(ledger54300940().closeTimeResolution())
+      .build())).isFalse();
+  }
+
+  @Test
+  void missingFieldIsRejected() {
+    LedgerHeader header = LedgerHeader.builder()
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(54300940)))
+      .parentHash(ledger54300940().parentHash())
+      .build();
+
+    assertThatThrownBy(() -> LedgerHeaders.computeHash(header))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Ledger header is missing total_coins");
+  }
+
+  @Test
+  void outOfRangeFieldIsRejected() {
+    LedgerHeader header = LedgerHeader.builder().from(ledger54300940())
+      .closeTimeResolution(UnsignedInteger.valueOf(256))
+      .build();
+
+    assertThatThrownBy(() -> LedgerHeaders.computeHash(header))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("close_time_resolution");
+  }
+}
@@ -0,0 +1,123 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.types.UInt32Type;
+import org.xrpl.xrpl4j.codec.binary.types.UInt8Type;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for {@link BinaryParser}.
+ */
+class BinaryParserTest {
+
+  @Test
+  void readPrimitives() {
+    BinaryParser parser = new BinaryParser("FF" + "ABCD" + "FFFFFFFE" + "FFFFFFFFFFFFFFFD");
+    assertThat(parser.size()).isEqualTo(15);
+    assertThat(parser.peekUnsignedByte()).isEqualTo(0xFF);
+    assertThat(parser.readUnsignedByte()).isEqualTo(0xFF);
+    assertThat(parser.readUnsignedShort()).isEqualTo(0xABCD);
+    assertThat(parser.readUnsignedInt()).isEqualTo(0xFFFFFFFEL);
+    assertThat(parser.readLong()).isEqualTo(-3L);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readBoxedUnsignedValues() {
+    BinaryParser parser = new BinaryParser("FF" + "ABCD" + "FFFFFFFE" + "FFFFFFFFFFFFFFFD");
+    assertThat(parser.readUInt8()).isEqualTo(UnsignedLong.valueOf(0xFF));
+    assertThat(parser.readUInt16()).isEqualTo(UnsignedLong.valueOf(0xABCD));
+    assertThat(parser.readUInt32()).isEqualTo(UnsignedLong.valueOf(0xFFFFFFFEL));
+    assertThat(parser.readUInt64()).isEqualTo(UnsignedLong.valueOf("FFFFFFFFFFFFFFFD", 16));
+  }
+
+  @Test
+  void readReturnsSliceOfInput() {
+    byte[] bytes = new byte[] {1, 2, 3, 4};
+    BinaryParser parser = new BinaryParser(bytes);
+    parser.skip(1);
+    UnsignedByteArray slice = parser.read(2);
+    assertThat(slice.hexValue()).isEqualTo("0203");
+
+    bytes[1] = 9;
+    assertThat(slice.hexValue()).isEqualTo("0903");
+    assertThat(parser.readUnsignedByte()).isEqualTo(4);
+  }
+
+  @Test
+  void readFromByteBufferLeavesPositionUnchanged() {
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 0x12, 0x34});
+    buffer.position(1);
+    BinaryParser parser = new BinaryParser(buffer);
+    assertThat(parser.readUnsignedShort()).isEqualTo(0x1234);
+    assertThat(buffer.position()).isEqualTo(1);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(2).put((byte) 0x12).put((byte) 0x34);
+    direct.flip();
+    assertThat(new BinaryParser(direct).readUnsignedShort()).isEqualTo(0x1234);
+    assertThat(direct.position()).isEqualTo(0);
+  }
+
+  @Test
+  void readPastEndThrows() {
+    BinaryParser parser = new BinaryParser("0102");
+    Assertions.assertThrows(IndexOutOfBoundsException.class, parser::readUnsignedInt);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> parser.read(3));
+    assertThat(parser.readUnsignedShort()).isEqualTo(0x0102);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, parser::readUnsignedByte);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> parser.read(0));
+  }
+
+  @Test
+  void readVariableLengthLength() {
+    assertThat(new BinaryParser("C0").readVariableLengthLength()).isEqualTo(192);
+    assertThat(new BinaryParser("C100").readVariableLengthLength()).isEqualTo(193);
+    assertThat(new BinaryParser("F0FF").readVariableLengthLength()).isEqualTo(12480);
+    assertThat(new BinaryParser("F1FFFF").readVariableLengthLength()).isEqualTo(12481 + 65535);
+  }
+
+  @Test
+  void readFieldHeader() {
+    assertThat(new BinaryParser("12").readFieldHeader())
+      .isEqualTo(FieldHeader.builder().typeCode(1).fieldCode(2).build());
+    assertThat(new BinaryParser("0111").readFieldHeader())
+      .isEqualTo(FieldHeader.builder().typeCode(17).fieldCode(1).build());
+    assertThat(new BinaryParser("1011").readFieldHeader())
+      .isEqualTo(FieldHeader.builder().typeCode(1).fieldCode(17).build());
+  }
+
+  @Test
+  void readType() {
+    BinaryParser parser = new BinaryParser("0000007B" + "FF");
+    assertThat(parser.readType(UInt32Type.class).toJson().asLong()).isEqualTo(123);
+    assertThat(parser.readType(UInt8Type.class).toJson().asInt()).isEqualTo(255);
+  }
+
+}
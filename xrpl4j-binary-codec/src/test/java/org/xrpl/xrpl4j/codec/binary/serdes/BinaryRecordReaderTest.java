@@ -0,0 +1,192 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectView;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link BinaryRecordReader}.
+ */
+class BinaryRecordReaderTest {
+
+  // One record for each prefix width, including the largest length a prefix can encode.
+  private static final int[] LENGTHS = {0, 1, 192, 193, 12480, 12481, 70000, BinaryRecordReader.MAX_RECORD_LENGTH};
+
+  @Test
+  void readRecordsOfEveryPrefixWidth() throws IOException {
+    List<UnsignedByteArray> records = randomRecords();
+    try (BinaryRecordReader reader = new BinaryRecordReader(trickle(frame(records)))) {
+      for (UnsignedByteArray expected : records) {
+        assertThat(reader.next()).hasValue(expected);
+      }
+      assertThat(reader.next()).isEmpty();
+    }
+  }
+
+  @Test
+  void readFiles(@TempDir Path directory) throws IOException {
+    List<UnsignedByteArray> records = randomRecords();
+    Path file = directory.resolve("records.bin");
+    Files.write(file, frame(records));
+
+    try (BinaryRecordReader reader = BinaryRecordReader.open(file)) {
+      assertThat(reader.records().collect(Collectors.toList())).isEqualTo(records);
+    }
+    try (BinaryRecordReader reader = BinaryRecordReader.map(file)) {
+      assertThat(reader.records().collect(Collectors.toList())).isEqualTo(records);
+    }
+    // Windows smaller than a record, so that records span several mappings.
+    try (BinaryRecordReader reader = BinaryRecordReader.map(file, 4096)) {
+      assertThat(reader.records().collect(Collectors.toList())).isEqualTo(records);
+    }
+  }
+
+  @Test
+  void decodeFixtureTransactions() throws IOException {
+    List<CodecFixture> fixtures = FixtureUtils.getCodecFixtures().transactions();
+    List<UnsignedByteArray> records = fixtures.stream()
+      .map(fixture -> UnsignedByteArray.fromHex(fixture.binary()))
+      .collect(Collectors.toList());
+    XrplBinaryCodec codec = new XrplBinaryCodec();
+
+    try (BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(frame(records)))) {
+      List<String> decoded = reader.records()
+        .map(record -> new STObjectView(record).getJson("TransactionType").asText())
+        .collect(Collectors.toList());
+      assertThat(decoded).hasSize(fixtures.size());
+      for (int i = 0; i < fixtures.size(); i++) {
+        assertThat(codec.decode(fixtures.get(i).binary())).contains("\"TransactionType\":\"" + decoded.get(i) + "\"");
+      }
+    }
+  }
+
+  @Test
+  void truncatedInput() throws IOException {
+    byte[] framed = frame(Collections.singletonList(UnsignedByteArray.ofSize(300)));
+
+    try (BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(framed, 0, 1))) {
+      assertThatThrownBy(reader::next)
+        .isInstanceOf(EOFException.class)
+        .hasMessage("Input ends inside a record length prefix");
+    }
+    try (BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(framed, 0, 100))) {
+      assertThatThrownBy(reader::next)
+        .isInstanceOf(EOFException.class)
+        .hasMessage("Input ends inside a record of 300 bytes");
+    }
+  }
+
+  @Test
+  void forEachConsumesEveryRecordInParallel() throws Exception {
+    List<UnsignedByteArray> records = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      records.add(UnsignedByteArray.of(new byte[] {(byte) i}));
+    }
+    AtomicInteger count = new AtomicInteger();
+    AtomicInteger sum = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(frame(records)))) {
+      reader.forEach(executor, 8, record -> {
+        count.incrementAndGet();
+        sum.addAndGet(record.get(0).asInt());
+      });
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(count).hasValue(1000);
+    assertThat(sum.get()).isEqualTo(records.stream().mapToInt(record -> record.get(0).asInt()).sum());
+  }
+
+  @Test
+  void forEachRethrowsConsumerFailure() throws IOException {
+    List<UnsignedByteArray> records = Collections.nCopies(100, UnsignedByteArray.of(new byte[] {1}));
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(frame(records)))) {
+      assertThatThrownBy(() -> reader.forEach(executor, 2, record -> {
+        throw new IllegalStateException("consumer failed");
+      })).isInstanceOf(IllegalStateException.class).hasMessage("consumer failed");
+      // Reading stopped early, so records remain.
+      assertThat(reader.next()).isNotEqualTo(Optional.empty());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static List<UnsignedByteArray> randomRecords() {
+    Random random = new Random(20221018L);
+    List<UnsignedByteArray> records = new ArrayList<>();
+    for (int length : LENGTHS) {
+      byte[] bytes = new byte[length];
+      random.nextBytes(bytes);
+      records.add(UnsignedByteArray.of(bytes));
+    }
+    return records;
+  }
+
+  private static byte[] frame(List<UnsignedByteArray> records) {
+    UnsignedByteArray framed = UnsignedByteArray.empty();
+    BinarySerializer serializer = new BinarySerializer(framed);
+    for (UnsignedByteArray record : records) {
+      serializer.writeVariableLength(record.length());
+      serializer.write(record);
+    }
+    return framed.toByteArray();
+  }
+
+  /**
+   * An {@link InputStream} that returns at most a few bytes from each read, so that prefixes and records are split
+   * across reads.
+   */
+  private static InputStream trickle(byte[] bytes) {
+    return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+      @Override
+      public int read(byte[] buffer, int offset, int length) throws IOException {
+        return super.read(buffer, offset, Math.min(length, 7));
+      }
+    };
+  }
+}
@@ -0,0 +1,107 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+
+import java.io.IOException;
+
+/**
+ * Unit tests for {@link BinarySerializer}.
+ */
+class BinarySerializerTest {
+
+  @Test
+  void writeFieldHeader() {
+    assertThat(headerHex(1, 1)).isEqualTo("11");
+    assertThat(headerHex(15, 15)).isEqualTo("FF");
+    assertThat(headerHex(1, 16)).isEqualTo("1010");
+    assertThat(headerHex(16, 1)).isEqualTo("0110");
+    assertThat(headerHex(255, 255)).isEqualTo("00FFFF");
+  }
+
+  @Test
+  void writeFieldHeaderMatchesFixtures() throws IOException {
+    FixtureUtils.getDataDrivenFixtures().fieldTests().forEach(fieldTest -> {
+      UnsignedByteArray sink = UnsignedByteArray.empty();
+      new BinarySerializer(sink).writeFieldHeader(
+        DefinitionsService.getInstance().getFieldInstance(fieldTest.name()).get().header()
+      );
+      assertThat(sink.hexValue()).isEqualTo(fieldTest.expectedHex());
+    });
+  }
+
+  @Test
+  void writeLengthEncoded() {
+    assertThat(lengthPrefixHex(0)).isEqualTo("00");
+    assertThat(lengthPrefixHex(192)).isEqualTo("C0");
+    assertThat(lengthPrefixHex(193)).isEqualTo("C100");
+    assertThat(lengthPrefixHex(12480)).isEqualTo("F0FF");
+    assertThat(lengthPrefixHex(12481)).isEqualTo("F10000");
+    assertThat(lengthPrefixHex(918744)).isEqualTo("FED417");
+  }
+
+  @Test
+  void writeFieldAndValueStreamsNestedObjects() throws JsonProcessingException {
+    FieldInstance memos = DefinitionsService.getInstance().getFieldInstance("Memos").get();
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    new BinarySerializer(sink).writeFieldAndValue(
+      memos,
+      BinaryCodecObjectMapperFactory.getObjectMapper().readTree("[{\"Memo\":{\"MemoType\":\"AB\"}}]")
+    );
+    // Memos header, Memo header, MemoType header and value, Memo end marker, Memos end marker
+    assertThat(sink.hexValue()).isEqualTo("F9" + "EA" + "7C01AB" + "E1" + "F1");
+  }
+
+  @Test
+  void pooledSerializerReusesItsSink() {
+    BinarySerializer first = BinarySerializer.pooled();
+    first.put((byte) 1);
+    UnsignedByteArray firstSink = first.sink();
+
+    BinarySerializer second = BinarySerializer.pooled();
+    assertThat(second.sink()).isSameAs(firstSink);
+    assertThat(second.sink().length()).isEqualTo(0);
+  }
+
+  private static String headerHex(int typeCode, int fieldCode) {
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    new BinarySerializer(sink).writeFieldHeader(FieldHeader.builder().typeCode(typeCode).fieldCode(fieldCode).build());
+    return sink.hexValue();
+  }
+
+  private static String lengthPrefixHex(int length) {
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    new BinarySerializer(sink).writeLengthEncoded(new BlobType(UnsignedByteArray.ofSize(length)));
+    return sink.slice(0, sink.length() - length).hexValue();
+  }
+
+}
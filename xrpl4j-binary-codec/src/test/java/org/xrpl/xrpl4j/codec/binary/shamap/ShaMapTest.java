@@ -0,0 +1,224 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.keylets.Keylets;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for {@link ShaMap}.
+ */
+class ShaMapTest {
+
+  private static final String ZERO_HASH = "0000000000000000000000000000000000000000000000000000000000000000";
+
+  @Test
+  void emptyMapHashesToZero() {
+    assertThat(new ShaMap().hash()).isEqualTo(Hash256.of(ZERO_HASH));
+    assertThat(new ShaMap().hash(Runnable::run)).isEqualTo(Hash256.of(ZERO_HASH));
+  }
+
+  @Test
+  void genesisLedgerState() throws Exception {
+    String genesisAccount = "{\"LedgerEntryType\":\"AccountRoot\",\"Account\":\"rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh\"," +
+      "\"Balance\":\"100000000000000000\",\"Flags\":0,\"OwnerCount\":0,\"PreviousTxnID\":\"" + ZERO_HASH + "\"," +
+      "\"PreviousTxnLgrSeq\":0,\"Sequence\":1}";
+    ShaMap stateMap = new ShaMap().addLedgerEntry(
+      Keylets.accountRoot(Address.of("rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh")),
+      new XrplBinaryCodec().encode(genesisAccount)
+    );
+
+    assertThat(stateMap.hash())
+      .isEqualTo(Hash256.of("A21ED30C04C88046FC61DB9DC19375EEDBD365FD8C17286F27127DF804E9CAA6"));
+  }
+
+  @Test
+  void singleTransaction() {
+    byte[] transaction = BaseEncoding.base16().decode("12000022800000002400000001");
+    byte[] metadata = BaseEncoding.base16().decode("201C00000000F8E5110061E1E1031000");
+
+    byte[] key = sha512Half(Hashing.sha512().newHasher()
+      .putBytes(HashPrefix.TRANSACTION_ID.bytes())
+      .putBytes(transaction));
+    byte[] leafHash = sha512Half(Hashing.sha512().newHasher()
+      .putBytes(HashPrefix.TRANSACTION_NODE.bytes())
+      .putByte((byte) transaction.length)
+      .putBytes(transaction)
+      .putByte((byte) metadata.length)
+      .putBytes(metadata)
+      .putBytes(key));
+    Hasher root = Hashing.sha512().newHasher().putBytes(HashPrefix.INNER_NODE.bytes());
+    for (int branch = 0; branch < 16; branch++) {
+      root.putBytes(branch == (key[0] & 0xFF) >>> 4 ? leafHash : new byte[32]);
+    }
+
+    ShaMap transactionMap = new ShaMap()
+      .addTransaction(BaseEncoding.base16().encode(transaction), BaseEncoding.base16().encode(metadata));
+    assertThat(transactionMap.size()).isEqualTo(1);
+    assertThat(transactionMap.hash()).isEqualTo(Hash256.of(BaseEncoding.base16().encode(sha512Half(root))));
+  }
+
+  @Test
+  void matchesReferenceTreeInAnyOrderAndInParallel() {
+    Random random = new Random(21);
+    List<Hash256> keys = new ArrayList<>();
+    List<byte[]> entries = new ArrayList<>();
+    for (int count = 0; count < 2000; count++) {
+      byte[] key = new byte[32];
+      random.nextBytes(key);
+      if (count % 7 == 6) {
+        // Share a long prefix with the previous key to force deep inner nodes.
+        System.arraycopy(BaseEncoding.base16().decode(keys.get(keys.size() - 1).value()), 0, key, 0, 30);
+      }
+      byte[] entry = new byte[1 + random.nextInt(300)];
+      random.nextBytes(entry);
+      keys.add(Hash256.of(BaseEncoding.base16().encode(key)));
+      entries.add(entry);
+    }
+
+    ShaMap inOrder = new ShaMap();
+    ReferenceTree reference = new ReferenceTree();
+    for (int index = 0; index < keys.size(); index++) {
+      inOrder.addLedgerEntry(keys.get(index), UnsignedByteArray.of(entries.get(index)));
+      reference.insert(BaseEncoding.base16().decode(keys.get(index).value()), leafHash(keys.get(index),
+        entries.get(index)));
+    }
+    List<Integer> shuffled = new ArrayList<>();
+    for (int index = 0; index < keys.size(); index++) {
+      shuffled.add(index);
+    }
+    Collections.shuffle(shuffled, random);
+    ShaMap shuffledMap = new ShaMap();
+    for (int index : shuffled) {
+      shuffledMap.addLedgerEntry(keys.get(index), BaseEncoding.base16().encode(entries.get(index)));
+    }
+
+    Hash256 expected = Hash256.of(BaseEncoding.base16().encode(reference.hash()));
+    assertThat(inOrder.hash()).isEqualTo(expected);
+    assertThat(shuffledMap.hash()).isEqualTo(expected);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(shuffledMap.hash(executor)).isEqualTo(expected);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void duplicateKeysAreRejected() {
+    Hash256 key = Hash256.of("2B6AC232AA4C4BE41BF49D2459FA4A0347E1B543A4C92FCEE0821C0201E2E9A8");
+    ShaMap map = new ShaMap().addLedgerEntry(key, "11006122").addLedgerEntry(key, "11006123");
+
+    assertThatThrownBy(map::hash).isInstanceOf(IllegalStateException.class).hasMessageContaining(key.value());
+    assertThatThrownBy(() -> map.hash(Runnable::run)).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static byte[] leafHash(final Hash256 key, final byte[] entry) {
+    return sha512Half(Hashing.sha512().newHasher()
+      .putBytes(HashPrefix.LEAF_NODE.bytes())
+      .putBytes(entry)
+      .putBytes(BaseEncoding.base16().decode(key.value())));
+  }
+
+  private static byte[] sha512Half(final Hasher hasher) {
+    byte[] half = new byte[32];
+    System.arraycopy(hasher.hash().asBytes(), 0, half, 0, 32);
+    return half;
+  }
+
+  /**
+   * A SHAMap built node by node, the way the ledger builds it, to check the range-based hashing against.
+   */
+  private static final class ReferenceTree {
+
+    private final Node root = new Node(null, null);
+
+    void insert(final byte[] key, final byte[] leafHash) {
+      Node parent = root;
+      int depth = 0;
+      while (true) {
+        int branch = nibble(key, depth);
+        Node child = parent.children[branch];
+        if (child == null) {
+          parent.children[branch] = new Node(key, leafHash);
+          return;
+        }
+        if (child.key != null) {
+          Node inner = new Node(null, null);
+          inner.children[nibble(child.key, depth + 1)] = child;
+          parent.children[branch] = inner;
+          child = inner;
+        }
+        parent = child;
+        depth++;
+      }
+    }
+
+    byte[] hash() {
+      return hash(root);
+    }
+
+    private static byte[] hash(final Node node) {
+      if (node.key != null) {
+        return node.leafHash;
+      }
+      Hasher hasher = Hashing.sha512().newHasher().putBytes(HashPrefix.INNER_NODE.bytes());
+      for (Node child : node.children) {
+        hasher.putBytes(child == null ? new byte[32] : hash(child));
+      }
+      return sha512Half(hasher);
+    }
+
+    private static int nibble(final byte[] key, final int depth) {
+      int value = key[depth / 2] & 0xFF;
+      return depth % 2 == 0 ? value >>> 4 : value & 0x0F;
+    }
+
+    private static final class Node {
+
+      private final byte[] key;
+      private final byte[] leafHash;
+      private final Node[] children = new Node[16];
+
+      private Node(final byte[] key, final byte[] leafHash) {
+        this.key = key;
+        this.leafHash = leafHash;
+      }
+    }
+  }
+}
@@ -24,9 +24,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 class AmountTypeTest extends BaseSerializerTypeTest {
@@ -117,4 +124,119 @@ class AmountTypeTest extends BaseSerializerTypeTest {
     assertThat(codec.fromJson(json).toHex()).isEqualTo(hex);
   }
 
+
+  private static Stream<String> boundaryDrops() {
+    return Stream.of(
+      "0", "00", "1", "-0", "-1", "1.0", "1e5", "", "abc", " 1", "+1", "0x10",
+      "99999999999999999", "100000000000000000", "100000000000000001", "999999999999999999",
+      "1000000000000000000", "0000000000000000001", "9223372036854775807", "18446744073709551616"
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("boundaryDrops")
+  void encodeDropsMatchesBigDecimal(String drops) {
+    assertSameOutcome(() -> AmountType.encodeDrops(drops).hexValue(),
+      () -> AmountType.encodeDropsWithBigDecimal(drops).hexValue());
+  }
+
+  @Test
+  void encodeRandomDropsMatchesBigDecimal() {
+    Random random = new Random(20221018L);
+    for (int i = 0; i < 10_000; i++) {
+      String drops = Long.toString(Math.abs(random.nextLong()) >>> random.nextInt(64));
+      assertSameOutcome(() -> AmountType.encodeDrops(drops).hexValue(),
+        () -> AmountType.encodeDropsWithBigDecimal(drops).hexValue());
+    }
+  }
+
+  @Test
+  void decodeDrops() {
+    assertThat(codec.fromHex("0000000000000064").toJson().asText()).isEqualTo("-100");
+    assertThat(codec.fromHex("4000000000000000").toJson().asText()).isEqualTo("0");
+    assertThat(codec.fromHex("0000000000000000").toJson().asText()).isEqualTo("0");
+    assertThat(codec.fromHex("7FFFFFFFFFFFFFFF").toJson().asText()).isEqualTo("4611686018427387903");
+  }
+
+  private static Stream<String> boundaryIouValues() {
+    List<String> values = Arrays.asList(
+      "0", "-0", "0.0", "0e10", "00.00", "1", "-1", "+1", "1.", ".1", ".", "-", "", "1e", "1e+", "e5", "1e5.0",
+      "1.2.3", "1e5x", "1E5", "1e+5", "1e-5", "-1.5e3", "0.0001", "100", "1.50", "abc", "1e10000", "1e-10000",
+      "9999999999999999", "99999999999999999", "1111111111111111.0", "1111111111111111.1", "1000000000000000000000",
+      "0.00000000000000000001", "12345678901234560000000", "1234567890123456.7",
+      "1e80", "9.999999999999999e80", "1e81", "-1e81", "1e95", "1e96",
+      "1e-81", "1e-82", "1e-83", "1e-96", "1e-97", "1e-111", "1e-112",
+      "9999999999999999e-96", "1000000000000000e-96", "1000000000000000e-97"
+    );
+    return values.stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource("boundaryIouValues")
+  void encodeIouValueMatchesBigDecimal(String value) {
+    assertSameOutcome(() -> AmountType.encodeIouValue(value).hexValue(),
+      () -> AmountType.encodeIouValueWithBigDecimal(value).hexValue());
+  }
+
+  @Test
+  void encodeRandomIouValuesMatchesBigDecimal() {
+    Random random = new Random(20221018L);
+    for (int i = 0; i < 100_000; i++) {
+      String mantissa = Long.toString(Math.abs(random.nextLong()) >>> random.nextInt(64));
+      BigDecimal decimal = new BigDecimal(mantissa).scaleByPowerOfTen(random.nextInt(200) - 100);
+      if (random.nextBoolean()) {
+        decimal = decimal.negate();
+      }
+      for (String value : new String[] {decimal.toString(), decimal.toPlainString(), decimal.toEngineeringString()}) {
+        assertSameOutcome(() -> AmountType.encodeIouValue(value).hexValue(),
+          () -> AmountType.encodeIouValueWithBigDecimal(value).hexValue());
+      }
+    }
+  }
+
+  @Test
+  void decodeIouValueBoundariesMatchBigDecimal() {
+    long[] mantissas = {0L, 1L, 10L, 1_000_000_000_000_000L, 9_999_999_999_999_999L, 10_000_000_000_000_000L,
+      0x003FFFFFFFFFFFFFL};
+    for (long mantissa : mantissas) {
+      for (int exponent = 0; exponent < 256; exponent++) {
+        for (long sign : new long[] {0L, 0x4000000000000000L}) {
+          long bits = 0x8000000000000000L | sign | (long) exponent << 54 | mantissa;
+          assertSameOutcome(() -> AmountType.decodeIouValue(bits), () -> AmountType.decodeIouValueWithBigDecimal(bits));
+        }
+      }
+    }
+  }
+
+  @Test
+  void decodeRandomIouValuesMatchesBigDecimal() {
+    Random random = new Random(20221018L);
+    for (int i = 0; i < 100_000; i++) {
+      long mantissa = (random.nextLong() & 0x003FFFFFFFFFFFFFL) >>> random.nextInt(54);
+      long bits = random.nextLong() & 0xFFC0000000000000L | 0x8000000000000000L | mantissa;
+      assertSameOutcome(() -> AmountType.decodeIouValue(bits), () -> AmountType.decodeIouValueWithBigDecimal(bits));
+    }
+  }
+
+  @Test
+  void encodeCurrencyAmountWithMissingValue() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+      () -> codec.fromJson("{\"currency\":\"USD\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}"));
+  }
+
+  /**
+   * Assert that two computations return equal results, or both throw the same type of exception.
+   */
+  private static void assertSameOutcome(Supplier<String> fast, Supplier<String> reference) {
+    assertThat(outcome(fast)).isEqualTo(outcome(reference));
+  }
+
+  private static String outcome(Supplier<String> computation) {
+    try {
+      return computation.get();
+    } catch (Throwable e) {
+      return e.getClass().getName();
+    }
+  }
+
 }
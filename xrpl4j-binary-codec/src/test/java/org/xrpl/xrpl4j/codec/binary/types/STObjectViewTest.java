@@ -0,0 +1,121 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link STObjectView}.
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+class STObjectViewTest {
+
+  // TransactionType (Payment), Flags, Sequence, DestinationTag, Fee, Account, Memos[Memo, Memo].
+  private static final String HEX = "120000" + "2280000000" + "24000000FF" + "2E0000007B" +
+    "68400000000000000A" + "8114B5F762798A53D543A014CAF8B297CFF8F2F937E8" +
+    "F9" + STArrayTypeTest.MEMO_HEX + STArrayTypeTest.MEMO_HEX + STArrayType.ARRAY_END_MARKER_HEX;
+
+  private static Stream<String> fixtureHex() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    return Stream.concat(
+      Stream.concat(fixtures.transactions().stream(), fixtures.accountState().stream()).map(CodecFixture::binary),
+      FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream().map(object -> object.expectedHex())
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("fixtureHex")
+  void everyFieldMatchesFullDecode(String hex) {
+    JsonNode expected = STObjectType.CODEC.readJson(new BinaryParser(hex));
+    STObjectView view = new STObjectView(UnsignedByteArray.fromHex(hex));
+
+    assertThat(view.fieldNames()).containsExactlyElementsOf(Lists.newArrayList(expected.fieldNames()));
+    expected.fields().forEachRemaining(field -> {
+      assertThat(view.has(field.getKey())).isTrue();
+      assertThat(view.getJson(field.getKey())).isEqualTo(field.getValue());
+    });
+  }
+
+  @Test
+  void typedAccessors() {
+    STObjectView view = new STObjectView(UnsignedByteArray.fromHex(HEX));
+
+    assertThat(view.getUInt16("TransactionType")).isEqualTo(0);
+    assertThat(view.getUInt32("Flags")).isEqualTo(0x80000000L);
+    assertThat(view.getUInt32("DestinationTag")).isEqualTo(0x7BL);
+    assertThat(view.getUInt32("Sequence")).isEqualTo(0xFFL);
+    assertThat(view.getAccountId("Account")).isEqualTo(Address.of("rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh"));
+    assertThat(view.getBytes("Fee").hexValue()).isEqualTo("400000000000000A");
+    assertThat(view.getJson("TransactionType").asText()).isEqualTo("Payment");
+    assertThat(view.has("Destination")).isFalse();
+  }
+
+  @Test
+  void arrayElements() {
+    STObjectView view = new STObjectView(UnsignedByteArray.fromHex(HEX));
+
+    List<STObjectView> memos = view.getArray("Memos");
+    assertThat(memos).hasSize(2);
+    for (STObjectView memo : memos) {
+      assertThat(memo.fieldNames()).containsExactly("Memo");
+      STObjectView content = memo.getObject("Memo");
+      assertThat(content.fieldNames()).containsExactly("MemoType", "MemoData");
+      assertThat(content.getBytes("MemoData").hexValue()).isEqualTo("72656E74");
+    }
+  }
+
+  @Test
+  void uint64() {
+    // ExchangeRate is UInt64 field 6.
+    STObjectView view = new STObjectView(UnsignedByteArray.fromHex("36FFFFFFFFFFFFFFFF"));
+    assertThat(view.getUInt64("ExchangeRate")).isEqualTo(UnsignedLong.MAX_VALUE);
+  }
+
+  @Test
+  void missingFieldOrWrongType() {
+    STObjectView view = new STObjectView(UnsignedByteArray.fromHex(HEX));
+
+    assertThatThrownBy(() -> view.getUInt32("Destination"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("No field named Destination");
+    assertThatThrownBy(() -> view.getAccountId("Sequence"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Field Sequence has type UInt32, not AccountID");
+  }
+}
@@ -0,0 +1,58 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@link SerializedType}.
+ */
+class SerializedTypeTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"AccountID", "Amount", "Blob", "Currency", "Hash128", "Hash160", "Hash256", "PathSet",
+    "STArray", "STObject", "UInt8", "UInt16", "UInt32", "UInt64", "Vector256"})
+  void typesAreNewAndNamed(String name) {
+    SerializedType<?> type = SerializedType.getTypeByName(name);
+    assertThat(SerializedType.getTypeByName(name)).isNotSameAs(type).isInstanceOf(type.getClass());
+    assertThat(SerializedType.getNameByType(type)).isEqualTo(name);
+    assertThat(SerializedType.getNameByType(new BlobType())).isEqualTo("Blob");
+  }
+
+  @Test
+  void typesByClass() {
+    assertThat(SerializedType.getTypeByClass(STObjectType.class)).isInstanceOf(STObjectType.class);
+    assertThat(SerializedType.getTypeByClass(HopType.class)).isNotSameAs(SerializedType.getTypeByClass(HopType.class));
+    assertThat(SerializedType.getNameByType(SerializedType.getTypeByClass(HopType.class))).isNull();
+  }
+
+  @Test
+  void unknownTypes() {
+    assertThat(SerializedType.getTypeByName("Transaction")).isNull();
+    assertThatThrownBy(() -> SerializedType.getTypeByClass(SerializedType.class))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,72 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+
+/**
+ * Unit tests for {@link TypeCodecs}.
+ */
+class TypeCodecsTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"AccountID", "Amount", "Blob", "Currency", "Hash128", "Hash160", "Hash256", "PathSet",
+    "STArray", "STObject", "UInt8", "UInt16", "UInt32", "UInt64", "Vector256"})
+  void codecsAreSharedPerType(String name) {
+    TypeCodec<?> codec = TypeCodecs.forName(name).get();
+    assertThat(TypeCodecs.forName(name)).containsSame(codec);
+    assertThat(TypeCodecs.forClass(SerializedType.getTypeByName(name).getClass())).isSameAs(codec);
+  }
+
+  @Test
+  void codecsReadNewValues() {
+    TypeCodec<UInt8Type> codec = TypeCodecs.forClass(UInt8Type.class);
+    UInt8Type value = codec.fromHex("7F");
+
+    assertThat(value.toHex()).isEqualTo("7F");
+    assertThat(codec.fromHex("7F")).isNotSameAs(value);
+    assertThat(codec.fromHex("00").toHex()).isEqualTo("00");
+  }
+
+  @Test
+  void fieldsResolveTheirCodec() {
+    FieldInstance fee = DefinitionsService.getInstance().getFieldInstance("Fee").get();
+    FieldInstance transaction = DefinitionsService.getInstance().getFieldInstance("Transaction").get();
+
+    assertThat(fee.codec()).containsSame(AmountType.CODEC);
+    assertThat(transaction.codec()).isEmpty();
+  }
+
+  @Test
+  void unknownTypes() {
+    assertThat(TypeCodecs.forName("Transaction")).isEmpty();
+    assertThatThrownBy(() -> TypeCodecs.forClass(SerializedType.class))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -33,7 +33,8 @@ import okhttp3.HttpUrl;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.ModelBinaryCodec;
 import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
 import org.xrpl.xrpl4j.keypairs.KeyPairService;
 import org.xrpl.xrpl4j.model.client.Finality;
@@ -121,7 +122,7 @@ public class XrplClient {
   private static final Logger LOGGER = LoggerFactory.getLogger(XrplClient.class);
 
   private final ObjectMapper objectMapper;
-  private final XrplBinaryCodec binaryCodec;
+  private final ModelBinaryCodec modelCodec;
   private final JsonRpcClient jsonRpcClient;
   private final KeyPairService keyPairService;
 
@@ -143,7 +144,7 @@ public class XrplClient {
   XrplClient(final JsonRpcClient jsonRpcClient) {
     this.jsonRpcClient = Objects.requireNonNull(jsonRpcClient);
     this.objectMapper = ObjectMapperFactory.create();
-    this.binaryCodec = new XrplBinaryCodec();
+    this.modelCodec = new ModelBinaryCodec(objectMapper);
     this.keyPairService = DefaultKeyPairService.getInstance();
   }
 
@@ -215,8 +216,7 @@ public class XrplClient {
       LOGGER.debug("About to submit signedTransaction: {}", signedTransaction);
     }
 
-    String signedJson = objectMapper.writeValueAsString(signedTransaction.signedTransaction());
-    String signedBlob = binaryCodec.encode(signedJson); // <-- txBlob must be binary-encoded.
+    String signedBlob = signedTransaction.signedTransactionBytes().hexValue(); // <-- txBlob must be binary-encoded.
     JsonRpcRequest request = JsonRpcRequest.builder()
       .method(XrplMethods.SUBMIT)
       .addParams(SubmitRequestParams.of(signedBlob))
@@ -742,24 +742,17 @@ public class XrplClient {
   public <T extends Transaction> SignedTransaction<T> signTransaction(
     Wallet wallet, T unsignedTransaction
   ) {
-    try {
-      String unsignedJson = objectMapper.writeValueAsString(unsignedTransaction);
-
-      String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      String signature = keyPairService.sign(unsignedBinaryHex, wallet.privateKey()
-        .orElseThrow(() -> new RuntimeException("Wallet must provide a private key to sign the transaction.")));
+    UnsignedByteArray unsignedBinary = modelCodec.encodeForSigning(unsignedTransaction);
+    String signature = keyPairService.sign(unsignedBinary, wallet.privateKey()
+      .orElseThrow(() -> new RuntimeException("Wallet must provide a private key to sign the transaction.")));
 
-      T signedTransaction = (T) addSignature(unsignedTransaction, signature);
+    T signedTransaction = (T) addSignature(unsignedTransaction, signature);
 
-      String signedJson = objectMapper.writeValueAsString(signedTransaction);
-      String signedBinary = binaryCodec.encode(signedJson);
-      return SignedTransaction.<T>builder()
-        .signedTransaction(signedTransaction)
-        .signedTransactionBlob(signedBinary)
-        .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e);
-    }
+    String signedBinary = modelCodec.encode(signedTransaction).hexValue();
+    return SignedTransaction.<T>builder()
+      .signedTransaction(signedTransaction)
+      .signedTransactionBlob(signedBinary)
+      .build();
   }
 
   /**
@@ -30,7 +30,7 @@ import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.ModelBinaryCodec;
 import org.xrpl.xrpl4j.crypto.BcKeyUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
@@ -69,7 +69,7 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
    */
   public SingleKeySignatureService(final PrivateKey privateKey) {
     this(
-      new SignatureUtils(ObjectMapperFactory.create(), new XrplBinaryCodec()),
+      new SignatureUtils(new ModelBinaryCodec(ObjectMapperFactory.create())),
       new Ed25519Signer(),
       new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest())),
       DefaultKeyPairService.getInstance(),
@@ -119,7 +119,7 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
 
     ed25519Signer.reset();
     ed25519Signer.init(true, privateKeyParameters);
-    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size());
+    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length());
 
     final UnsignedByteArray sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
     return Signature.builder()
@@ -142,7 +142,7 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
 
     ed25519Signer.reset();
     ed25519Signer.init(false, bcPublicKey);
-    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size());
+    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length());
 
     return ed25519Signer.verifySignature(
       transactionWithSignature.signature().value().toByteArray()
@@ -20,14 +20,14 @@ package org.xrpl.xrpl4j.crypto.signing;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.ModelBinaryCodec;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.model.transactions.AccountDelete;
 import org.xrpl.xrpl4j.model.transactions.AccountSet;
+import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.CheckCancel;
 import org.xrpl.xrpl4j.model.transactions.CheckCash;
 import org.xrpl.xrpl4j.model.transactions.CheckCreate;
@@ -54,18 +54,31 @@ import java.util.Objects;
  */
 public class SignatureUtils {
 
-  private final ObjectMapper objectMapper;
-  private final XrplBinaryCodec binaryCodec;
+  private final ModelBinaryCodec modelCodec;
 
   /**
    * Required-args constructor.
    *
+   * @param modelCodec The {@link ModelBinaryCodec} that encodes transactions directly to binary.
+   */
+  public SignatureUtils(final ModelBinaryCodec modelCodec) {
+    this.modelCodec = Objects.requireNonNull(modelCodec);
+  }
+
+  /**
+   * Required-args constructor. Transactions are encoded directly to binary by a {@link ModelBinaryCodec} whose fields
+   * are those {@code objectMapper} would write as JSON.
+   *
    * @param objectMapper A {@link ObjectMapper}.
-   * @param binaryCodec  A {@link XrplBinaryCodec}.
+   * @param binaryCodec  A {@link XrplBinaryCodec}, which is no longer used: transactions are not encoded via JSON, so a
+   *                     custom {@link XrplBinaryCodec} has no effect.
+   *
+   * @deprecated Use {@link #SignatureUtils(ModelBinaryCodec)}.
    */
+  @Deprecated
   public SignatureUtils(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
-    this.objectMapper = Objects.requireNonNull(objectMapper);
-    this.binaryCodec = Objects.requireNonNull(binaryCodec);
+    this(new ModelBinaryCodec(Objects.requireNonNull(objectMapper)));
+    Objects.requireNonNull(binaryCodec);
   }
 
   /**
@@ -77,13 +90,7 @@ public class SignatureUtils {
    */
   public UnsignedByteArray toSignableBytes(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return modelCodec.encodeForSigning(transaction);
   }
 
   /**
@@ -98,14 +105,7 @@ public class SignatureUtils {
   public UnsignedByteArray toMultiSignableBytes(final Transaction transaction, String signerAddress) {
     Objects.requireNonNull(transaction);
     Objects.requireNonNull(signerAddress);
-
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return modelCodec.encodeForMultiSigning(transaction, Address.of(signerAddress));
   }
 
   /**
@@ -217,17 +217,11 @@ public class SignatureUtils {
       // Should never happen, but will in a unit test if we miss one.
       throw new IllegalArgumentException("Signing fields could not be added to the unsignedTransaction.");
     }
-    try {
-      String signedJson = objectMapper.writeValueAsString(signedTransaction);
-      String signedBlob = binaryCodec.encode(signedJson); // <-- txBlob must be binary-encoded.
-      return SignedTransaction.builder()
-        .unsignedTransaction(unsignedTransaction)
-        .signature(signature)
-        .signedTransaction(signedTransaction)
-        .signedTransactionBytes(UnsignedByteArray.of(BaseEncoding.base16().decode(signedBlob)))
-        .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return SignedTransaction.builder()
+      .unsignedTransaction(unsignedTransaction)
+      .signature(signature)
+      .signedTransaction(signedTransaction)
+      .signedTransactionBytes(modelCodec.encode(signedTransaction)) // <-- txBlob must be binary-encoded.
+      .build();
   }
 }
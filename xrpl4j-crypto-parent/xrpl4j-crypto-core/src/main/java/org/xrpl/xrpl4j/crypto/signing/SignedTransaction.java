@@ -20,8 +20,6 @@ package org.xrpl.xrpl4j.crypto.signing;
  * =========================LICENSE_END==================================
  */
 
-import static java.util.Arrays.copyOfRange;
-
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.hash.Hashing;
@@ -94,15 +92,13 @@ public interface SignedTransaction<T extends Transaction> {
    */
   @Value.Derived
   default Hash256 hash() {
-    byte[] hashBytes = copyOfRange(
-      Hashing.sha512().hashBytes(
-        BaseEncoding.base16().decode(
-          SIGNED_TRANSACTION_HASH_PREFIX.concat(signedTransactionBytes().hexValue()).toUpperCase()
-        )).asBytes(),
-      0,
-      32 // <-- SHA512 Half is the first 32 bytes of the SHA512 hash.
-    );
-    return Hash256.of(BaseEncoding.base16().encode(hashBytes));
+    byte[] hashBytes = Hashing.sha512().newHasher()
+      .putBytes(BaseEncoding.base16().decode(SIGNED_TRANSACTION_HASH_PREFIX))
+      .putBytes(signedTransactionBytes().toByteArray())
+      .hash()
+      .asBytes();
+    // SHA512 Half is the first 32 bytes of the SHA512 hash.
+    return Hash256.of(BaseEncoding.base16().encode(hashBytes, 0, 32));
   }
 
 }
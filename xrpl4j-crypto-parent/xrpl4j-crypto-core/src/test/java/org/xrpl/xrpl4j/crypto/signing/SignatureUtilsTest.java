@@ -21,16 +21,8 @@ package org.xrpl.xrpl4j.crypto.signing;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonLocation;
-import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.primitives.UnsignedInteger;
@@ -42,9 +34,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.ModelBinaryCodec;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.PublicKey;
 import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.AccountDelete;
 import org.xrpl.xrpl4j.model.transactions.AccountSet;
 import org.xrpl.xrpl4j.model.transactions.Address;
@@ -87,23 +81,17 @@ public class SignatureUtilsTest {
   @Mock
   private Signature signatureMock;
 
-  @Mock
-  private ObjectMapper objectMapperMock;
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
 
-  @Mock
-  private XrplBinaryCodec xrplBinaryCodecMock;
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
 
   private SignatureUtils signatureUtils;
 
   @BeforeEach
-  public void setUp() throws JsonProcessingException {
+  public void setUp() {
     MockitoAnnotations.openMocks(this);
     sourceWallet = this.getSourceWallet();
-    when(objectMapperMock.writeValueAsString(any())).thenReturn("{foo}"); // <-- Unused JSON value.
-    when(xrplBinaryCodecMock.encodeForSigning(anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encodeForMultiSigning(any(), anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encode(anyString())).thenReturn("0123456789"); // <-- Unused HEX value.
-    this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock);
+    this.signatureUtils = new SignatureUtils(new ModelBinaryCodec(objectMapper));
   }
 
   //////////////////
@@ -129,37 +117,34 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void toSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException("", mock(JsonLocation.class))).when(objectMapperMock).writeValueAsString(any());
-    Assertions.assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(transactionMock));
-  }
+  public void toSignableBytes() throws JsonProcessingException {
+    Payment payment = payment();
+    UnsignedByteArray actual = signatureUtils.toSignableBytes(payment);
 
-  @Test
-  public void toMutliSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException("", mock(JsonLocation.class))).when(objectMapperMock).writeValueAsString(any());
-    Assertions.assertThrows(RuntimeException.class, () -> signatureUtils.toMultiSignableBytes(transactionMock, ""));
+    String expected = binaryCodec.encodeForSigning(objectMapper.writeValueAsString(payment));
+    assertThat(actual.hexValue()).isEqualTo(expected);
   }
 
   @Test
-  public void toSignableBytes() throws JsonProcessingException {
-    UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
-    assertThat(actual.length()).isEqualTo(1);
+  @SuppressWarnings("deprecation")
+  public void deprecatedConstructorSignsTheSameBytes() {
+    SignatureUtils deprecated = new SignatureUtils(objectMapper, binaryCodec);
+    Payment payment = payment();
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
-    verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigning(anyString());
-    verifyNoMoreInteractions(xrplBinaryCodecMock);
+    assertThat(deprecated.toSignableBytes(payment)).isEqualTo(signatureUtils.toSignableBytes(payment));
+    assertThat(deprecated.toMultiSignableBytes(payment, sourceWallet.classicAddress().value()))
+      .isEqualTo(signatureUtils.toMultiSignableBytes(payment, sourceWallet.classicAddress().value()));
   }
 
   @Test
   public void toMultiSignableBytes() throws JsonProcessingException {
-    UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(transactionMock, "");
-    assertThat(actual.length()).isEqualTo(1);
+    Payment payment = payment();
+    UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(payment, sourceWallet.classicAddress().value());
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
-    verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForMultiSigning(anyString(), anyString());
-    verifyNoMoreInteractions(xrplBinaryCodecMock);
+    String expected = binaryCodec.encodeForMultiSigning(
+      objectMapper.writeValueAsString(payment), sourceWallet.classicAddress().value()
+    );
+    assertThat(actual.hexValue()).isEqualTo(expected);
   }
 
   ////////////////////////////
@@ -196,7 +181,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionPayment() {
+  public void addSignatureToTransactionPayment() throws JsonProcessingException {
     Payment payment = Payment.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -209,7 +194,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionAccountSet() {
+  public void addSignatureToTransactionAccountSet() throws JsonProcessingException {
     AccountSet accountSet = AccountSet.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -220,7 +205,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionAccountDelete() {
+  public void addSignatureToTransactionAccountDelete() throws JsonProcessingException {
     AccountDelete accountDelete = AccountDelete.builder()
       .account(sourceWallet.classicAddress())
       .destination(sourceWallet.classicAddress())
@@ -232,7 +217,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionCheckCancel() {
+  public void addSignatureToTransactionCheckCancel() throws JsonProcessingException {
     CheckCancel checkCancel = CheckCancel.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -244,7 +229,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionCheckCash() {
+  public void addSignatureToTransactionCheckCash() throws JsonProcessingException {
     CheckCash checkCash = CheckCash.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -257,7 +242,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionCheckCreate() {
+  public void addSignatureToTransactionCheckCreate() throws JsonProcessingException {
     CheckCreate checkCreate = CheckCreate.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -270,7 +255,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionDepositPreAuth() {
+  public void addSignatureToTransactionDepositPreAuth() throws JsonProcessingException {
     DepositPreAuth depositPreAuth = DepositPreAuth.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -282,7 +267,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionEscrowCancel() {
+  public void addSignatureToTransactionEscrowCancel() throws JsonProcessingException {
     EscrowCancel escrowCancel = EscrowCancel.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -295,7 +280,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionEscrowFinish() {
+  public void addSignatureToTransactionEscrowFinish() throws JsonProcessingException {
     EscrowFinish escrowFinish = EscrowFinish.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -308,7 +293,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionEscrowCreate() {
+  public void addSignatureToTransactionEscrowCreate() throws JsonProcessingException {
     EscrowCreate escrowCreate = EscrowCreate.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -321,7 +306,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionTrustSet() {
+  public void addSignatureToTransactionTrustSet() throws JsonProcessingException {
     TrustSet trustSet = TrustSet.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -337,7 +322,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionOfferOfferCreate() {
+  public void addSignatureToTransactionOfferOfferCreate() throws JsonProcessingException {
     OfferCreate offerCreate = OfferCreate.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -350,7 +335,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionOfferCancel() {
+  public void addSignatureToTransactionOfferCancel() throws JsonProcessingException {
     OfferCancel offerCancel = OfferCancel.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -361,7 +346,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionPaymentChannelCreate() {
+  public void addSignatureToTransactionPaymentChannelCreate() throws JsonProcessingException {
     PaymentChannelCreate paymentChannelCreate = PaymentChannelCreate.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -376,7 +361,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionPaymentChannelClaim() {
+  public void addSignatureToTransactionPaymentChannelClaim() throws JsonProcessingException {
     PaymentChannelClaim paymentChannelClaim = PaymentChannelClaim.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -388,7 +373,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionPaymentChannelFund() {
+  public void addSignatureToTransactionPaymentChannelFund() throws JsonProcessingException {
     PaymentChannelFund paymentChannelFund = PaymentChannelFund.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -401,7 +386,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionSetRegularKey() {
+  public void addSignatureToTransactionSetRegularKey() throws JsonProcessingException {
     SetRegularKey setRegularKey = SetRegularKey.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -412,7 +397,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void addSignatureToTransactionSignerListSet() {
+  public void addSignatureToTransactionSignerListSet() throws JsonProcessingException {
     SignerListSet signerListSet = SignerListSet.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -424,7 +409,7 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  void addSignatureToTicketCreate() {
+  void addSignatureToTicketCreate() throws JsonProcessingException {
     TicketCreate ticketCreate = TicketCreate.builder()
       .account(sourceWallet.classicAddress())
       .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
@@ -441,7 +426,7 @@ public class SignatureUtilsTest {
     Assertions.assertThrows(IllegalArgumentException.class, () -> addSignatureToTransactionHelper(transactionMock));
   }
 
-  private void addSignatureToTransactionHelper(final Transaction transaction) {
+  private void addSignatureToTransactionHelper(final Transaction transaction) throws JsonProcessingException {
     Objects.requireNonNull(transaction);
     when(signatureMock.base16Value()).thenReturn("ED");
     SignedTransaction result = signatureUtils.addSignatureToTransaction(transaction, signatureMock);
@@ -449,6 +434,19 @@ public class SignatureUtilsTest {
     assertThat(result.signature().base16Value()).isEqualTo("ED");
     assertThat(result.signedTransaction().transactionSignature()).isPresent();
     assertThat(result.signedTransaction().transactionSignature().get()).isEqualTo("ED");
+    assertThat(result.signedTransactionBytes().hexValue())
+      .isEqualTo(binaryCodec.encode(objectMapper.writeValueAsString(result.signedTransaction())));
+  }
+
+  private Payment payment() {
+    return Payment.builder()
+      .account(sourceWallet.classicAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .destination(sourceWallet.classicAddress())
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey(sourceWallet.publicKey())
+      .build();
   }
 
 
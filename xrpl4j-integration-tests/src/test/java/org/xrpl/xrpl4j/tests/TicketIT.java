@@ -22,15 +22,22 @@ package org.xrpl.xrpl4j.tests;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.primitives.UnsignedInteger;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.client.JsonRpcClientErrorException;
+import org.xrpl.xrpl4j.client.JsonRpcRequest;
+import org.xrpl.xrpl4j.codec.binary.keylets.Keylets;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
 import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountObjectsRequestParams;
+import org.xrpl.xrpl4j.model.client.common.LedgerSpecifier;
 import org.xrpl.xrpl4j.model.client.fees.FeeResult;
 import org.xrpl.xrpl4j.model.client.fees.FeeUtils;
 import org.xrpl.xrpl4j.model.client.transactions.SubmitResult;
 import org.xrpl.xrpl4j.model.ledger.TicketObject;
 import org.xrpl.xrpl4j.model.transactions.AccountSet;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.TicketCreate;
 import org.xrpl.xrpl4j.wallet.Wallet;
 
@@ -72,6 +79,19 @@ public class TicketIT extends AbstractIT {
     List<TicketObject> tickets = getValidatedAccountObjects(sourceWallet.classicAddress(), TicketObject.class);
     assertThat(tickets).asList().hasSize(1);
 
+    // account_objects reports the ID rippled gave the Ticket, which the offline keylet must reproduce.
+    JsonNode accountObjects = xrplClient.getJsonRpcClient().postRpcRequest(JsonRpcRequest.builder()
+      .method(XrplMethods.ACCOUNT_OBJECTS)
+      .addParams(AccountObjectsRequestParams.builder()
+        .account(sourceWallet.classicAddress())
+        .ledgerSpecifier(LedgerSpecifier.VALIDATED)
+        .build())
+      .build()
+    ).get("result").get("account_objects");
+    assertThat(accountObjects).hasSize(1);
+    assertThat(Keylets.ticket(sourceWallet.classicAddress(), tickets.get(0).ticketSequence()))
+      .isEqualTo(Hash256.of(accountObjects.get(0).get("index").asText()));
+
     AccountSet accountSet = AccountSet.builder()
       .account(sourceWallet.classicAddress())
       .fee(FeeUtils.computeNetworkFees(feeResult).recommendedFee())
@@ -0,0 +1,53 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+/**
+ * A predicate on a raw 20 byte AccountID, which allows candidate accounts to be accepted or rejected before their
+ * classic address is Base58Check encoded.
+ */
+@FunctionalInterface
+public interface AccountIdPredicate {
+
+  /**
+   * Get an {@link AccountIdPredicate} that matches AccountIDs whose classic address starts with {@code prefix}.
+   *
+   * <p>The prefix is converted into ranges of AccountIDs up front, so most AccountIDs are accepted or rejected with a
+   * few byte comparisons, and only those at the edges of a range are Base58Check encoded.</p>
+   *
+   * @param prefix The classic address prefix, which must start with {@code r} and contain only Base58 characters.
+   *
+   * @return An {@link AccountIdPredicate}.
+   */
+  static AccountIdPredicate classicAddressPrefix(String prefix) {
+    return new ClassicAddressPrefixPredicate(prefix);
+  }
+
+  /**
+   * Tests an AccountID.
+   *
+   * @param accountId A 20 byte AccountID. Implementations must not modify or keep a reference to this array.
+   *
+   * @return {@code true} if the AccountID matches, otherwise {@code false}.
+   */
+  boolean test(byte[] accountId);
+
+}
@@ -0,0 +1,138 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.Base58;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link AccountIdPredicate} that matches AccountIDs whose classic address starts with a given prefix.
+ *
+ * <p>A classic address is the Base58 encoding of a zero version byte, the AccountID and a 4 byte checksum. When the
+ * first byte of the AccountID is not zero, the address is therefore an {@code r} followed by the 32 or 33 digit
+ * Base58 representation of the 24 byte number {@code N = AccountID * 2^32 + checksum}. For each of those two lengths,
+ * a prefix corresponds to a contiguous range of {@code N}, and so to a contiguous range of AccountIDs. AccountIDs
+ * strictly inside a range always match, AccountIDs outside every range never match, and only the AccountIDs at the
+ * ends of a range (whose match depends on the checksum) or that start with a zero byte are actually encoded.</p>
+ */
+final class ClassicAddressPrefixPredicate implements AccountIdPredicate {
+
+  private static final int ACCOUNT_ID_LENGTH = 20;
+  private static final BigInteger BASE = BigInteger.valueOf(58);
+  private static final String ALPHABET = new String(Base58.ALPHABET);
+
+  /**
+   * The smallest and largest {@code N} with a non-zero first byte.
+   */
+  private static final BigInteger MIN_VALUE = BigInteger.ONE.shiftLeft(184);
+  private static final BigInteger MAX_VALUE = BigInteger.ONE.shiftLeft(192).subtract(BigInteger.ONE);
+
+  private final String prefix;
+  private final AddressCodec addressCodec = AddressCodec.getInstance();
+
+  /**
+   * Inclusive AccountID bounds, as pairs of big-endian arrays.
+   */
+  private final List<byte[][]> ranges = new ArrayList<>();
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param prefix The classic address prefix.
+   */
+  ClassicAddressPrefixPredicate(final String prefix) {
+    this.prefix = Objects.requireNonNull(prefix);
+    if (prefix.isEmpty() || prefix.charAt(0) != 'r') {
+      throw new IllegalArgumentException("Classic address prefixes must start with 'r'.");
+    }
+    BigInteger digits = BigInteger.ZERO;
+    for (int i = 1; i < prefix.length(); i++) {
+      int digit = ALPHABET.indexOf(prefix.charAt(i));
+      if (digit < 0) {
+        throw new IllegalArgumentException("Illegal character " + prefix.charAt(i) + " at " + i);
+      }
+      digits = digits.multiply(BASE).add(BigInteger.valueOf(digit));
+    }
+
+    int digitCount = prefix.length() - 1;
+    // A prefix whose second character is 'r' can only match AccountIDs that start with a zero byte.
+    if (digitCount > 0 && prefix.charAt(1) == Base58.ALPHABET[0]) {
+      return;
+    }
+    for (int length = 32; length <= 33; length++) {
+      if (digitCount > length) {
+        continue;
+      }
+      BigInteger scale = BASE.pow(length - digitCount);
+      BigInteger low = digits.multiply(scale).max(BASE.pow(length - 1)).max(MIN_VALUE);
+      BigInteger high = digits.add(BigInteger.ONE).multiply(scale).min(BASE.pow(length)).subtract(BigInteger.ONE)
+        .min(MAX_VALUE);
+      if (low.compareTo(high) <= 0) {
+        ranges.add(new byte[][] {toAccountId(low.shiftRight(32)), toAccountId(high.shiftRight(32))});
+      }
+    }
+  }
+
+  @Override
+  public boolean test(final byte[] accountId) {
+    if (accountId[0] == 0) {
+      return encodedMatches(accountId);
+    }
+    for (byte[][] range : ranges) {
+      int fromLow = compare(accountId, range[0]);
+      int fromHigh = compare(accountId, range[1]);
+      if (fromLow > 0 && fromHigh < 0) {
+        return true;
+      } else if (fromLow == 0 || fromHigh == 0) {
+        return encodedMatches(accountId);
+      }
+    }
+    return false;
+  }
+
+  private boolean encodedMatches(final byte[] accountId) {
+    return addressCodec.encodeAccountId(UnsignedByteArray.of(accountId)).value().startsWith(prefix);
+  }
+
+  private static int compare(final byte[] left, final byte[] right) {
+    for (int i = 0; i < ACCOUNT_ID_LENGTH; i++) {
+      int difference = (left[i] & 0xFF) - (right[i] & 0xFF);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return 0;
+  }
+
+  private static byte[] toAccountId(final BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    byte[] accountId = new byte[ACCOUNT_ID_LENGTH];
+    int length = Math.min(bytes.length, ACCOUNT_ID_LENGTH);
+    System.arraycopy(bytes, bytes.length - length, accountId, ACCOUNT_ID_LENGTH - length, length);
+    return accountId;
+  }
+}
@@ -90,6 +90,23 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
       .build();
   }
 
+  /**
+   * Derive only the 0xED prefixed public key of a 16 byte seed, without hex encoding it or building a {@link KeyPair}.
+   *
+   * @param seed An {@link UnsignedByteArray} of length 16 containing a seed.
+   *
+   * @return An {@link UnsignedByteArray} containing the 33 byte public key.
+   */
+  UnsignedByteArray derivePublicKey(UnsignedByteArray seed) {
+    Ed25519PrivateKeyParameters privateKey = new Ed25519PrivateKeyParameters(
+      HashUtils.sha512Half(seed).toByteArray(), 0
+    );
+    byte[] publicKey = new byte[Ed25519PublicKeyParameters.KEY_SIZE + 1];
+    publicKey[0] = (byte) 0xED;
+    privateKey.generatePublicKey().encode(publicKey, 1);
+    return UnsignedByteArray.of(publicKey);
+  }
+
   @Override
   public String sign(UnsignedByteArray message, String privateKey) {
     Ed25519PrivateKeyParameters privateKeyParameters = new Ed25519PrivateKeyParameters(
@@ -99,7 +116,7 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
 
     signer.reset();
     signer.init(true, privateKeyParameters);
-    signer.update(message.toByteArray(), 0, message.getUnsignedBytes().size());
+    signer.update(message.toByteArray(), 0, message.length());
 
     try {
       byte[] signature = signer.generateSignature();
@@ -118,7 +135,7 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
 
     signer.reset();
     signer.init(false, publicKeyParameters);
-    signer.update(message.toByteArray(), 0, message.getUnsignedBytes().size());
+    signer.update(message.toByteArray(), 0, message.length());
     return signer.verifySignature(BaseEncoding.base16().decode(signature));
   }
 }
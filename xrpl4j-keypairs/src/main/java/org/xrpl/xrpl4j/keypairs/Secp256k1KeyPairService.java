@@ -84,6 +84,18 @@ public class Secp256k1KeyPairService extends AbstractKeyPairService {
       .build();
   }
 
+  /**
+   * Derive only the compressed public key for account 0 of a 16 byte seed, without hex encoding it or building a
+   * {@link KeyPair}.
+   *
+   * @param seed An {@link UnsignedByteArray} of length 16 containing a seed.
+   *
+   * @return An {@link UnsignedByteArray} containing the 33 byte public key.
+   */
+  UnsignedByteArray derivePublicKey(UnsignedByteArray seed) {
+    return derivePublicKey(derivePrivateKey(seed, 0));
+  }
+
   private UnsignedByteArray derivePublicKey(BigInteger privateKey) {
     return UnsignedByteArray.of(ecDomainParameters.getG().multiply(privateKey).getEncoded(true));
   }
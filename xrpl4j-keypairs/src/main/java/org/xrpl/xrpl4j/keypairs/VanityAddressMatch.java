@@ -0,0 +1,58 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+/**
+ * An account found by a {@link VanityAddressSearch}.
+ */
+@Value.Immutable
+public interface VanityAddressMatch {
+
+  static ImmutableVanityAddressMatch.Builder builder() {
+    return ImmutableVanityAddressMatch.builder();
+  }
+
+  /**
+   * The Base58Check encoded seed of the account, which can be passed to
+   * {@link KeyPairService#deriveKeyPair(String)} or a {@link org.xrpl.xrpl4j.wallet.WalletFactory}.
+   *
+   * @return A {@link String} containing the seed.
+   */
+  String seed();
+
+  /**
+   * The public key derived from {@link #seed()}.
+   *
+   * @return A {@link String} containing the hexadecimal encoded public key.
+   */
+  String publicKey();
+
+  /**
+   * The classic address derived from {@link #publicKey()}.
+   *
+   * @return An {@link Address}.
+   */
+  Address classicAddress();
+
+}
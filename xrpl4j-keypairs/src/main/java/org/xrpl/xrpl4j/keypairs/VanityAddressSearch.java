@@ -0,0 +1,231 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.addresses.VersionType;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Searches for accounts whose AccountID matches an {@link AccountIdPredicate}, for example to find classic addresses
+ * that start with a chosen prefix.
+ *
+ * <p>Each search thread repeatedly generates random seed entropy, derives the public key and AccountID from it, and
+ * tests the raw AccountID bytes. Hex and Base58Check encoding of keys, seeds and addresses only happen for matches,
+ * and each thread reuses its own digests and buffers.</p>
+ *
+ * <p>A search is started with {@link #start(int)} and runs until the requested number of matches is found or it is
+ * cancelled with {@link #cancel()} (or by cancelling the returned future). Its progress, including the rate at which
+ * each thread derives keys, is available from {@link #progress()}.</p>
+ */
+public class VanityAddressSearch {
+
+  private static final AtomicInteger SEARCH_COUNT = new AtomicInteger();
+
+  private final AccountIdPredicate predicate;
+  private final int threadCount;
+  private final Supplier<SecureRandom> randomSupplier;
+  private final Function<UnsignedByteArray, UnsignedByteArray> publicKeyDeriver;
+  private final KeyPairService keyPairService;
+
+  private final List<AtomicLong> attempts;
+  private final List<VanityAddressMatch> matches = new ArrayList<>();
+  private final CompletableFuture<List<VanityAddressMatch>> result = new CompletableFuture<>();
+  private volatile long startNanos;
+  private volatile long endNanos;
+
+  /**
+   * Construct a search that uses one thread per available processor.
+   *
+   * @param algorithm The {@link VersionType} of the keys to derive.
+   * @param predicate The {@link AccountIdPredicate} that matching AccountIDs must satisfy.
+   */
+  public VanityAddressSearch(final VersionType algorithm, final AccountIdPredicate predicate) {
+    this(algorithm, predicate, Runtime.getRuntime().availableProcessors(), SecureRandom::new);
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param algorithm      The {@link VersionType} of the keys to derive.
+   * @param predicate      The {@link AccountIdPredicate} that matching AccountIDs must satisfy.
+   * @param threadCount    The number of search threads.
+   * @param randomSupplier Supplies the {@link SecureRandom} each search thread generates seed entropy with.
+   */
+  public VanityAddressSearch(
+    final VersionType algorithm,
+    final AccountIdPredicate predicate,
+    final int threadCount,
+    final Supplier<SecureRandom> randomSupplier
+  ) {
+    Objects.requireNonNull(algorithm);
+    this.predicate = Objects.requireNonNull(predicate);
+    this.randomSupplier = Objects.requireNonNull(randomSupplier);
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("threadCount must be at least 1.");
+    }
+    this.threadCount = threadCount;
+
+    if (algorithm == VersionType.ED25519) {
+      Ed25519KeyPairService service = Ed25519KeyPairService.getInstance();
+      this.keyPairService = service;
+      this.publicKeyDeriver = service::derivePublicKey;
+    } else {
+      Secp256k1KeyPairService service = Secp256k1KeyPairService.getInstance();
+      this.keyPairService = service;
+      this.publicKeyDeriver = service::derivePublicKey;
+    }
+
+    List<AtomicLong> counters = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      counters.add(new AtomicLong());
+    }
+    this.attempts = Collections.unmodifiableList(counters);
+  }
+
+  /**
+   * Start searching on new daemon threads. A search can only be started once.
+   *
+   * @param matchCount The number of matching accounts to find.
+   *
+   * @return A {@link CompletableFuture} that completes with {@code matchCount} matches, in the order they were found.
+   */
+  public synchronized CompletableFuture<List<VanityAddressMatch>> start(final int matchCount) {
+    if (matchCount < 1) {
+      throw new IllegalArgumentException("matchCount must be at least 1.");
+    }
+    if (startNanos != 0) {
+      throw new IllegalStateException("This search has already been started.");
+    }
+    startNanos = System.nanoTime();
+
+    int searchNumber = SEARCH_COUNT.incrementAndGet();
+    AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+      Thread thread = new Thread(
+        runnable, "vanity-address-search-" + searchNumber + "-" + threadNumber.incrementAndGet()
+      );
+      thread.setDaemon(true);
+      return thread;
+    });
+    result.whenComplete((found, error) -> {
+      endNanos = System.nanoTime();
+      executor.shutdownNow();
+    });
+    for (AtomicLong counter : attempts) {
+      executor.execute(() -> search(counter, matchCount));
+    }
+    return result;
+  }
+
+  /**
+   * Stop the search. The future returned by {@link #start(int)} completes with a {@link CancellationException} if it
+   * has not already completed.
+   */
+  public void cancel() {
+    result.cancel(false);
+  }
+
+  /**
+   * Get a snapshot of the progress of this search.
+   *
+   * @return A {@link VanityAddressSearchProgress}.
+   */
+  public VanityAddressSearchProgress progress() {
+    long start = startNanos;
+    long end = endNanos;
+    long elapsed = start == 0 ? 0 : (end == 0 ? System.nanoTime() : end) - start;
+    return VanityAddressSearchProgress.builder()
+      .elapsed(Duration.ofNanos(elapsed))
+      .attemptsPerThread(attempts.stream().map(AtomicLong::get).collect(Collectors.toList()))
+      .build();
+  }
+
+  private void search(final AtomicLong counter, final int matchCount) {
+    try {
+      SecureRandom random = randomSupplier.get();
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      RIPEMD160Digest ripemd160 = new RIPEMD160Digest();
+      byte[] entropy = new byte[16];
+      byte[] publicKeyHash = new byte[32];
+      byte[] accountId = new byte[20];
+
+      long count = 0;
+      while (!result.isDone()) {
+        random.nextBytes(entropy);
+        UnsignedByteArray publicKey = publicKeyDeriver.apply(UnsignedByteArray.of(entropy));
+
+        sha256.update(publicKey.toByteBuffer());
+        sha256.digest(publicKeyHash, 0, publicKeyHash.length);
+        ripemd160.update(publicKeyHash, 0, publicKeyHash.length);
+        ripemd160.doFinal(accountId, 0);
+
+        counter.lazySet(++count);
+        if (predicate.test(accountId)) {
+          addMatch(entropy, publicKey, accountId, matchCount);
+        }
+      }
+    } catch (NoSuchAlgorithmException | DigestException | RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  private void addMatch(
+    final byte[] entropy,
+    final UnsignedByteArray publicKey,
+    final byte[] accountId,
+    final int matchCount
+  ) {
+    VanityAddressMatch match = VanityAddressMatch.builder()
+      .seed(keyPairService.generateSeed(UnsignedByteArray.of(entropy)))
+      .publicKey(publicKey.hexValue())
+      .classicAddress(AddressCodec.getInstance().encodeAccountId(UnsignedByteArray.of(accountId)))
+      .build();
+    synchronized (matches) {
+      if (matches.size() < matchCount) {
+        matches.add(match);
+        if (matches.size() == matchCount) {
+          result.complete(Collections.unmodifiableList(new ArrayList<>(matches)));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A snapshot of the progress of a {@link VanityAddressSearch}.
+ */
+@Value.Immutable
+public interface VanityAddressSearchProgress {
+
+  static ImmutableVanityAddressSearchProgress.Builder builder() {
+    return ImmutableVanityAddressSearchProgress.builder();
+  }
+
+  /**
+   * The time since the search started.
+   *
+   * @return A {@link Duration}.
+   */
+  Duration elapsed();
+
+  /**
+   * The number of keys each search thread has derived and tested.
+   *
+   * @return A {@link List} with one entry per thread.
+   */
+  List<Long> attemptsPerThread();
+
+  /**
+   * The number of keys all search threads have derived and tested.
+   *
+   * @return The sum of {@link #attemptsPerThread()}.
+   */
+  default long totalAttempts() {
+    return attemptsPerThread().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * The average rate at which each search thread has derived and tested keys.
+   *
+   * @return A {@link List} with the keys per second of each thread.
+   */
+  default List<Double> keysPerSecondPerThread() {
+    double seconds = Math.max(elapsed().toNanos(), 1) / 1e9;
+    return attemptsPerThread().stream().map(attempts -> attempts / seconds).collect(Collectors.toList());
+  }
+
+  /**
+   * The average rate at which all search threads together have derived and tested keys.
+   *
+   * @return The number of keys per second.
+   */
+  default double keysPerSecond() {
+    return totalAttempts() / (Math.max(elapsed().toNanos(), 1) / 1e9);
+  }
+
+}
@@ -0,0 +1,94 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link ClassicAddressPrefixPredicate}.
+ */
+public class ClassicAddressPrefixPredicateTest {
+
+  private final AddressCodec addressCodec = AddressCodec.getInstance();
+
+  @Test
+  public void matchesEncodedPrefix() {
+    String[] prefixes = {"r", "rA", "rp", "rr", "rrr", "rX", "rXR", "rz", "rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh", "r9"};
+    AccountIdPredicate[] predicates = new AccountIdPredicate[prefixes.length];
+    for (int i = 0; i < prefixes.length; i++) {
+      predicates[i] = AccountIdPredicate.classicAddressPrefix(prefixes[i]);
+    }
+
+    Random random = new Random(0);
+    byte[] accountId = new byte[20];
+    int[] matchCounts = new int[prefixes.length];
+    for (int i = 0; i < 100_000; i++) {
+      random.nextBytes(accountId);
+      // Also cover AccountIDs with leading zero bytes.
+      for (int j = 0; j < i % 4; j++) {
+        accountId[j] = 0;
+      }
+      String address = addressCodec.encodeAccountId(UnsignedByteArray.of(accountId)).value();
+      for (int j = 0; j < prefixes.length; j++) {
+        boolean matches = predicates[j].test(accountId);
+        assertThat(matches).as("%s starts with %s", address, prefixes[j]).isEqualTo(address.startsWith(prefixes[j]));
+        if (matches) {
+          matchCounts[j]++;
+        }
+      }
+    }
+    assertThat(matchCounts[0]).isEqualTo(100_000);
+    assertThat(matchCounts[1]).isPositive();
+    assertThat(matchCounts[3]).isPositive();
+  }
+
+  @Test
+  public void matchesRangeBoundaries() {
+    // The smallest and largest AccountIDs, at the ends of the ranges of AccountIDs with a 33 and 34 character address.
+    byte[] smallest = new byte[20];
+    byte[] largest = new byte[20];
+    Arrays.fill(largest, (byte) 0xFF);
+
+    assertThat(AccountIdPredicate.classicAddressPrefix("rrrrr").test(smallest)).isTrue();
+    assertThat(AccountIdPredicate.classicAddressPrefix("rQLbz").test(largest)).isTrue();
+    assertThat(AccountIdPredicate.classicAddressPrefix("rQLbz").test(smallest)).isFalse();
+    assertThat(AccountIdPredicate.classicAddressPrefix("rz").test(largest)).isFalse();
+  }
+
+  @Test
+  public void invalidPrefixes() {
+    assertThatThrownBy(() -> AccountIdPredicate.classicAddressPrefix(""))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AccountIdPredicate.classicAddressPrefix("XRP"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AccountIdPredicate.classicAddressPrefix("r0"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Illegal character 0 at 1");
+  }
+}
@@ -0,0 +1,124 @@
+package org.xrpl.xrpl4j.keypairs;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: keypairs
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.wallet.DefaultWalletFactory;
+import org.xrpl.xrpl4j.wallet.Wallet;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link VanityAddressSearch}.
+ */
+public class VanityAddressSearchTest {
+
+  @Test
+  public void findEd25519Addresses() throws Exception {
+    VanityAddressSearch search = new VanityAddressSearch(
+      VersionType.ED25519, AccountIdPredicate.classicAddressPrefix("rA"), 2, SecureRandom::new
+    );
+    List<VanityAddressMatch> matches = search.start(3).get(1, TimeUnit.MINUTES);
+
+    assertThat(matches).hasSize(3);
+    for (VanityAddressMatch match : matches) {
+      assertMatchesSeed(match);
+      assertThat(match.seed()).startsWith("sEd");
+      assertThat(match.classicAddress().value()).startsWith("rA");
+    }
+    assertThat(search.progress().totalAttempts()).isGreaterThanOrEqualTo(3);
+    assertThat(search.progress().attemptsPerThread()).hasSize(2);
+  }
+
+  @Test
+  public void findSecp256k1Address() throws Exception {
+    VanityAddressSearch search = new VanityAddressSearch(
+      VersionType.SECP256K1, accountId -> (accountId[19] & 0x03) == 0, 2, SecureRandom::new
+    );
+    List<VanityAddressMatch> matches = search.start(1).get(1, TimeUnit.MINUTES);
+
+    assertThat(matches).hasSize(1);
+    assertMatchesSeed(matches.get(0));
+    assertThat(matches.get(0).seed()).doesNotStartWith("sEd");
+  }
+
+  @Test
+  public void cancel() throws Exception {
+    VanityAddressSearch search = new VanityAddressSearch(VersionType.ED25519, accountId -> false);
+    CompletableFuture<List<VanityAddressMatch>> result = search.start(1);
+
+    while (search.progress().totalAttempts() == 0) {
+      Thread.sleep(10);
+    }
+    search.cancel();
+
+    assertThat(result).isCancelled();
+    assertThatThrownBy(result::join).isInstanceOf(CancellationException.class);
+    VanityAddressSearchProgress progress = search.progress();
+    assertThat(progress.keysPerSecond()).isPositive();
+    assertThat(progress.keysPerSecondPerThread()).hasSize(Runtime.getRuntime().availableProcessors());
+
+    // Threads stop shortly after cancellation.
+    long attempts = progress.totalAttempts();
+    Thread.sleep(200);
+    long later = search.progress().totalAttempts();
+    Thread.sleep(200);
+    assertThat(search.progress().totalAttempts())
+      .isEqualTo(later)
+      .isLessThanOrEqualTo(attempts + progress.attemptsPerThread().size());
+  }
+
+  @Test
+  public void predicateFailureCompletesExceptionally() {
+    AccountIdPredicate failingPredicate = accountId -> {
+      throw new IllegalStateException("boom");
+    };
+    CompletableFuture<List<VanityAddressMatch>> result = new VanityAddressSearch(
+      VersionType.ED25519, failingPredicate, 1, SecureRandom::new
+    ).start(1);
+
+    assertThatThrownBy(result::join).hasRootCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void startTwice() {
+    VanityAddressSearch search = new VanityAddressSearch(VersionType.ED25519, accountId -> true);
+    search.start(1).join();
+
+    assertThatThrownBy(() -> search.start(1)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new VanityAddressSearch(VersionType.ED25519, accountId -> true).start(0))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void assertMatchesSeed(VanityAddressMatch match) {
+    Wallet wallet = DefaultWalletFactory.getInstance().fromSeed(match.seed(), false);
+    assertThat(match.classicAddress()).isEqualTo(wallet.classicAddress());
+    assertThat(match.publicKey()).isEqualTo(wallet.publicKey());
+  }
+}
@@ -20,8 +20,6 @@ package org.xrpl.xrpl4j.model.client.transactions;
  * =========================LICENSE_END==================================
  */
 
-import static java.util.Arrays.copyOfRange;
-
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.hash.Hashing;
@@ -30,6 +28,8 @@ import org.immutables.value.Value;
 import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Locale;
+
 /**
  * Represents a transaction that has been signed.
  *
@@ -82,13 +82,12 @@ public interface SignedTransaction<T extends Transaction> {
   @SuppressWarnings("UnstableApiUsage")
   @Value.Derived
   default Hash256 hash() {
-    byte[] hashBytes = copyOfRange(
-      Hashing.sha512().hashBytes(
-        BaseEncoding.base16().decode(SIGNED_TRANSACTION_HASH_PREFIX.concat(signedTransactionBlob().toUpperCase()))
-      ).asBytes(),
-      0,
-      32
-    );
-    return Hash256.of(BaseEncoding.base16().encode(hashBytes));
+    byte[] hashBytes = Hashing.sha512().newHasher()
+      .putBytes(BaseEncoding.base16().decode(SIGNED_TRANSACTION_HASH_PREFIX))
+      .putBytes(BaseEncoding.base16().decode(signedTransactionBlob().toUpperCase(Locale.ROOT)))
+      .hash()
+      .asBytes();
+    // SHA512 Half is the first 32 bytes of the SHA512 hash.
+    return Hash256.of(BaseEncoding.base16().encode(hashBytes, 0, 32));
   }
 }
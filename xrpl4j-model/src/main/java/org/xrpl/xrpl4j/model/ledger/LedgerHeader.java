@@ -161,4 +161,13 @@ public interface LedgerHeader {
   @JsonProperty("close_time_resolution")
   Optional<UnsignedInteger> closeTimeResolution();
 
+  /**
+   * Flags describing how this ledger was closed. The only defined flag, {@code 0x01}, indicates that validators did
+   * not agree on a close time, in which case {@link #closeTime()} is one second after {@link #parentCloseTime()}.
+   *
+   * @return An {@link Optional} of type {@link UnsignedInteger} containing the close flags.
+   */
+  @JsonProperty("close_flags")
+  Optional<UnsignedInteger> closeFlags();
+
 }
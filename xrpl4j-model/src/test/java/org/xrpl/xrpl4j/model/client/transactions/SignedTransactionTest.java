@@ -53,5 +53,9 @@ public class SignedTransactionTest {
 
     String expectedHash = "AD616E7F93DC9E5749222FCC644A95F19FB1893446A0FF47CA9B550F4D5DAB5D";
     assertThat(signedTransaction.hash().value()).isEqualTo(expectedHash);
+
+    SignedTransaction<Payment> lowerCaseBlob = ImmutableSignedTransaction.copyOf(signedTransaction)
+      .withSignedTransactionBlob(signedTransaction.signedTransactionBlob().toLowerCase());
+    assertThat(lowerCaseBlob.hash().value()).isEqualTo(expectedHash);
   }
 }